@@ -0,0 +1,209 @@
+package specmate.backend.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 내 AI 견적 목록 조회 벤치마크 (기존 findAll + 필터 vs estimate_summaries 의 (user_id, kind, created_at, id) 인덱스 커서 페이지)
+ * - 전용 테이블 bench_estimate_summaries 에 estimate_summaries 와 같은 컬럼으로 데이터를 만들어 측정 (서비스 테이블은 건드리지 않음)
+ *   사용자 견적(USER)과 AI 견적(AI) 요약이 한 테이블에 섞여 있으므로 두 종류를 모두 생성
+ * - 기존 방식: 전체 행을 읽어 애플리케이션에서 사용자/종류로 필터 (findAll 과 같은 데이터 전송량)
+ * - 새 방식: EstimateSummaryRepository.findLatest / findBefore 와 같은 keyset 쿼리로 첫 페이지 + 커서로 이어지는 페이지
+ *
+ * 설정 (시스템 프로퍼티):
+ *  bench.db-url       JDBC URL (기본 jdbc:postgresql://localhost:5432/specmate)
+ *  bench.db-user      DB 사용자 (기본 postgres)
+ *  bench.db-password  DB 비밀번호 (기본 postgres)
+ *  bench.rows         요약 행 수 (기본 1000000, 그중 약 1/4 은 사용자 견적)
+ *  bench.users        사용자 수 (기본 10000, 사용자당 평균 rows/users 건)
+ *  bench.page-size    페이지 크기 (기본 20)
+ *  bench.iterations   새 방식 측정 횟수 (기본 500)
+ *  bench.full-scans   기존 방식 측정 횟수 (기본 5)
+ *  bench.keep         true 면 측정 후 테이블 유지 (다음 실행 시 데이터 생성 생략)
+ *
+ * 실행: ./gradlew aiEstimateBenchmark -Dbench.db-url=jdbc:postgresql://localhost:5432/specmate -Dbench.rows=1000000
+ */
+public class AiEstimateListBenchmark {
+
+    private static final String TABLE = "bench_estimate_summaries";
+    private static final String COLUMNS =
+        "id, estimate_id, chat_room_id, intent, title, total_price, part_count, cpu_name, gpu_name, thumbnail, created_at";
+
+    private static final String FIRST_PAGE_SQL =
+        "SELECT " + COLUMNS + " FROM " + TABLE + " " +
+        "WHERE user_id = ? AND kind = 'AI' ORDER BY created_at DESC, id DESC LIMIT ?";
+
+    private static final String NEXT_PAGE_SQL =
+        "SELECT " + COLUMNS + " FROM " + TABLE + " " +
+        "WHERE user_id = ? AND kind = 'AI' AND (created_at < ? OR (created_at = ? AND id < ?)) " +
+        "ORDER BY created_at DESC, id DESC LIMIT ?";
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("bench.db-url", "jdbc:postgresql://localhost:5432/specmate");
+        String user = System.getProperty("bench.db-user", "postgres");
+        String password = System.getProperty("bench.db-password", "postgres");
+        int rows = Integer.getInteger("bench.rows", 1_000_000);
+        int users = Integer.getInteger("bench.users", 10_000);
+        int pageSize = Integer.getInteger("bench.page-size", 20);
+        int iterations = Integer.getInteger("bench.iterations", 500);
+        int fullScans = Integer.getInteger("bench.full-scans", 5);
+        boolean keep = Boolean.getBoolean("bench.keep");
+
+        try (Connection conn = DriverManager.getConnection(url, user, password)) {
+            seed(conn, rows, users);
+
+            // 기존 방식: 전체 조회 후 필터
+            List<Long> fullScanMs = new ArrayList<>();
+            for (int i = 0; i < fullScans; i++) {
+                String target = "user-" + ThreadLocalRandom.current().nextInt(users);
+                long start = System.nanoTime();
+                int matched = 0;
+                try (Statement st = conn.createStatement()) {
+                    st.setFetchSize(10_000);
+                    conn.setAutoCommit(false); // fetchSize 가 적용되려면 트랜잭션 안이어야 함
+                    try (ResultSet rs = st.executeQuery("SELECT " + COLUMNS + ", user_id, kind FROM " + TABLE)) {
+                        while (rs.next()) {
+                            if (target.equals(rs.getString("user_id")) && "AI".equals(rs.getString("kind"))) {
+                                matched++;
+                            }
+                        }
+                    }
+                    conn.commit();
+                    conn.setAutoCommit(true);
+                }
+                fullScanMs.add((System.nanoTime() - start) / 1_000_000);
+                System.out.printf("findAll + filter #%d: %d ms (%d matched)%n", i + 1, fullScanMs.get(i), matched);
+            }
+
+            // 새 방식: 첫 페이지
+            List<Long> firstPageUs = new ArrayList<>();
+            try (PreparedStatement ps = conn.prepareStatement(FIRST_PAGE_SQL)) {
+                for (int i = 0; i < iterations; i++) {
+                    ps.setString(1, "user-" + ThreadLocalRandom.current().nextInt(users));
+                    ps.setInt(2, pageSize + 1);
+                    long start = System.nanoTime();
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            rs.getLong(1);
+                        }
+                    }
+                    firstPageUs.add((System.nanoTime() - start) / 1_000);
+                }
+            }
+
+            // 새 방식: 커서로 끝까지 넘기며 이후 페이지 측정
+            List<Long> nextPageUs = new ArrayList<>();
+            try (PreparedStatement first = conn.prepareStatement(FIRST_PAGE_SQL);
+                 PreparedStatement next = conn.prepareStatement(NEXT_PAGE_SQL)) {
+                for (int i = 0; i < Math.max(1, iterations / 10); i++) {
+                    String target = "user-" + ThreadLocalRandom.current().nextInt(users);
+                    first.setString(1, target);
+                    first.setInt(2, pageSize);
+                    Object[] cursor = lastRow(first);
+                    while (cursor != null) {
+                        next.setString(1, target);
+                        next.setTimestamp(2, (Timestamp) cursor[0]);
+                        next.setTimestamp(3, (Timestamp) cursor[0]);
+                        next.setLong(4, (Long) cursor[1]);
+                        next.setInt(5, pageSize);
+                        long start = System.nanoTime();
+                        cursor = lastRow(next);
+                        nextPageUs.add((System.nanoTime() - start) / 1_000);
+                    }
+                }
+            }
+
+            System.out.println();
+            System.out.printf("rows=%d users=%d pageSize=%d%n", rows, users, pageSize);
+            System.out.printf("findAll + filter   : p50 %d ms, max %d ms (n=%d)%n",
+                percentile(fullScanMs, 0.50), percentile(fullScanMs, 1.0), fullScanMs.size());
+            System.out.printf("keyset first page  : p50 %.2f ms, p95 %.2f ms, p99 %.2f ms (n=%d)%n",
+                percentile(firstPageUs, 0.50) / 1000.0, percentile(firstPageUs, 0.95) / 1000.0,
+                percentile(firstPageUs, 0.99) / 1000.0, firstPageUs.size());
+            if (!nextPageUs.isEmpty()) {
+                System.out.printf("keyset next pages  : p50 %.2f ms, p95 %.2f ms, p99 %.2f ms (n=%d)%n",
+                    percentile(nextPageUs, 0.50) / 1000.0, percentile(nextPageUs, 0.95) / 1000.0,
+                    percentile(nextPageUs, 0.99) / 1000.0, nextPageUs.size());
+            }
+
+            System.out.println();
+            System.out.println("EXPLAIN (first page):");
+            try (PreparedStatement ps = conn.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + FIRST_PAGE_SQL)) {
+                ps.setString(1, "user-1");
+                ps.setInt(2, pageSize + 1);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        System.out.println("  " + rs.getString(1));
+                    }
+                }
+            }
+
+            if (!keep) {
+                try (Statement st = conn.createStatement()) {
+                    st.execute("DROP TABLE " + TABLE);
+                }
+            }
+        }
+    }
+
+    /** 벤치마크 테이블 생성 및 데이터 적재 (이미 같은 행 수면 생략) */
+    private static void seed(Connection conn, int rows, int users) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            st.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (" +
+                "id bigserial PRIMARY KEY, kind varchar(10) NOT NULL, estimate_id varchar(36) NOT NULL, user_id varchar(255) NOT NULL, " +
+                "chat_room_id bigint, intent varchar(255), title text, description varchar(255), total_price bigint, " +
+                "price_changed_since_saved bigint, part_count integer, cpu_name varchar(255), gpu_name varchar(255), " +
+                "thumbnail text, created_at timestamp(6) NOT NULL, updated_at timestamp(6))");
+            try (ResultSet rs = st.executeQuery("SELECT count(*) FROM " + TABLE)) {
+                rs.next();
+                if (rs.getLong(1) == rows) {
+                    System.out.println("Reusing existing " + TABLE + " (" + rows + " rows)");
+                    return;
+                }
+            }
+
+            System.out.println("Seeding " + rows + " rows ...");
+            long start = System.nanoTime();
+            st.execute("TRUNCATE " + TABLE);
+            st.execute("DROP INDEX IF EXISTS idx_" + TABLE + "_user_id_kind_created_at");
+            st.execute("INSERT INTO " + TABLE + " (kind, estimate_id, user_id, chat_room_id, intent, title, total_price, " +
+                "part_count, cpu_name, gpu_name, thumbnail, created_at, updated_at) " +
+                "SELECT CASE WHEN g % 4 = 0 THEN 'USER' ELSE 'AI' END, g::text, " +
+                "'user-' || (random() * " + (users - 1) + ")::int, g / 3, " +
+                "CASE WHEN g % 8 = 1 THEN 'modify' ELSE 'build' END, " +
+                "'게임용 견적 ' || g, (500000 + random() * 3000000)::bigint, 8, " +
+                "'CPU ' || (g % 50), 'GPU ' || (g % 80), 'https://img.example.com/' || (g % 1000) || '.png', " +
+                "now() - (random() * interval '365 days'), now() " +
+                "FROM generate_series(1, " + rows + ") g");
+            st.execute("CREATE INDEX idx_" + TABLE + "_user_id_kind_created_at ON " + TABLE + " (user_id, kind, created_at, id)");
+            st.execute("ANALYZE " + TABLE);
+            System.out.printf("Seeded in %d ms%n", (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static Object[] lastRow(PreparedStatement ps) throws SQLException {
+        Object[] last = null;
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                last = new Object[] {rs.getTimestamp("created_at"), rs.getLong("id")};
+            }
+        }
+        return last;
+    }
+
+    private static long percentile(List<Long> values, double p) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int idx = (int) Math.ceil(p * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(idx, sorted.size() - 1)));
+    }
+}
@@ -0,0 +1,277 @@
+package specmate.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 메시지 API 종단 간 부하 테스트
+ * - 목표 RPS 로 POST /api/chat/room/{roomId}/message 를 open-loop 방식으로 전송 (응답을 기다리지 않고 일정 간격 발사)
+ * - 응답 시간 p50/p95/p99, 상태 코드/의도 분포 집계
+ * - 관리자 토큰이 있으면 /actuator/metrics 로 DB 커넥션 풀(Hikari)과 JVM 스레드 사용량을 1초마다 수집
+ *
+ * 설정 (시스템 프로퍼티):
+ *  loadtest.base-url          대상 서버 (기본 http://localhost:8080)
+ *  loadtest.token             USER Access Token (없으면 loadtest.email / loadtest.password 로 로그인)
+ *  loadtest.admin-token       ADMIN Access Token (선택, 서버 메트릭 수집용)
+ *  loadtest.rps               목표 초당 요청 수 (기본 5)
+ *  loadtest.duration-seconds  전송 시간 (기본 60)
+ *  loadtest.rooms             사용할 채팅방 수 (기본 50, 같은 방 메시지는 서버에서 순차 처리됨)
+ *  loadtest.timeout-seconds   요청 타임아웃 (기본 90)
+ *
+ * 실행: ./gradlew fakeAiServer 로 AI 대역을 띄우고 AI_SERVER_URL=http://localhost:8000 으로 서버 실행 후
+ *       ./gradlew chatLoadTest -Dloadtest.token=... -Dloadtest.admin-token=... -Dloadtest.rps=20
+ */
+public class ChatLoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String[] MESSAGES = {
+        "100만원 게이밍 PC 맞춰줘",
+        "그래픽카드가 뭐야?",
+        "영상 편집용 200만원 견적 부탁해",
+        "파워는 몇 와트가 적당해?",
+        "CPU를 인텔로 바꿔줘",
+        "고마워!"
+    };
+
+    private static final String[] SERVER_METRICS = {
+        "hikaricp.connections.active",
+        "hikaricp.connections.pending",
+        "hikaricp.connections.max",
+        "jvm.threads.live",
+        "jvm.threads.peak",
+        "ai.client.bulkhead.available"
+    };
+
+    private final String baseUrl;
+    private final String token;
+    private final String adminToken;
+    private final Duration timeout;
+    private final HttpClient client;
+
+    private final ConcurrentLinkedQueue<Long> latenciesMs = new ConcurrentLinkedQueue<>();
+    private final Map<String, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> intentCounts = new ConcurrentHashMap<>();
+    private final Map<String, List<Double>> serverSamples = new ConcurrentHashMap<>();
+
+    public ChatLoadTest(String baseUrl, String token, String adminToken, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.token = token;
+        this.adminToken = adminToken;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(16))
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8080");
+        int rps = Integer.getInteger("loadtest.rps", 5);
+        int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+        int roomCount = Integer.getInteger("loadtest.rooms", 50);
+        Duration timeout = Duration.ofSeconds(Integer.getInteger("loadtest.timeout-seconds", 90));
+
+        String token = System.getProperty("loadtest.token");
+        if (token == null || token.isBlank()) {
+            token = login(baseUrl, System.getProperty("loadtest.email"), System.getProperty("loadtest.password"));
+        }
+
+        ChatLoadTest test = new ChatLoadTest(baseUrl, token, System.getProperty("loadtest.admin-token"), timeout);
+        test.run(rps, durationSeconds, roomCount);
+    }
+
+    public void run(int rps, int durationSeconds, int roomCount) throws Exception {
+        List<Long> rooms = createRooms(roomCount);
+        System.out.printf("Created %d chat rooms. Sending %d rps for %ds to %s%n", rooms.size(), rps, durationSeconds, baseUrl);
+
+        int total = rps * durationSeconds;
+        CountDownLatch done = new CountDownLatch(total);
+        AtomicInteger sent = new AtomicInteger();
+        AtomicLong inFlight = new AtomicLong();
+        AtomicLong maxInFlight = new AtomicLong();
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        if (adminToken != null && !adminToken.isBlank()) {
+            scheduler.scheduleAtFixedRate(this::sampleServerMetrics, 0, 1, TimeUnit.SECONDS);
+        }
+
+        long startNanos = System.nanoTime();
+        scheduler.scheduleAtFixedRate(() -> {
+            int n = sent.getAndIncrement();
+            if (n >= total) {
+                return;
+            }
+            Long roomId = rooms.get(n % rooms.size());
+            String body = toJson(Map.of("content", MESSAGES[n % MESSAGES.length]));
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/chat/room/" + roomId + "/message"))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            long requestStart = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    latenciesMs.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestStart));
+                    if (error != null) {
+                        count(statusCounts, error.getClass().getSimpleName());
+                    } else {
+                        count(statusCounts, String.valueOf(response.statusCode()));
+                        count(intentCounts, intentOf(response.body()));
+                    }
+                    inFlight.decrementAndGet();
+                    done.countDown();
+                });
+        }, 0, TimeUnit.SECONDS.toNanos(1) / rps, TimeUnit.NANOSECONDS);
+
+        done.await(durationSeconds + timeout.getSeconds() + 10, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+        scheduler.shutdownNow();
+
+        report(rps, total, elapsedSeconds, maxInFlight.get());
+        System.exit(0);
+    }
+
+    private List<Long> createRooms(int count) throws Exception {
+        List<Long> rooms = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/chat/room"))
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("채팅방 생성 실패: " + response.statusCode() + " " + response.body());
+            }
+            rooms.add(MAPPER.readTree(response.body()).path("id").asLong());
+        }
+        return rooms;
+    }
+
+    private void sampleServerMetrics() {
+        for (String metric : SERVER_METRICS) {
+            try {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + metric))
+                    .timeout(Duration.ofSeconds(2))
+                    .header("Authorization", "Bearer " + adminToken)
+                    .GET()
+                    .build();
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    double value = MAPPER.readTree(response.body()).path("measurements").path(0).path("value").asDouble();
+                    serverSamples.computeIfAbsent(metric, k -> new ArrayList<>());
+                    synchronized (serverSamples.get(metric)) {
+                        serverSamples.get(metric).add(value);
+                    }
+                }
+            } catch (Exception ignored) {
+                // 메트릭 수집 실패는 부하 결과에 영향 없음
+            }
+        }
+    }
+
+    private void report(int rps, int total, double elapsedSeconds, long maxInFlight) {
+        long[] sorted = latenciesMs.stream().mapToLong(Long::longValue).sorted().toArray();
+
+        System.out.println();
+        System.out.println("=== Chat load test result ===");
+        System.out.printf("target rps      : %d%n", rps);
+        System.out.printf("completed       : %d / %d in %.1fs (%.2f rps)%n", sorted.length, total, elapsedSeconds, sorted.length / elapsedSeconds);
+        System.out.printf("max in-flight   : %d%n", maxInFlight);
+        System.out.printf("latency ms      : p50=%d p95=%d p99=%d max=%d%n",
+            percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+            sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+        System.out.printf("status          : %s%n", summarize(statusCounts));
+        System.out.printf("intent          : %s%n", summarize(intentCounts));
+
+        if (!serverSamples.isEmpty()) {
+            System.out.println("--- server (1s samples: avg / max) ---");
+            for (String metric : SERVER_METRICS) {
+                List<Double> samples = serverSamples.get(metric);
+                if (samples == null || samples.isEmpty()) {
+                    continue;
+                }
+                double[] values;
+                synchronized (samples) {
+                    values = samples.stream().mapToDouble(Double::doubleValue).toArray();
+                }
+                System.out.printf("%-30s: %.1f / %.1f%n", metric,
+                    Arrays.stream(values).average().orElse(0), Arrays.stream(values).max().orElse(0));
+            }
+        }
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.min(Math.max(rank, 0), sorted.length - 1)];
+    }
+
+    private static String intentOf(String body) {
+        try {
+            JsonNode node = MAPPER.readTree(body);
+            String intent = node.path("intent").asText("");
+            return intent.isEmpty() ? "fallback" : intent; // AI 호출 실패 시 서버는 intent 없이 안내 문구만 반환
+        } catch (Exception e) {
+            return "unparseable";
+        }
+    }
+
+    private static void count(Map<String, LongAdder> counts, String key) {
+        counts.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    private static String summarize(Map<String, LongAdder> counts) {
+        StringBuilder sb = new StringBuilder();
+        counts.forEach((key, value) -> sb.append(key).append('=').append(value.sum()).append(' '));
+        return sb.toString().trim();
+    }
+
+    private static String login(String baseUrl, String email, String password) throws Exception {
+        if (email == null || password == null) {
+            throw new IllegalArgumentException("loadtest.token 또는 loadtest.email / loadtest.password 를 지정해주세요.");
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(toJson(Map.of("email", email, "password", password))))
+            .build();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("로그인 실패: " + response.statusCode() + " " + response.body());
+        }
+        return MAPPER.readTree(response.body()).path("accessToken").asText();
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return MAPPER.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package specmate.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import specmate.backend.service.estimate.compat.CompatibilityEngine;
+import specmate.backend.service.estimate.compat.CompatibilityReport;
+import specmate.backend.service.estimate.compat.PartSpec;
+import specmate.backend.service.estimate.compat.PartType;
+import specmate.backend.service.estimate.compat.SpecExtractor;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호환성 엔진 JMH 벤치마크
+ * - evaluateBuild: 스펙 캐시가 찬 상태에서 8개 부품 견적 한 건 평가 (견적 조회 시 실제 경로)
+ * - evaluateWithCacheLookup: 제품별 캐시 조회 + 평가
+ * - extractSpecs: 캐시 미스 시 스펙 문자열 파싱 비용 (제품 하나)
+ *
+ * 실행: ./gradlew compatibilityBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompatibilityEngineBenchmark {
+
+    private record Part(long id, String category, String name, JsonNode specs) {
+    }
+
+    private final OffsetDateTime updatedAt = OffsetDateTime.now();
+    private CompatibilityEngine engine;
+    private List<Part> build;
+    private List<PartSpec> specs;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        build = List.of(
+            new Part(1, "cpu", "AMD 라이젠7-6세대 9700X (그래니트 릿지)", mapper.readTree("[\"AMD(소켓AM5)\",\"8코어\",\"TDP: 65W\",\"DDR5\"]")),
+            new Part(2, "mainboard", "ASUS PRIME B650M-A", mapper.readTree("[\"AMD(소켓AM5)\",\"M-ATX (24.4x24.4cm)\",\"DDR5\"]")),
+            new Part(3, "ram", "삼성전자 DDR5-5600 (16GB)", mapper.readTree("[\"DDR5\",\"PC5-44800\"]")),
+            new Part(4, "ram", "삼성전자 DDR5-5600 (16GB)", mapper.readTree("[\"DDR5\",\"PC5-44800\"]")),
+            new Part(5, "gpu", "MSI 지포스 RTX 4070", mapper.readTree("[\"GDDR6X\",\"사용전력: 최대 200W\",\"정격파워 650W 이상\",\"가로(길이): 338mm\"]")),
+            new Part(6, "power", "마이크로닉스 Classic II 750W 80PLUS브론즈", mapper.readTree("[\"ATX 파워\",\"정격출력: 750W\"]")),
+            new Part(7, "case", "앱코 미들타워 케이스", mapper.readTree("[\"ATX 케이스\",\"VGA 장착 길이: 최대 400mm\",\"CPU쿨러 장착 높이: 최대 165mm\"]")),
+            new Part(8, "cooler", "공랭 쿨러", mapper.readTree("[\"인텔 소켓: LGA1700\",\"AMD 소켓: AM5, AM4\",\"높이: 155mm\"]"))
+        );
+        engine = new CompatibilityEngine();
+        specs = new ArrayList<>();
+        for (Part part : build) {
+            specs.add(engine.spec(part.id(), updatedAt, part.category(), part.name(), part.specs()));
+        }
+    }
+
+    @Benchmark
+    public CompatibilityReport evaluateBuild() {
+        return engine.evaluate(specs);
+    }
+
+    @Benchmark
+    public CompatibilityReport evaluateWithCacheLookup() {
+        List<PartSpec> parts = new ArrayList<>(build.size());
+        for (Part part : build) {
+            parts.add(engine.spec(part.id(), updatedAt, part.category(), part.name(), part.specs()));
+        }
+        return engine.evaluate(parts);
+    }
+
+    @Benchmark
+    public PartSpec extractSpecs() {
+        Part gpu = build.get(4);
+        return SpecExtractor.extract(PartType.GPU, gpu.name(), gpu.specs());
+    }
+}
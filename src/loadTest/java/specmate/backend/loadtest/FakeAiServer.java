@@ -0,0 +1,170 @@
+package specmate.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import specmate.backend.dto.ai.AiComponent;
+import specmate.backend.dto.ai.AiResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 로컬 AI 서버 대역 (FastAPI /chat/message 계약 구현)
+ *
+ * 설정 (시스템 프로퍼티):
+ *  fakeai.port               리슨 포트 (기본 8000)
+ *  fakeai.latency.median-ms  응답 지연 중앙값 (기본 2500)
+ *  fakeai.latency.sigma      로그정규 분포 sigma, 0 이면 고정 지연 (기본 0.5)
+ *  fakeai.error-rate         500 응답 비율 (기본 0.0)
+ *  fakeai.hang-rate          응답하지 않고 오래 대기하는 비율 (기본 0.0)
+ *  fakeai.build-ratio        build 의도(견적) 응답 비율, 나머지는 일반 대화 (기본 0.3)
+ *
+ * 실행: ./gradlew fakeAiServer -Dfakeai.latency.median-ms=3000 -Dfakeai.error-rate=0.05
+ */
+public class FakeAiServer {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String[][] BUILD_PARTS = {
+        {"cpu", "AMD 라이젠5-5세대 7500F (라파엘)", "219000"},
+        {"mainboard", "MSI PRO B650M-A WIFI", "189000"},
+        {"memory", "삼성전자 DDR5-5600 (16GB)", "62000"},
+        {"gpu", "MSI 지포스 RTX 4060 벤투스 2X 블랙 OC D6 8GB", "409000"},
+        {"ssd", "삼성전자 990 PRO M.2 NVMe (1TB)", "159000"},
+        {"power", "마이크로닉스 Classic II 풀체인지 700W 80PLUS브론즈", "79000"},
+        {"case", "앱코 U30 루나 (블랙)", "39000"},
+        {"cooler", "DEEPCOOL AK400", "35000"}
+    };
+
+    private final double medianMs;
+    private final double sigma;
+    private final double errorRate;
+    private final double hangRate;
+    private final double buildRatio;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong inFlight = new AtomicLong();
+
+    public FakeAiServer(double medianMs, double sigma, double errorRate, double hangRate, double buildRatio) {
+        this.medianMs = medianMs;
+        this.sigma = sigma;
+        this.errorRate = errorRate;
+        this.hangRate = hangRate;
+        this.buildRatio = buildRatio;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = Integer.getInteger("fakeai.port", 8000);
+        FakeAiServer fake = new FakeAiServer(
+            doubleProperty("fakeai.latency.median-ms", 2500),
+            doubleProperty("fakeai.latency.sigma", 0.5),
+            doubleProperty("fakeai.error-rate", 0.0),
+            doubleProperty("fakeai.hang-rate", 0.0),
+            doubleProperty("fakeai.build-ratio", 0.3)
+        );
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext("/chat/message", fake::handleChat);
+        server.createContext("/health", exchange -> send(exchange, 200, "{\"status\":\"UP\"}"));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        System.out.printf("Fake AI server listening on :%d (median=%.0fms, sigma=%.2f, error=%.2f, hang=%.2f, build=%.2f)%n",
+            port, fake.medianMs, fake.sigma, fake.errorRate, fake.hangRate, fake.buildRatio);
+    }
+
+    private void handleChat(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            send(exchange, 405, "{\"detail\":\"Method Not Allowed\"}");
+            return;
+        }
+
+        long count = requests.incrementAndGet();
+        inFlight.incrementAndGet();
+        try {
+            JsonNode request = MAPPER.readTree(exchange.getRequestBody());
+            String userInput = request.path("user_input").asText("");
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            if (random.nextDouble() < hangRate) {
+                Thread.sleep(10 * 60 * 1000L);
+            }
+            Thread.sleep(sampleLatencyMs(random));
+
+            if (random.nextDouble() < errorRate) {
+                send(exchange, 500, "{\"detail\":\"Internal Server Error\"}");
+                return;
+            }
+
+            AiResponse response = random.nextDouble() < buildRatio ? buildResponse() : talkResponse(userInput);
+            send(exchange, 200, MAPPER.writeValueAsString(response));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            send(exchange, 503, "{\"detail\":\"Interrupted\"}");
+        } finally {
+            inFlight.decrementAndGet();
+            if (count % 100 == 0) {
+                System.out.printf("requests=%d inFlight=%d%n", count, inFlight.get());
+            }
+        }
+    }
+
+    private long sampleLatencyMs(ThreadLocalRandom random) {
+        if (sigma <= 0) {
+            return (long) medianMs;
+        }
+        return (long) (medianMs * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    private AiResponse talkResponse(String userInput) {
+        AiResponse response = new AiResponse();
+        response.setIntent("talk");
+        response.setReply("[fake] '" + userInput + "'에 대한 답변입니다. 용도와 예산을 알려주시면 견적을 맞춰드릴게요.");
+        return response;
+    }
+
+    private AiResponse buildResponse() {
+        Map<String, AiComponent> main = new LinkedHashMap<>();
+        long total = 0;
+        for (String[] part : BUILD_PARTS) {
+            AiComponent component = new AiComponent();
+            component.setCategory(part[0]);
+            component.setName(part[1]);
+            component.setPrice(Long.parseLong(part[2]));
+            component.setDescription("[fake] " + part[0] + " 추천 사유");
+            main.put(part[0], component);
+            total += component.getPrice();
+        }
+
+        AiResponse response = new AiResponse();
+        response.setIntent("build");
+        response.setIntro("[fake] 요청하신 예산에 맞춘 게이밍 견적입니다.");
+        response.setNote("[fake] 가격은 시세에 따라 달라질 수 있습니다.");
+        response.setTotal(String.format("%,d원", total));
+        response.setMain(main);
+        return response;
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,250 @@
+package specmate.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import specmate.backend.service.idempotency.IdempotencyRecord;
+import specmate.backend.service.idempotency.IdempotencyService;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Idempotency-Key 헤더가 있는 비용 큰 POST 요청의 중복 실행 방지
+ * - 같은 키의 첫 요청만 실행하고 응답을 Redis 에 보관
+ * - 처리 중 재시도는 첫 요청이 끝날 때까지 대기 후 같은 응답을 받음
+ * - 완료된 재시도는 저장된 응답을 그대로 재전송 (Idempotent-Replayed: true)
+ * - 같은 키로 다른 요청(경로/본문)이 오면 422
+ * - 2xx 와 다시 보내도 결과가 같은 4xx(400/401/403/404/422)만 저장
+ *   → 409(채팅방 처리 중 등), 429, 5xx, Retry-After 가 붙은 응답, 예외로 끝난 요청은 저장하지 않음 (재시도 시 다시 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    // 일시적이지 않은 4xx (409 는 처리 중/충돌이라 재시도하면 성공할 수 있어 제외)
+    private static final Set<Integer> REPLAYABLE_CLIENT_ERRORS = Set.of(
+        HttpStatus.BAD_REQUEST.value(),
+        HttpStatus.UNAUTHORIZED.value(),
+        HttpStatus.FORBIDDEN.value(),
+        HttpStatus.NOT_FOUND.value(),
+        HttpStatus.UNPROCESSABLE_ENTITY.value()
+    );
+
+    private static final List<String> IDEMPOTENT_PATHS = List.of(
+        "/api/chat/room/*/message",
+        "/api/aiestimates",
+        "/api/aiestimates/*/products",
+        "/api/estimate",
+        "/api/estimate/*/products",
+        "/api/estimate/*/products/batch",
+        "/api/estimate/from-ai/*",
+        "/api/estimate/*/versions/*/restore",
+        "/api/estimate/products/save"
+    );
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Value("${idempotency.wait-timeout-seconds}")
+    private long waitTimeoutSeconds;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest req) {
+        if (!"POST".equals(req.getMethod()) || req.getHeader(HEADER) == null) {
+            return true;
+        }
+        String path = req.getRequestURI();
+        return IDEMPOTENT_PATHS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof String userId)) {
+            filterChain.doFilter(req, res);
+            return;
+        }
+
+        String idempotencyKey = req.getHeader(HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(res, HttpStatus.BAD_REQUEST, "Idempotency-Key 형식이 올바르지 않습니다.");
+            return;
+        }
+
+        CachedBodyRequest request = new CachedBodyRequest(req);
+        String fingerprint = fingerprint(req.getMethod(), req.getRequestURI(), request.body);
+
+        long deadline = System.currentTimeMillis() + waitTimeoutSeconds * 1000;
+        long backoffMs = 50;
+        while (true) {
+            if (idempotencyService.tryAcquire(userId, idempotencyKey, fingerprint)) {
+                execute(request, res, filterChain, userId, idempotencyKey, fingerprint);
+                return;
+            }
+
+            IdempotencyRecord record = idempotencyService.find(userId, idempotencyKey);
+            if (record != null) {
+                if (!fingerprint.equals(record.getFingerprint())) {
+                    writeError(res, HttpStatus.UNPROCESSABLE_ENTITY, "이미 다른 요청에 사용된 Idempotency-Key 입니다.");
+                    return;
+                }
+                if (record.isCompleted()) {
+                    replay(res, record);
+                    return;
+                }
+            }
+            // record == null: 첫 요청이 실패해 선점이 해제됨 -> 다음 루프에서 직접 실행 시도
+
+            if (System.currentTimeMillis() >= deadline) {
+                res.setHeader("Retry-After", "5");
+                writeError(res, HttpStatus.CONFLICT, "같은 요청을 처리하는 중입니다. 잠시 후 다시 시도해주세요.");
+                return;
+            }
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeError(res, HttpStatus.SERVICE_UNAVAILABLE, "요청 처리가 중단되었습니다.");
+                return;
+            }
+            backoffMs = Math.min(backoffMs * 2, 1000);
+        }
+    }
+
+    private void execute(CachedBodyRequest req, HttpServletResponse res, FilterChain filterChain,
+                         String userId, String idempotencyKey, String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper response = new ContentCachingResponseWrapper(res);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(req, response);
+
+            if (isReplayable(response.getStatus()) && response.getHeader("Retry-After") == null) {
+                idempotencyService.complete(userId, idempotencyKey, IdempotencyRecord.completed(
+                    fingerprint, response.getStatus(), response.getContentType(), response.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyService.release(userId, idempotencyKey);
+            }
+            response.copyBodyToResponse();
+        }
+    }
+
+    private static boolean isReplayable(int status) {
+        return (status >= 200 && status < 300) || REPLAYABLE_CLIENT_ERRORS.contains(status);
+    }
+
+    private void replay(HttpServletResponse res, IdempotencyRecord record) throws IOException {
+        log.debug("Replaying idempotent response: status={}", record.getStatus());
+        res.setStatus(record.getStatus());
+        res.setHeader(REPLAYED_HEADER, "true");
+        if (record.getContentType() != null) {
+            res.setContentType(record.getContentType());
+        }
+        if (record.getBody() != null) {
+            res.setContentLength(record.getBody().length);
+            res.getOutputStream().write(record.getBody());
+        }
+    }
+
+    private void writeError(HttpServletResponse res, HttpStatus status, String message) throws IOException {
+        res.setStatus(status.value());
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(res.getOutputStream(), Map.of("message", message));
+    }
+
+    private static String fingerprint(String method, String path, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((method + " " + path + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 지문 계산을 위해 본문을 미리 읽어두고, 컨트롤러에는 같은 본문을 다시 제공 */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package specmate.backend.config;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -15,14 +16,21 @@ import java.util.concurrent.TimeUnit;
 @Configuration
 public class WebClientConfig {
 
+    // 실제 호출별 타임아웃은 AiServerClient 의 적응형 타임아웃이 적용되고, 여기서는 상한만 설정
+    @Value("${ai.client.connect-timeout-ms}")
+    private int connectTimeoutMs;
+
+    @Value("${ai.client.timeout.max-ms}")
+    private long maxTimeoutMs;
+
     @Bean
     public WebClient webClient() {
         HttpClient httpClient = HttpClient.create()
-            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000)
-            .responseTimeout(Duration.ofSeconds(60))
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+            .responseTimeout(Duration.ofMillis(maxTimeoutMs))
             .doOnConnected(conn ->
-                conn.addHandlerLast(new ReadTimeoutHandler(60, TimeUnit.SECONDS))
-                    .addHandlerLast(new WriteTimeoutHandler(60, TimeUnit.SECONDS)));
+                conn.addHandlerLast(new ReadTimeoutHandler(maxTimeoutMs, TimeUnit.MILLISECONDS))
+                    .addHandlerLast(new WriteTimeoutHandler(maxTimeoutMs, TimeUnit.MILLISECONDS)));
 
         return WebClient.builder()
             .clientConnector(new ReactorClientHttpConnector(httpClient))
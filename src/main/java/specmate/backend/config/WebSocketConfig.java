@@ -0,0 +1,28 @@
+package specmate.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import specmate.backend.service.chat.ChatQueueNotifier;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final ChatQueueNotifier chatQueueNotifier;
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(chatQueueNotifier, "/ws/chat-queue")
+                .addInterceptors(jwtHandshakeInterceptor)
+                .setAllowedOrigins(
+                        "http://localhost:5173",
+                        "https://specmate-frontend-dev.onrender.com",
+                        "https://specmate.vercel.app"
+                );
+    }
+}
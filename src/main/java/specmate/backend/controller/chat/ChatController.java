@@ -4,14 +4,20 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import specmate.backend.dto.ai.AiResponse;
+import specmate.backend.dto.chat.ChatHistoryResponse;
 import specmate.backend.dto.chat.ChatRequest;
-import specmate.backend.entity.ChatMessage;
+import specmate.backend.dto.chat.ChatRoomSummaryResponse;
+import specmate.backend.dto.chat.ChatSearchResponse;
 import specmate.backend.entity.ChatRoom;
-import specmate.backend.repository.chat.ChatMessageRepository;
+import specmate.backend.service.chat.ChatAdmissionRejectedException;
+import specmate.backend.service.chat.ChatRoomBusyException;
+import specmate.backend.service.chat.ChatSearchService;
 import specmate.backend.service.chat.ChatService;
 
 import java.util.List;
@@ -24,7 +30,7 @@ import java.util.List;
 public class ChatController {
 
     private final ChatService chatService;
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatSearchService chatSearchService;
 
     // 채팅방 생성 (상담 시작)
     @Operation(summary = "채팅방 생성", description = "새로운 견적 상담 채팅방을 생성합니다.")
@@ -35,32 +41,61 @@ public class ChatController {
     }
 
     // 내 채팅방 목록 조회
-    @Operation(summary = "내 채팅방 목록", description = "사용자의 과거 상담 이력을 조회합니다.")
+    @Operation(summary = "내 채팅방 목록", description = "사용자의 과거 상담 이력을 최근 활동순으로 조회합니다. " +
+        "마지막 메시지 미리보기, 마지막 활동 시각, 메시지 수를 함께 반환합니다.")
     @GetMapping("/rooms")
-    public ResponseEntity<List<ChatRoom>> getUserChatRooms(@AuthenticationPrincipal String userId) {
+    public ResponseEntity<List<ChatRoomSummaryResponse>> getUserChatRooms(@AuthenticationPrincipal String userId) {
         return ResponseEntity.ok(chatService.getUserChatRooms(userId));
     }
 
     // 메시지 전송 (유저 -> AI)
-    @Operation(summary = "메시지 전송", description = "AI에게 메시지를 보냅니다. (답변 생성 시간 소요됨)")
+    @Operation(summary = "메시지 전송", description = "AI에게 메시지를 보냅니다. (답변 생성 시간 소요됨) " +
+        "상담 대기열이 가득 차면 429, 같은 채팅방의 이전 메시지 처리가 끝나지 않으면 409를 Retry-After 헤더와 함께 반환하며, " +
+        "대기 순번은 /ws/chat-queue 로 전달됩니다.")
     @PostMapping("/room/{roomId}/message")
     public ResponseEntity<AiResponse> sendMessage(
         @PathVariable Long roomId,
         @RequestBody ChatRequest request,
         @AuthenticationPrincipal String userId) {
 
-        AiResponse response = chatService.processUserMessage(roomId, userId, request.getContent());
-
-        return ResponseEntity.ok(response);
+        try {
+            AiResponse response = chatService.processUserMessage(roomId, userId, request.getContent());
+            return ResponseEntity.ok(response);
+        } catch (ChatAdmissionRejectedException e) {
+            AiResponse response = new AiResponse();
+            response.setReply(e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+        } catch (ChatRoomBusyException e) {
+            AiResponse response = new AiResponse();
+            response.setReply(e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+        }
     }
 
     // 채팅방 메시지 내역 조회
-    @Operation(summary = "대화 내역 조회", description = "특정 채팅방의 이전 대화 내용을 모두 불러옵니다.")
+    @Operation(summary = "대화 내역 조회", description = "특정 채팅방의 대화 내용을 최신순 커서 페이지로 불러옵니다. " +
+        "before(이전 응답의 nextCursor)를 넘기면 그 이전 메시지를, limit(기본 30, 최대 100)만큼 반환합니다.")
     @GetMapping("/room/{roomId}/messages")
-    public ResponseEntity<List<ChatMessage>> getChatHistory(
+    public ResponseEntity<ChatHistoryResponse> getChatHistory(
         @PathVariable Long roomId,
+        @RequestParam(required = false) Long before,
+        @RequestParam(defaultValue = "30") int limit,
+        @AuthenticationPrincipal String userId) {
+        return ResponseEntity.ok(chatService.getChatHistory(roomId, userId, before, limit));
+    }
+
+    // 내 대화/AI 견적 검색
+    @Operation(summary = "대화 검색", description = "내 채팅 메시지와 AI 견적 부품 이름에서 검색어(공백 구분, 모두 포함)를 최신순으로 찾습니다. " +
+        "snippet 은 HTML 이스케이프되어 있으며 검색어는 <mark> 로 강조됩니다.")
+    @GetMapping("/search")
+    public ResponseEntity<ChatSearchResponse> search(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "20") int limit,
         @AuthenticationPrincipal String userId) {
-        List<ChatMessage> history = chatMessageRepository.findByChatRoomIdOrderByCreatedAtAsc(roomId);
-        return ResponseEntity.ok(history);
+        return ResponseEntity.ok(chatSearchService.search(userId, q, limit));
     }
-}
\ No newline at end of file
+}
@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import specmate.backend.dto.estimate.ai.AiEstimatePageResponse;
 import specmate.backend.dto.estimate.ai.AiEstimateProductRequest;
 import specmate.backend.dto.estimate.ai.AiEstimateProductResponse;
 import specmate.backend.dto.estimate.ai.AiEstimateRequest;
@@ -54,14 +55,27 @@ public class AiEstimateController {
         return ResponseEntity.ok(aiEstimateService.getEstimateProducts(estimateId));
     }
 
-    @Operation(summary = "내 AI 견적 목록 조회", description = "JWT 토큰에 포함된 userId 기준으로 모든 AI 견적 조회", security = { @SecurityRequirement(name = "bearerAuth") })
+    @Operation(summary = "내 AI 견적 목록 조회", description = "JWT 토큰에 포함된 userId 기준으로 AI 견적 요약을 최신순 커서 페이지로 조회합니다. " +
+            "cursor(이전 응답의 nextCursor)를 넘기면 다음 페이지를, limit(기본 20, 최대 100)만큼 반환합니다.", security = { @SecurityRequirement(name = "bearerAuth") })
     @GetMapping("/me")
-    public ResponseEntity<List<AiEstimateResponse>> getMyEstimates(Authentication authentication) {
+    public ResponseEntity<AiEstimatePageResponse> getMyEstimates(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
         String userId = (String) authentication.getPrincipal();
-        return ResponseEntity.ok(aiEstimateService.getUserEstimates(userId));
+        return ResponseEntity.ok(aiEstimateService.getUserEstimates(userId, cursor, limit));
     }
 
     @Operation(summary = "AI 견적에서 제품 제거", description = "특정 AI 견적에 담긴 개별 제품을 제거합니다. 견적 총 가격도 함께 갱신됩니다.", security = { @SecurityRequirement(name = "bearerAuth") })
+    @DeleteMapping("/{estimateId}/products/{productId}")
+    public ResponseEntity<Void> removeProductFromEstimate(@PathVariable Long estimateId, @PathVariable Long productId, Authentication authentication) {
+        String userId = (String) authentication.getPrincipal();
+        aiEstimateService.removeProductFromEstimate(estimateId, productId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "AI 견적에서 제품 제거 (견적 id 생략)", description = "부품 구성을 견적끼리 공유하므로, 같은 구성을 가진 내 견적이 하나일 때만 처리합니다. " +
+            "가능하면 /{estimateId}/products/{productId} 를 사용하세요.", security = { @SecurityRequirement(name = "bearerAuth") })
     @DeleteMapping("/products/{productId}")
     public ResponseEntity<Void> removeProductFromEstimate(@PathVariable Long productId, Authentication authentication) {
         String userId = (String) authentication.getPrincipal();
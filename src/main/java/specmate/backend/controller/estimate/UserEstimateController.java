@@ -10,10 +10,24 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import specmate.backend.dto.estimate.compat.CompatibilityCheckRequest;
+import specmate.backend.dto.estimate.optimizer.BuildOptimizeRequest;
+import specmate.backend.dto.estimate.optimizer.BuildOptimizeResponse;
+import specmate.backend.dto.estimate.user.UserEstimateAdoptRequest;
+import specmate.backend.dto.estimate.user.UserEstimateAdoptResponse;
+import specmate.backend.dto.estimate.user.UserEstimateBatchRequest;
+import specmate.backend.dto.estimate.user.UserEstimateBatchResponse;
 import specmate.backend.dto.estimate.user.UserEstimateProductRequest;
 import specmate.backend.dto.estimate.user.UserEstimateProductResponse;
 import specmate.backend.dto.estimate.user.UserEstimateRequest;
 import specmate.backend.dto.estimate.user.UserEstimateResponse;
+import specmate.backend.dto.estimate.user.UserEstimateSummaryResponse;
+import specmate.backend.dto.estimate.user.UserEstimateVersionDiffResponse;
+import specmate.backend.dto.estimate.user.UserEstimateVersionResponse;
+import specmate.backend.service.estimate.compat.CompatibilityReport;
+import specmate.backend.service.estimate.compat.CompatibilityService;
+import specmate.backend.service.estimate.optimizer.BuildOptimizerService;
+import specmate.backend.service.estimate.user.EstimateVersionService;
 import specmate.backend.service.estimate.user.UserEstimateService;
 
 import java.util.List;
@@ -25,6 +39,9 @@ import java.util.List;
 public class UserEstimateController {
 
     private final UserEstimateService userEstimateService;
+    private final CompatibilityService compatibilityService;
+    private final BuildOptimizerService buildOptimizerService;
+    private final EstimateVersionService estimateVersionService;
 
     @Operation(summary = "견적 생성", description = "새로운 사용자 견적을 생성합니다. JWT 토큰에서 userId를 추출합니다.", security = { @SecurityRequirement(name = "bearerAuth") })
     @PostMapping
@@ -41,6 +58,20 @@ public class UserEstimateController {
         return ResponseEntity.ok(userEstimateService.addProductToEstimate(estimateId, req, userId));
     }
 
+    @Operation(summary = "AI 견적을 내 견적으로 가져오기", description = "AI 견적의 부품을 판매 중인 제품과 이름으로 매칭해 새 견적을 한 번에 만듭니다. 매칭되지 않은 부품명은 unmatched 로 반환합니다.", security = { @SecurityRequirement(name = "bearerAuth") })
+    @PostMapping("/from-ai/{aiEstimateId}")
+    public ResponseEntity<UserEstimateAdoptResponse> adoptAiEstimate(@PathVariable Long aiEstimateId, @RequestBody(required = false) UserEstimateAdoptRequest req, Authentication authentication) {
+        String userId = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(userEstimateService.adoptAiEstimate(aiEstimateId, req, userId));
+    }
+
+    @Operation(summary = "견적 부품 일괄 편집", description = "부품 추가(ADD)/교체(REPLACE)/삭제(REMOVE) 목록을 요청 순서대로 한 트랜잭션에서 적용합니다. 하나라도 실패하면 전체가 취소되며, 총액은 한 번만 갱신됩니다.", security = { @SecurityRequirement(name = "bearerAuth") })
+    @PostMapping("/{estimateId}/products/batch")
+    public ResponseEntity<UserEstimateBatchResponse> applyBatch(@PathVariable String estimateId, @RequestBody UserEstimateBatchRequest req, Authentication authentication) {
+        String userId = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(userEstimateService.applyBatch(estimateId, req, userId));
+    }
+
     @Operation(summary = "내 견적 보관함에 저장", description = "견적이 없으면 생성 후, 해당 견적에 제품을 저장합니다.", security = { @SecurityRequirement(name = "bearerAuth") })
     @PostMapping("/products/save")
     public ResponseEntity<UserEstimateProductResponse> saveToMyEstimate(@RequestBody UserEstimateProductRequest req, Authentication authentication) {
@@ -54,6 +85,56 @@ public class UserEstimateController {
         return ResponseEntity.ok(userEstimateService.getEstimateProducts(estimateId));
     }
 
+    @Operation(summary = "견적 버전 목록", description = "견적을 편집할 때마다 남는 버전을 최신순으로 조회합니다.", security = { @SecurityRequirement(name = "bearerAuth") })
+    @GetMapping("/{estimateId}/versions")
+    public ResponseEntity<List<UserEstimateVersionResponse>> getVersions(@PathVariable String estimateId, Authentication authentication) {
+        String userId = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(estimateVersionService.getVersions(estimateId, userId));
+    }
+
+    @Operation(summary = "견적 버전 비교", description = "두 버전(from, to)의 부품 구성을 비교합니다. to 를 생략하면 최신 버전과 비교합니다.", security = { @SecurityRequirement(name = "bearerAuth") })
+    @GetMapping("/{estimateId}/versions/diff")
+    public ResponseEntity<UserEstimateVersionDiffResponse> diffVersions(@PathVariable String estimateId,
+                                                                        @RequestParam int from,
+                                                                        @RequestParam(required = false) Integer to,
+                                                                        Authentication authentication) {
+        String userId = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(estimateVersionService.diff(estimateId, from, to, userId));
+    }
+
+    @Operation(summary = "견적 버전 조회", description = "특정 버전 당시의 부품 구성을 조회합니다.", security = { @SecurityRequirement(name = "bearerAuth") })
+    @GetMapping("/{estimateId}/versions/{versionNo}")
+    public ResponseEntity<UserEstimateVersionResponse> getVersion(@PathVariable String estimateId, @PathVariable int versionNo, Authentication authentication) {
+        String userId = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(estimateVersionService.getVersion(estimateId, versionNo, userId));
+    }
+
+    @Operation(summary = "견적 버전 복원", description = "견적을 특정 버전의 부품 구성으로 되돌립니다. 단가는 현재 제품 가격으로 다시 계산되며, 복원도 새 버전으로 기록됩니다.", security = { @SecurityRequirement(name = "bearerAuth") })
+    @PostMapping("/{estimateId}/versions/{versionNo}/restore")
+    public ResponseEntity<UserEstimateBatchResponse> restoreVersion(@PathVariable String estimateId, @PathVariable int versionNo, Authentication authentication) {
+        String userId = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(userEstimateService.restoreVersion(estimateId, versionNo, userId));
+    }
+
+    @Operation(summary = "견적 호환성 검사", description = "견적에 담긴 부품의 소켓/메모리 규격/메인보드 크기/그래픽카드 길이/쿨러/파워 용량 호환성을 검사합니다.", security = { @SecurityRequirement(name = "bearerAuth") })
+    @GetMapping("/{estimateId}/compatibility")
+    public ResponseEntity<CompatibilityReport> checkEstimateCompatibility(@PathVariable String estimateId, Authentication authentication) {
+        String userId = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(compatibilityService.checkUserEstimate(estimateId, userId));
+    }
+
+    @Operation(summary = "부품 조합 호환성 검사", description = "저장하지 않은 부품 조합(productIds)의 호환성을 검사합니다. 같은 id 를 여러 번 넣으면 수량으로 취급합니다.", security = { @SecurityRequirement(name = "bearerAuth") })
+    @PostMapping("/compatibility")
+    public ResponseEntity<CompatibilityReport> checkCompatibility(@RequestBody CompatibilityCheckRequest req) {
+        return ResponseEntity.ok(compatibilityService.checkProducts(req.getProductIds()));
+    }
+
+    @Operation(summary = "예산 내 최적 견적", description = "현재 판매 중인 제품으로 예산(budget) 안에서 용도(purpose: gaming/work/office)별 점수가 가장 높은 호환 조합을 구성합니다.", security = { @SecurityRequirement(name = "bearerAuth") })
+    @PostMapping("/optimize")
+    public ResponseEntity<BuildOptimizeResponse> optimize(@RequestBody BuildOptimizeRequest req) {
+        return ResponseEntity.ok(buildOptimizerService.optimize(req));
+    }
+
     @Operation(summary = "견적 내 특정 제품 교체", description = "특정 견적에 포함된 특정 제품을 새로운 제품으로 교체합니다. 기존 제품의 금액은 총액에서 차감되고, 새로운 제품 금액이 반영됩니다.", security = { @SecurityRequirement(name = "bearerAuth") },
             responses = {
                     @ApiResponse(responseCode = "200", description = "제품 교체 성공", content = @Content(schema = @Schema(implementation = UserEstimateProductResponse.class))),
@@ -75,9 +156,9 @@ public class UserEstimateController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "내 견적 목록 조회", description = "JWT 토큰에 포함된 userId 기준으로 모든 견적 조회", security = { @SecurityRequirement(name = "bearerAuth") })
+    @Operation(summary = "내 견적 목록 조회", description = "JWT 토큰에 포함된 userId 기준으로 모든 견적을 최신순으로 조회 (부품 수, 대표 CPU/그래픽카드, 썸네일 포함)", security = { @SecurityRequirement(name = "bearerAuth") })
     @GetMapping("/me")
-    public ResponseEntity<List<UserEstimateResponse>> getMyEstimates(Authentication authentication) {
+    public ResponseEntity<List<UserEstimateSummaryResponse>> getMyEstimates(Authentication authentication) {
         String userId = (String) authentication.getPrincipal();
         return ResponseEntity.ok(userEstimateService.getUserEstimates(userId));
     }
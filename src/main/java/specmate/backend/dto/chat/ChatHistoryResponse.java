@@ -0,0 +1,14 @@
+package specmate.backend.dto.chat;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ChatHistoryResponse {
+    private List<ChatMessageResponse> messages; // 오래된 순 정렬
+    private Long nextCursor; // 이전 페이지 요청 시 before 값 (없으면 null)
+    private boolean hasMore;
+}
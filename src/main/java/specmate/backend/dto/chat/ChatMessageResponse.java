@@ -0,0 +1,23 @@
+package specmate.backend.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import specmate.backend.entity.ChatMessage;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageResponse implements Serializable {
+    private Long id;
+    private ChatMessage.Sender sender;
+    private ChatMessage.MessageType type;
+    private String content;
+    private Long relatedEstimateId;
+    private LocalDateTime createdAt;
+}
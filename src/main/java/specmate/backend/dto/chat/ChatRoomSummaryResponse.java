@@ -0,0 +1,18 @@
+package specmate.backend.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ChatRoomSummaryResponse {
+    private Long id;
+    private String title;
+    private String lastMessagePreview;
+    private LocalDateTime lastMessageAt;
+    private long messageCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
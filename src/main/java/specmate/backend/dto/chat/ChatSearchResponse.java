@@ -0,0 +1,40 @@
+package specmate.backend.dto.chat;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class ChatSearchResponse {
+    private String query;
+    private List<MessageHit> messages;
+    private List<EstimateProductHit> estimateProducts;
+
+    // snippet: HTML 이스케이프된 본문 일부, 검색어는 <mark></mark> 로 감쌈
+    @Getter
+    @Builder
+    public static class MessageHit {
+        private Long messageId;
+        private Long chatRoomId;
+        private String chatRoomTitle;
+        private String sender;
+        private String snippet;
+        private LocalDateTime createdAt;
+    }
+
+    @Getter
+    @Builder
+    public static class EstimateProductHit {
+        private Long aiEstimateId;
+        private Long aiEstimateProductId;
+        private Long chatRoomId;
+        private String category;
+        private String name;
+        private Long price;
+        private String snippet;
+        private LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,14 @@
+package specmate.backend.dto.estimate.ai;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AiEstimatePageResponse {
+    private List<AiEstimateSummaryResponse> estimates; // 최신순
+    private String nextCursor; // 다음 페이지 요청 시 cursor 로 전달 (없으면 null)
+    private boolean hasMore;
+}
@@ -3,6 +3,7 @@ package specmate.backend.dto.estimate.ai;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import specmate.backend.service.estimate.compat.CompatibilityReport;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,4 +22,5 @@ public class AiEstimateResponse {
     private LocalDateTime createdAt;
 
     private List<AiEstimateProductResponse> products;
+    private CompatibilityReport compatibility; // 단건 조회 시에만 포함
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package specmate.backend.dto.estimate.ai;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 목록용 요약 (estimate_summaries 한 행, 제품 목록 없이 카드에 필요한 값만)
+@Getter
+@Builder
+@AllArgsConstructor
+public class AiEstimateSummaryResponse {
+    private Long id;
+    private Long chatRoomId;
+    private String intent;
+    private String intro;
+    private Long totalPrice;
+    private Integer partCount;
+    private String cpuName;
+    private String gpuName;
+    private String thumbnail;
+    private LocalDateTime createdAt;
+}
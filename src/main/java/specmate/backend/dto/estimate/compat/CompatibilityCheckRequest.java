@@ -0,0 +1,13 @@
+package specmate.backend.dto.estimate.compat;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class CompatibilityCheckRequest {
+    private List<Long> productIds = new ArrayList<>(); // 같은 id 를 여러 번 넣으면 수량으로 취급
+}
@@ -0,0 +1,11 @@
+package specmate.backend.dto.estimate.optimizer;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BuildOptimizeRequest {
+    private Long budget;    // 원
+    private String purpose; // gaming(기본) / work / office
+}
@@ -0,0 +1,30 @@
+package specmate.backend.dto.estimate.optimizer;
+
+import lombok.Builder;
+import lombok.Getter;
+import specmate.backend.service.estimate.compat.CompatibilityReport;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BuildOptimizeResponse {
+    private String purpose;
+    private Long budget;
+    private Long totalPrice;
+    private Double score;
+    private Boolean exhaustive; // false 면 시간 제한 안에서 찾은 최선 조합
+    private Long elapsedMs;
+    private List<Part> parts;
+    private CompatibilityReport compatibility;
+
+    @Getter
+    @Builder
+    public static class Part {
+        private Long productId;
+        private String category;
+        private String name;
+        private String image;
+        private Long price;
+    }
+}
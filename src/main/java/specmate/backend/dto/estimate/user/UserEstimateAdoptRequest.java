@@ -0,0 +1,11 @@
+package specmate.backend.dto.estimate.user;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class UserEstimateAdoptRequest {
+    private String title;       // 없으면 "AI 추천 견적"
+    private String description; // 없으면 AI 견적 소개글
+}
@@ -0,0 +1,16 @@
+package specmate.backend.dto.estimate.user;
+
+import lombok.Builder;
+import lombok.Getter;
+import specmate.backend.service.estimate.compat.CompatibilityReport;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class UserEstimateAdoptResponse {
+    private UserEstimateResponse estimate;              // 새로 만든 견적 (총액 포함)
+    private List<UserEstimateProductResponse> products; // 담은 부품
+    private List<String> unmatched;                     // 판매 제품과 이름이 일치하지 않아 담지 못한 AI 부품명
+    private CompatibilityReport compatibility;          // 담은 부품 호환성
+}
@@ -0,0 +1,33 @@
+package specmate.backend.dto.estimate.user;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 견적 부품 일괄 편집 요청 (요청 순서대로 한 트랜잭션에서 적용)
+ * - ADD: productId, category, quantity
+ * - REPLACE: estimateProductId, productId, category, quantity
+ * - REMOVE: estimateProductId
+ */
+@Getter
+@Setter
+public class UserEstimateBatchRequest {
+    private List<Operation> operations = new ArrayList<>();
+
+    public enum OperationType {
+        ADD, REPLACE, REMOVE
+    }
+
+    @Getter
+    @Setter
+    public static class Operation {
+        private OperationType type;
+        private String estimateProductId;
+        private Long productId;
+        private String category;
+        private Integer quantity = 1;
+    }
+}
@@ -0,0 +1,15 @@
+package specmate.backend.dto.estimate.user;
+
+import lombok.Builder;
+import lombok.Getter;
+import specmate.backend.service.estimate.compat.CompatibilityReport;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class UserEstimateBatchResponse {
+    private UserEstimateResponse estimate;           // 반영 후 견적 (총액 포함)
+    private List<UserEstimateProductResponse> products; // 반영 후 견적에 담긴 전체 부품
+    private CompatibilityReport compatibility;          // 반영 후 부품 호환성
+}
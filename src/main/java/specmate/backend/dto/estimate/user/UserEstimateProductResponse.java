@@ -23,6 +23,9 @@ public class UserEstimateProductResponse {
     private Long unitPrice;
     private Long totalPrice;
 
+    private Long savedUnitPrice; // 담을 당시 단가
+    private Long priceDelta;     // 담은 뒤 가격 변동분 (수량 반영)
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ public class UserEstimateResponse {
     private String description;
 
     private Long totalPrice;
+    private Long priceChangedSinceSaved; // 부품을 담은 뒤 가격 변동 합계 (오르면 양수)
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -0,0 +1,27 @@
+package specmate.backend.dto.estimate.user;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내 견적 목록 카드 (estimate_summaries 한 행, 부품 행 없이 카드에 필요한 값만)
+@Getter
+@Builder
+public class UserEstimateSummaryResponse {
+    private String id;
+    private String userId;
+    private String title;
+    private String description;
+
+    private Long totalPrice;
+    private Long priceChangedSinceSaved; // 부품을 담은 뒤 가격 변동 합계 (오르면 양수)
+
+    private Integer partCount;
+    private String cpuName;  // 대표 CPU (가장 비싼 CPU)
+    private String gpuName;  // 대표 그래픽카드
+    private String thumbnail;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,27 @@
+package specmate.backend.dto.estimate.user;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class UserEstimateVersionDiffResponse {
+    private Integer fromVersion;
+    private Integer toVersion;
+    private Long totalPriceDelta; // to - from
+    private List<Change> changes;
+
+    public enum ChangeType {
+        ADDED, REMOVED, CHANGED
+    }
+
+    @Getter
+    @Builder
+    public static class Change {
+        private ChangeType type;
+        private UserEstimateVersionLineResponse before; // ADDED 면 null
+        private UserEstimateVersionLineResponse after;  // REMOVED 면 null
+    }
+}
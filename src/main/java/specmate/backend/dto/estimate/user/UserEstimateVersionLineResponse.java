@@ -0,0 +1,17 @@
+package specmate.backend.dto.estimate.user;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UserEstimateVersionLineResponse {
+    private String estimateProductId;
+    private Long productId;
+    private String productName; // 제품이 삭제됐으면 null
+    private String image;
+    private String category;
+    private Integer quantity;
+    private Long unitPrice;     // 해당 버전 당시 단가
+    private Long totalPrice;
+}
@@ -0,0 +1,20 @@
+package specmate.backend.dto.estimate.user;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class UserEstimateVersionResponse {
+    private Integer versionNo;
+    private Integer parentVersionNo;
+    private String reason;      // ADD / REPLACE / REMOVE / BATCH / ADOPT / RESTORE
+    private Boolean snapshot;
+    private Integer partCount;
+    private Long totalPrice;
+    private LocalDateTime createdAt;
+    private List<UserEstimateVersionLineResponse> products; // 목록 조회에서는 null
+}
@@ -0,0 +1,42 @@
+package specmate.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 견적 부품 구성 (내용 주소 저장)
+ * - 정규화한 부품 목록의 SHA-256(content_hash) 으로 식별, 같은 구성은 한 번만 저장하고 여러 견적이 공유
+ * - 한 번 저장한 구성은 바꾸지 않는다 (견적 편집 시 새 구성을 찾거나 만들어 견적이 가리키는 구성만 교체)
+ */
+@Entity
+@Table(name = "ai_component_sets", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_ai_component_sets_content_hash", columnNames = "content_hash")
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AiComponentSet {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    @Builder.Default
+    @OneToMany(mappedBy = "componentSet")
+    @OrderBy("position ASC")
+    private List<AiComponentSetItem> items = new ArrayList<>();
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+package specmate.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+@Entity
+@Table(name = "ai_component_set_items", indexes = {
+    @Index(name = "idx_ai_component_set_items_set_id_position", columnList = "component_set_id, position")
+})
+@Getter @Setter
+@Builder
+@NoArgsConstructor @AllArgsConstructor
+public class AiComponentSetItem {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 구성 삭제(참조 없는 구성 정리) 시 DB 에서 함께 삭제
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "component_set_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private AiComponentSet componentSet;
+
+    @Column(nullable = false)
+    private int position;
+
+    private String category;
+    private String name;
+    private Long price;
+
+    @Column(columnDefinition = "TEXT")
+    private String image;
+
+    @Column(length = 1000)
+    private String description; // AI가 설명한 내용
+}
@@ -8,7 +8,12 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "ai_estimates")
+@Table(name = "ai_estimates", indexes = {
+    // 사용자별 견적 찾기 (대화/부품 검색, 부품 id 만 받은 삭제, 사용자 삭제 시 FK 확인), 목록은 estimate_summaries 에서 읽음
+    @Index(name = "idx_ai_estimates_user_id", columnList = "user_id"),
+    // 참조 없는 부품 구성 정리 시 NOT EXISTS 확인용
+    @Index(name = "idx_ai_estimates_component_set_id", columnList = "component_set_id")
+})
 @Getter
 @Setter
 @Builder
@@ -27,10 +32,20 @@ public class AiEstimate {
     private String intent;
     private String intro;
     private String note;
+
+    // 총액은 AiEstimateRepository.replaceComponentSet 으로 구성과 함께만 증감 (엔티티 flush 시 오래된 값으로 덮어쓰지 않도록 UPDATE 에서 제외)
+    @Column(updatable = false)
     private Long totalPrice;
 
+    // 부품 구성 (같은 구성을 가진 견적끼리 공유, null 이면 아직 옮기지 않은 레거시 견적)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "component_set_id")
+    private AiComponentSet componentSet;
+
+    // 레거시: 견적별로 복사해 두던 부품 행 (AiComponentSetService 가 구성으로 옮긴 뒤 삭제)
     @OneToMany(mappedBy = "aiEstimate", cascade = CascadeType.ALL)
     private List<AiEstimateProduct> products = new ArrayList<>();
 
+    @Column(name = "created_at")
     private LocalDateTime createdAt;
 }
\ No newline at end of file
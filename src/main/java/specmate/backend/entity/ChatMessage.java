@@ -8,7 +8,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+    @Index(name = "idx_chat_messages_room_id_id", columnList = "chat_room_id, id")
+}, uniqueConstraints = {
+    // 월별 파티션 테이블에서는 유니크 제약에 파티션 키(created_at)가 포함되어야 함
+    @UniqueConstraint(name = "uk_chat_messages_message_key_created_at", columnNames = {"message_key", "created_at"})
+})
 @Getter
 @Setter
 @Builder
@@ -35,7 +40,12 @@ public class ChatMessage {
 
     private Long relatedEstimateId;
 
+    // 메시지 멱등 키 (Write-behind 재전송 시 중복 저장 방지, created_at 과 함께 유니크)
+    @Column(name = "message_key", length = 36)
+    private String messageKey;
+
     @CreatedDate
+    @Column(name = "created_at")
     private LocalDateTime createdAt;
 
     // 내부 Enum 정의
@@ -1,10 +1,13 @@
 package specmate.backend.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
@@ -13,15 +16,20 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name = "chat_rooms")
+@Table(name = "chat_rooms", indexes = {
+    @Index(name = "idx_chat_rooms_user_id_updated_at", columnList = "user_id, updated_at")
+})
 @Getter
 @Setter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@DynamicUpdate // 요약 컬럼은 원자적 UPDATE 로만 갱신되므로, 엔티티 저장 시 변경된 컬럼만 쓰도록
 @EntityListeners(AuditingEntityListener.class)
 public class ChatRoom {
 
+    public static final int PREVIEW_LENGTH = 100;
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
@@ -33,12 +41,36 @@ public class ChatRoom {
     private String title;
 
     @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL)
-    @JsonIgnoreProperties("chatRoom")
+    @JsonIgnore
     private List<ChatMessage> messages = new ArrayList<>();
 
+    // 채팅방 목록용 요약 (메시지 저장 시 ChatRoomRepository.applyNewMessages 로 갱신)
+    @Column(name = "last_message_preview", length = PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @ColumnDefault("0")
+    @Column(name = "message_count", nullable = false)
+    private long messageCount;
+
+    // 메시지가 chat_room_archives 로 옮겨진 상태 (조회 시 자동 복원)
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean archived;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+
+    /** 목록 미리보기용으로 메시지 앞부분만 자름 */
+    public static String previewOf(String content) {
+        if (content == null) {
+            return "";
+        }
+        return content.length() <= PREVIEW_LENGTH ? content : content.substring(0, PREVIEW_LENGTH);
+    }
+}
@@ -0,0 +1,37 @@
+package specmate.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래 활동이 없는 채팅방의 메시지 보관본
+ * - payload: 메시지 목록 JSON 을 bzip2 로 압축한 값 (ChatArchiveCodec)
+ * - 채팅방에 다시 접근하면 chat_messages 로 복원 후 삭제된다.
+ */
+@Entity
+@Table(name = "chat_room_archives")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatRoomArchive {
+
+    @Id
+    @Column(name = "chat_room_id")
+    private Long chatRoomId;
+
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] payload;
+
+    private int messageCount;
+
+    // 압축 전 크기 (압축률 확인용)
+    private long originalBytes;
+
+    private LocalDateTime firstMessageAt;
+    private LocalDateTime lastMessageAt;
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,66 @@
+package specmate.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 견적 목록 카드용 요약 (읽기 모델)
+ * - 사용자/AI 견적을 편집하는 트랜잭션 안에서 EstimateSummaryService 가 함께 갱신
+ * - 목록은 (user_id, kind, created_at, id) 인덱스 범위만 읽고 부품 행은 읽지 않음
+ */
+@Entity
+@Table(name = "estimate_summaries", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_estimate_summaries_kind_estimate_id", columnNames = {"kind", "estimate_id"})
+}, indexes = {
+    @Index(name = "idx_estimate_summaries_user_id_kind_created_at", columnList = "user_id, kind, created_at, id")
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EstimateSummary {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Kind kind;
+
+    // 사용자 견적 UUID 또는 AI 견적 id(문자열)
+    @Column(name = "estimate_id", nullable = false, length = 36)
+    private String estimateId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    private Long chatRoomId; // AI 견적만
+    private String intent;   // AI 견적만
+
+    @Column(columnDefinition = "TEXT")
+    private String title; // 사용자 견적 제목 / AI 견적 소개글
+
+    private String description;
+
+    private Long totalPrice;
+    private Long priceChangedSinceSaved;
+    private Integer partCount;
+    private String cpuName;
+    private String gpuName;
+
+    @Column(columnDefinition = "TEXT")
+    private String thumbnail;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum Kind {
+        USER, AI
+    }
+}
@@ -34,7 +34,8 @@ public class UserEstimate {
 
     private String description;
 
-    @Column(name = "total_price")
+    // 총액은 UserEstimateRepository.addToTotalPrice 로만 증감 (엔티티 flush 시 오래된 값으로 덮어쓰지 않도록 UPDATE 에서 제외)
+    @Column(name = "total_price", updatable = false)
     private Long totalPrice;
 
     @CreatedDate
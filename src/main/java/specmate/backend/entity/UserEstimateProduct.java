@@ -10,7 +10,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_estimate_products")
+@Table(name = "user_estimate_products", indexes = {
+    // 제품 → 견적 역색인 (가격 변경 시 해당 제품이 담긴 견적 부품만 id 순서로 재계산)
+    @Index(name = "idx_user_estimate_products_product_id", columnList = "product_id, id")
+})
 @Getter
 @Setter
 @Builder
@@ -44,6 +47,10 @@ public class UserEstimateProduct {
     @Column(nullable = false)
     private Long totalPrice;
 
+    // 사용자가 담을 당시 단가 (가격 변경 시 unitPrice 만 갱신, null 이면 담은 뒤 가격 변동 없음)
+    @Column(name = "saved_unit_price")
+    private Long savedUnitPrice;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -52,6 +59,14 @@ public class UserEstimateProduct {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /** 담은 뒤 가격 변동분 (수량 반영, 오르면 양수) */
+    public long getPriceDelta() {
+        long unit = unitPrice != null ? unitPrice : 0L;
+        long saved = savedUnitPrice != null ? savedUnitPrice : unit;
+        int qty = quantity != null ? quantity : 0;
+        return (unit - saved) * qty;
+    }
+
     public void calculateTotalPrice() {
         if (this.unitPrice != null && this.quantity != null) {
             this.totalPrice = this.unitPrice * this.quantity;
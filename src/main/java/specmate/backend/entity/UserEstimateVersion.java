@@ -0,0 +1,69 @@
+package specmate.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 견적 버전 (편집 1회 = 1버전)
+ * - 변경분(delta) 버전은 바뀐 부품 행만 저장하고 parent 로 이전 버전을 가리킴
+ * - 주기적으로 전체 부품을 담은 스냅샷 버전을 남겨, 어떤 버전이든 base 스냅샷 + 이후 변경분만 읽어 복원
+ */
+@Entity
+@Table(name = "user_estimate_versions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_user_estimate_versions_estimate_id_version_no", columnNames = {"user_estimate_id", "version_no"})
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserEstimateVersion {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 견적 삭제 시 DB 에서 함께 삭제
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_estimate_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private UserEstimate userEstimate;
+
+    @Column(name = "version_no", nullable = false)
+    private int versionNo;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private UserEstimateVersion parent;
+
+    // 스냅샷이면 전체 부품, 아니면 parent 대비 바뀐 부품(삭제는 removed=true)
+    @Column(nullable = false)
+    private boolean snapshot;
+
+    // 복원 시작점이 되는 스냅샷 버전 번호 (스냅샷이면 자기 자신)
+    @Column(name = "base_version_no", nullable = false)
+    private int baseVersionNo;
+
+    // base 스냅샷 이후 쌓인 변경분 행 수 (부품 수를 넘으면 다음 버전은 스냅샷)
+    @Column(name = "chain_lines", nullable = false)
+    private int chainLines;
+
+    @Column(name = "part_count", nullable = false)
+    private int partCount;
+
+    private Long totalPrice;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Reason reason;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public enum Reason {
+        BASELINE, ADD, REPLACE, REMOVE, BATCH, ADOPT, RESTORE
+    }
+}
@@ -0,0 +1,42 @@
+package specmate.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+@Entity
+@Table(name = "user_estimate_version_lines", indexes = {
+    @Index(name = "idx_user_estimate_version_lines_version_id", columnList = "version_id")
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserEstimateVersionLine {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "version_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private UserEstimateVersion version;
+
+    // 견적 부품(UserEstimateProduct) id, 버전 사이에서 같은 부품을 식별
+    @Column(name = "estimate_product_id", nullable = false, length = 36)
+    private String estimateProductId;
+
+    // 제품 삭제와 무관하게 이력을 남기도록 FK 없이 id 만 저장
+    private Long productId;
+
+    private String category;
+    private Integer quantity;
+    private Long unitPrice;
+    private Long totalPrice;
+
+    // 변경분 버전에서 parent 이후 삭제된 부품
+    @Column(nullable = false)
+    private boolean removed;
+}
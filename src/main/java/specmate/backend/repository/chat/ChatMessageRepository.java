@@ -1,12 +1,26 @@
 package specmate.backend.repository.chat;
 
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import specmate.backend.dto.chat.ChatMessageResponse;
 import specmate.backend.entity.ChatMessage;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    List<ChatMessage> findByChatRoomIdOrderByCreatedAtAsc(Long chatRoomId);
 
+    boolean existsByChatRoomId(Long chatRoomId);
+
+    /** 최신 메시지부터 (chat_room_id, id) 인덱스 역순 스캔 */
+    @Query("SELECT new specmate.backend.dto.chat.ChatMessageResponse(m.id, m.sender, m.type, m.content, m.relatedEstimateId, m.createdAt) " +
+        "FROM ChatMessage m WHERE m.chatRoom.id = :chatRoomId ORDER BY m.id DESC")
+    List<ChatMessageResponse> findLatestMessages(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
+
+    /** 커서(before) 이전 메시지 조회 */
+    @Query("SELECT new specmate.backend.dto.chat.ChatMessageResponse(m.id, m.sender, m.type, m.content, m.relatedEstimateId, m.createdAt) " +
+        "FROM ChatMessage m WHERE m.chatRoom.id = :chatRoomId AND m.id < :before ORDER BY m.id DESC")
+    List<ChatMessageResponse> findMessagesBefore(@Param("chatRoomId") Long chatRoomId, @Param("before") Long before, Pageable pageable);
 }
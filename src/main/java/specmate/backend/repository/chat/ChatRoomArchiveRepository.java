@@ -0,0 +1,9 @@
+package specmate.backend.repository.chat;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import specmate.backend.entity.ChatRoomArchive;
+
+@Repository
+public interface ChatRoomArchiveRepository extends JpaRepository<ChatRoomArchive, Long> {
+}
@@ -1,12 +1,81 @@
 package specmate.backend.repository.chat;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import specmate.backend.dto.chat.ChatRoomSummaryResponse;
 import specmate.backend.entity.ChatRoom;
 
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     List<ChatRoom> findByUserIdOrderByUpdatedAtDesc(String userId);
 
+    boolean existsByIdAndUserId(Long id, String userId);
+
+    // 권한 확인과 보관 여부를 한 번에 조회 (내 채팅방이 아니면 empty)
+    @Query("SELECT r.archived FROM ChatRoom r WHERE r.id = :id AND r.user.id = :userId")
+    Optional<Boolean> findArchivedByIdAndUserId(@Param("id") Long id, @Param("userId") String userId);
+
+    // 채팅방 목록 (요약 컬럼만 읽는 단일 쿼리, idx_chat_rooms_user_id_updated_at 사용)
+    @Query("SELECT new specmate.backend.dto.chat.ChatRoomSummaryResponse(" +
+           "r.id, r.title, r.lastMessagePreview, r.lastMessageAt, r.messageCount, r.createdAt, r.updatedAt) " +
+           "FROM ChatRoom r WHERE r.user.id = :userId ORDER BY r.updatedAt DESC")
+    List<ChatRoomSummaryResponse> findSummariesByUserId(@Param("userId") String userId);
+
+    /**
+     * 새 메시지 count 건 반영 (원자적 증가)
+     * 지연 저장 등으로 더 오래된 메시지가 늦게 반영돼도 최신 미리보기/시각을 덮어쓰지 않는다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE chat_rooms SET " +
+                   "message_count = message_count + :count, " +
+                   "last_message_preview = CASE WHEN last_message_at IS NULL OR last_message_at <= :at " +
+                   "THEN :preview ELSE last_message_preview END, " +
+                   "last_message_at = GREATEST(COALESCE(last_message_at, :at), :at), " +
+                   "updated_at = GREATEST(COALESCE(updated_at, :at), :at) " +
+                   "WHERE id = :roomId", nativeQuery = true)
+    int applyNewMessages(@Param("roomId") Long roomId, @Param("count") int count,
+                         @Param("preview") String preview, @Param("at") LocalDateTime at);
+
+    /**
+     * 마지막 메시지 시각/미리보기만 반영 (건수는 그대로)
+     * Write-behind 모드에서 방의 첫 메시지를 바로 표시해, 워커 반영 전에도 "대화가 시작된 방"으로 보이게 한다.
+     * 이후 워커가 같은 값으로 applyNewMessages 를 적용해도 결과는 같다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE chat_rooms SET " +
+                   "last_message_preview = CASE WHEN last_message_at IS NULL OR last_message_at <= :at " +
+                   "THEN :preview ELSE last_message_preview END, " +
+                   "last_message_at = GREATEST(COALESCE(last_message_at, :at), :at), " +
+                   "updated_at = GREATEST(COALESCE(updated_at, :at), :at) " +
+                   "WHERE id = :roomId", nativeQuery = true)
+    int touchLastMessage(@Param("roomId") Long roomId, @Param("preview") String preview, @Param("at") LocalDateTime at);
+
+    // 메시지가 있는데 요약이 없는 채팅방 id (id 순 키셋 페이지)
+    // 메시지 없는 방은 요약이 계속 비어 있으므로 (chat_room_id, id) 인덱스로 메시지 존재 여부를 확인해 제외
+    @Query(value = "SELECT r.id FROM chat_rooms r WHERE r.last_message_at IS NULL AND r.id > :afterId " +
+                   "AND EXISTS (SELECT 1 FROM chat_messages m WHERE m.chat_room_id = r.id) ORDER BY r.id LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findIdsWithoutSummary(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    // 요약 컬럼 추가 전의 채팅방 채우기 (주어진 방의 메시지만 (chat_room_id, id) 인덱스로 집계, 여러 번 실행해도 안전)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE chat_rooms r SET " +
+                   "message_count = s.cnt, last_message_at = s.created_at, " +
+                   "last_message_preview = LEFT(s.content, " + ChatRoom.PREVIEW_LENGTH + ") " +
+                   "FROM (SELECT DISTINCT ON (chat_room_id) chat_room_id, content, created_at, " +
+                   "COUNT(*) OVER (PARTITION BY chat_room_id) AS cnt " +
+                   "FROM chat_messages WHERE chat_room_id IN (:roomIds) ORDER BY chat_room_id, id DESC) s " +
+                   "WHERE r.id = s.chat_room_id AND r.last_message_at IS NULL", nativeQuery = true)
+    int backfillSummaries(@Param("roomIds") Collection<Long> roomIds);
 }
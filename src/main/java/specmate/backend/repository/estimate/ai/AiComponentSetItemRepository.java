@@ -0,0 +1,17 @@
+package specmate.backend.repository.estimate.ai;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import specmate.backend.entity.AiComponentSetItem;
+
+import java.util.List;
+
+public interface AiComponentSetItemRepository extends JpaRepository<AiComponentSetItem, Long> {
+
+    List<AiComponentSetItem> findByComponentSetIdOrderByPosition(Long componentSetId);
+
+    // 견적이 가리키는 구성의 부품 (견적 → 구성 → 부품을 한 번에)
+    @Query("SELECT i FROM AiEstimate e JOIN e.componentSet s JOIN s.items i WHERE e.id = :estimateId ORDER BY i.position")
+    List<AiComponentSetItem> findByEstimateId(@Param("estimateId") Long estimateId);
+}
@@ -0,0 +1,21 @@
+package specmate.backend.repository.estimate.ai;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import specmate.backend.entity.AiComponentSet;
+
+import java.time.LocalDateTime;
+
+public interface AiComponentSetRepository extends JpaRepository<AiComponentSet, Long> {
+
+    // 어떤 견적도 가리키지 않는 구성 정리 (부품 행은 FK ON DELETE CASCADE)
+    // - 방금 만들어져 아직 견적이 저장되지 않은 구성은 건드리지 않도록 createdBefore 이전 것만
+    @Modifying
+    @Query(value = "DELETE FROM ai_component_sets WHERE id IN (" +
+                   "SELECT s.id FROM ai_component_sets s WHERE s.created_at < :createdBefore " +
+                   "AND NOT EXISTS (SELECT 1 FROM ai_estimates e WHERE e.component_set_id = s.id) LIMIT :limit)",
+           nativeQuery = true)
+    int deleteUnreferenced(@Param("createdBefore") LocalDateTime createdBefore, @Param("limit") int limit);
+}
@@ -1,10 +1,23 @@
 package specmate.backend.repository.estimate.ai;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import specmate.backend.entity.AiEstimateProduct;
 
 import java.util.List;
 
 public interface AiEstimateProductRepository extends JpaRepository<AiEstimateProduct, Long> {
     List<AiEstimateProduct> findByAiEstimateId(Long aiEstimateId);
-}
\ No newline at end of file
+
+    // 삭제된 행 수 반환 (동시 삭제 시 한 쪽만 1 → 총액 차감도 한 번만)
+    @Modifying
+    @Query("DELETE FROM AiEstimateProduct p WHERE p.id = :id")
+    int deleteOneById(@Param("id") Long id);
+
+    // 레거시 부품 행 일괄 삭제 (부품 구성으로 옮긴 뒤)
+    @Modifying
+    @Query("DELETE FROM AiEstimateProduct p WHERE p.aiEstimate.id = :estimateId")
+    int deleteByAiEstimateId(@Param("estimateId") Long estimateId);
+}
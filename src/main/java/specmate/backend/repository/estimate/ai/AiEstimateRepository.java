@@ -1,8 +1,43 @@
 package specmate.backend.repository.estimate.ai;
 
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import specmate.backend.entity.AiComponentSet;
 import specmate.backend.entity.AiEstimate;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface AiEstimateRepository extends JpaRepository<AiEstimate, Long> {
 
+    // 견적 + 부품 구성 한 번에 조회 (user/chatRoom 은 id 만 쓰므로 프록시 그대로, 추가 조회 없음)
+    @Query("SELECT e FROM AiEstimate e LEFT JOIN FETCH e.componentSet s LEFT JOIN FETCH s.items WHERE e.id = :id")
+    Optional<AiEstimate> findWithComponentsById(@Param("id") Long id);
+
+    // 부품 편집용 행 잠금 (구성 교체는 읽고-바꾸고-쓰기라 같은 견적 편집끼리만 순서대로)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM AiEstimate e WHERE e.id = :id")
+    Optional<AiEstimate> findForUpdate(@Param("id") Long id);
+
+    // 사용자의 AI 견적 id (user_id 인덱스)
+    @Query("SELECT e.id FROM AiEstimate e WHERE e.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") String userId);
+
+    // 같은 구성을 가리키는 사용자 견적 (견적 id 없이 부품 id 만 받은 삭제 요청 처리용)
+    @Query("SELECT e.id FROM AiEstimate e WHERE e.user.id = :userId AND e.componentSet.id = :componentSetId")
+    List<Long> findIdsByUserIdAndComponentSetId(@Param("userId") String userId, @Param("componentSetId") Long componentSetId);
+
+    // 아직 부품 구성으로 옮기지 않은 레거시 견적 (afterId 이후, 옮기지 못한 견적을 건너뛰며 진행)
+    @Query("SELECT e.id FROM AiEstimate e WHERE e.componentSet IS NULL AND e.id > :afterId ORDER BY e.id")
+    List<Long> findIdsWithoutComponentSet(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 부품 구성 교체 + 총액 차액 반영
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AiEstimate e SET e.componentSet = :componentSet, e.totalPrice = COALESCE(e.totalPrice, 0) + :delta WHERE e.id = :id")
+    int replaceComponentSet(@Param("id") Long id, @Param("componentSet") AiComponentSet componentSet, @Param("delta") long delta);
 }
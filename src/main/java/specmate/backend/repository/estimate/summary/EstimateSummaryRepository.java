@@ -0,0 +1,39 @@
+package specmate.backend.repository.estimate.summary;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import specmate.backend.entity.EstimateSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EstimateSummaryRepository extends JpaRepository<EstimateSummary, Long> {
+
+    // 내 견적 카드 목록 (idx_estimate_summaries_user_id_kind_created_at 범위 스캔)
+    List<EstimateSummary> findByUserIdAndKindOrderByCreatedAtDescIdDesc(String userId, EstimateSummary.Kind kind);
+
+    @Query("SELECT s FROM EstimateSummary s WHERE s.userId = :userId AND s.kind = :kind " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<EstimateSummary> findLatest(@Param("userId") String userId, @Param("kind") EstimateSummary.Kind kind, Pageable pageable);
+
+    // 커서(createdAt, id) 이전 페이지
+    @Query("SELECT s FROM EstimateSummary s WHERE s.userId = :userId AND s.kind = :kind " +
+           "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<EstimateSummary> findBefore(@Param("userId") String userId,
+                                     @Param("kind") EstimateSummary.Kind kind,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EstimateSummary s WHERE s.kind = :kind AND s.estimateId = :estimateId")
+    int deleteByKindAndEstimateId(@Param("kind") EstimateSummary.Kind kind, @Param("estimateId") String estimateId);
+
+    @Modifying
+    @Query("DELETE FROM EstimateSummary s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") String userId);
+}
@@ -1,10 +1,54 @@
 package specmate.backend.repository.estimate.user;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import specmate.backend.entity.Product;
 import specmate.backend.entity.UserEstimateProduct;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface UserEstimateProductRepository extends JpaRepository<UserEstimateProduct, String> {
     List<UserEstimateProduct> findByUserEstimateId(String estimateId);
-}
\ No newline at end of file
+
+    // 견적 부품 + 제품 한 번에 조회 (응답 변환 시 제품별 추가 조회 방지)
+    @Query("SELECT p FROM UserEstimateProduct p JOIN FETCH p.product WHERE p.userEstimate.id = :estimateId")
+    List<UserEstimateProduct> findWithProductByUserEstimateId(@Param("estimateId") String estimateId);
+
+    @Query("SELECT p FROM UserEstimateProduct p JOIN FETCH p.product WHERE p.id = :id")
+    Optional<UserEstimateProduct> findWithProductById(@Param("id") String id);
+
+    // 일괄 편집 대상 부품 행 잠금 (id 순서로 잠가 일괄 편집끼리 교착 방지, 단건 교체/삭제는 커밋 후 최신 총액으로 재시도)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM UserEstimateProduct p WHERE p.userEstimate.id = :estimateId AND p.id IN :ids ORDER BY p.id")
+    List<UserEstimateProduct> findAllForUpdate(@Param("estimateId") String estimateId, @Param("ids") Collection<String> ids);
+
+    // 현재 저장된 부품 총액 (영속성 컨텍스트가 아닌 DB 최신 커밋 값)
+    @Query("SELECT p.totalPrice FROM UserEstimateProduct p WHERE p.id = :id")
+    Optional<Long> findTotalPriceById(@Param("id") String id);
+
+    // 부품 교체 (총액이 expectedTotal 그대로일 때만 → 동시 교체 시 차액 이중 반영 방지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserEstimateProduct p SET p.product = :product, p.category = :category, p.quantity = :quantity, " +
+           "p.unitPrice = :unitPrice, p.savedUnitPrice = :unitPrice, p.totalPrice = :totalPrice, p.updatedAt = :now " +
+           "WHERE p.id = :id AND p.totalPrice = :expectedTotal")
+    int replaceIfTotalMatches(@Param("id") String id,
+                              @Param("expectedTotal") Long expectedTotal,
+                              @Param("product") Product product,
+                              @Param("category") String category,
+                              @Param("quantity") Integer quantity,
+                              @Param("unitPrice") Long unitPrice,
+                              @Param("totalPrice") Long totalPrice,
+                              @Param("now") LocalDateTime now);
+
+    // 부품 삭제 (총액이 expectedTotal 그대로일 때만 → 동시 삭제/교체 시 차감 중복 방지)
+    @Modifying
+    @Query("DELETE FROM UserEstimateProduct p WHERE p.id = :id AND p.totalPrice = :expectedTotal")
+    int deleteIfTotalMatches(@Param("id") String id, @Param("expectedTotal") Long expectedTotal);
+}
@@ -1,10 +1,31 @@
 package specmate.backend.repository.estimate.user;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import specmate.backend.entity.UserEstimate;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface UserEstimateRepository extends JpaRepository<UserEstimate, String> {
     List<UserEstimate> findByUserId(String userId);
+
+    // 현재 저장된 견적 총액 (영속성 컨텍스트가 아닌 DB 값)
+    @Query("SELECT e.totalPrice FROM UserEstimate e WHERE e.id = :id")
+    Optional<Long> findTotalPriceById(@Param("id") String id);
+
+    // 첫 버전 기록끼리 직렬화하기 위한 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM UserEstimate e WHERE e.id = :id")
+    Optional<UserEstimate> findForUpdate(@Param("id") String id);
+
+    // 총액 원자적 증감 (읽고-더하고-쓰기 대신 DB 에서 한 번에 → 동시 수정 시 갱신 손실 없음)
+    @Modifying
+    @Query("UPDATE UserEstimate e SET e.totalPrice = COALESCE(e.totalPrice, 0) + :delta, e.updatedAt = :now WHERE e.id = :id")
+    int addToTotalPrice(@Param("id") String id, @Param("delta") long delta, @Param("now") LocalDateTime now);
 }
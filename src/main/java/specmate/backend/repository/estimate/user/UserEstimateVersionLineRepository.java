@@ -0,0 +1,19 @@
+package specmate.backend.repository.estimate.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import specmate.backend.entity.UserEstimateVersionLine;
+
+import java.util.List;
+
+public interface UserEstimateVersionLineRepository extends JpaRepository<UserEstimateVersionLine, Long> {
+
+    // base 스냅샷부터 대상 버전까지의 부품 행 (버전 순서대로 적용하면 대상 버전 상태)
+    @Query("SELECT l FROM UserEstimateVersionLine l JOIN FETCH l.version v " +
+           "WHERE v.userEstimate.id = :estimateId AND v.versionNo BETWEEN :fromVersionNo AND :toVersionNo " +
+           "ORDER BY v.versionNo, l.id")
+    List<UserEstimateVersionLine> findChain(@Param("estimateId") String estimateId,
+                                            @Param("fromVersionNo") int fromVersionNo,
+                                            @Param("toVersionNo") int toVersionNo);
+}
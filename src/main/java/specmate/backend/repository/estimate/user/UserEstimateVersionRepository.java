@@ -0,0 +1,25 @@
+package specmate.backend.repository.estimate.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import specmate.backend.entity.UserEstimateVersion;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserEstimateVersionRepository extends JpaRepository<UserEstimateVersion, Long> {
+
+    Optional<UserEstimateVersion> findFirstByUserEstimateIdOrderByVersionNoDesc(String estimateId);
+
+    boolean existsByUserEstimateId(String estimateId);
+
+    // 응답의 parentVersionNo 를 위해 parent 를 함께 조회
+    @Query("SELECT v FROM UserEstimateVersion v LEFT JOIN FETCH v.parent " +
+           "WHERE v.userEstimate.id = :estimateId AND v.versionNo = :versionNo")
+    Optional<UserEstimateVersion> findByUserEstimateIdAndVersionNo(@Param("estimateId") String estimateId, @Param("versionNo") int versionNo);
+
+    @Query("SELECT v FROM UserEstimateVersion v LEFT JOIN FETCH v.parent " +
+           "WHERE v.userEstimate.id = :estimateId ORDER BY v.versionNo DESC")
+    List<UserEstimateVersion> findByUserEstimateIdOrderByVersionNoDesc(@Param("estimateId") String estimateId);
+}
@@ -1,12 +1,16 @@
 package specmate.backend.repository.product;
 
 import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import specmate.backend.entity.Product;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> { // ID 타입 Long으로 변경
@@ -24,4 +28,19 @@ public interface ProductRepository extends JpaRepository<Product, Long> { // ID
     );
 
     Optional<Product> findByName(String name);
+
+    List<Product> findAllByNameIn(Collection<String> names);
+
+    // 견적에 담을 제품 가격 조회 (FOR SHARE, id 순)
+    // 담는 트랜잭션이 끝날 때까지 가격 변경이 기다리므로, 변경 후 재계산이 새로 담은 부품도 반드시 보게 된다.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<Product> findLockedById(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    List<Product> findLockedByIdInOrderById(Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    List<Product> findLockedByNameInOrderById(Collection<String> names);
+
+    List<Product> findAllByStatus(String status);
 }
\ No newline at end of file
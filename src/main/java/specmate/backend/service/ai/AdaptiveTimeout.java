@@ -0,0 +1,59 @@
+package specmate.backend.service.ai;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 분포 기반 타임아웃
+ * - timeout = clamp(p{percentile} * multiplier, min, max)
+ * - 표본이 부족하면 max 를 사용한다.
+ */
+public class AdaptiveTimeout {
+
+    private static final int MIN_SAMPLES = 20;
+
+    private final long[] samples;
+    private final double percentile;
+    private final double multiplier;
+    private final long minMillis;
+    private final long maxMillis;
+
+    private int index;
+    private int count;
+    private volatile long currentMillis;
+
+    public AdaptiveTimeout(int windowSize, double percentile, double multiplier, long minMillis, long maxMillis) {
+        this.samples = new long[windowSize];
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+        this.minMillis = minMillis;
+        this.maxMillis = maxMillis;
+        this.currentMillis = maxMillis;
+    }
+
+    public Duration current() {
+        return Duration.ofMillis(currentMillis);
+    }
+
+    /** 호출 소요 시간 기록 (타임아웃 난 호출은 타임아웃 값으로 기록해 점진적으로 늘어나게 함) */
+    public synchronized void record(long elapsedMillis) {
+        samples[index] = elapsedMillis;
+        index = (index + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (count >= MIN_SAMPLES) {
+            currentMillis = Math.min(Math.max((long) (percentile(percentile) * multiplier), minMillis), maxMillis);
+        }
+    }
+
+    public synchronized long percentile(double p) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(p * count) - 1;
+        return sorted[Math.min(Math.max(rank, 0), count - 1)];
+    }
+}
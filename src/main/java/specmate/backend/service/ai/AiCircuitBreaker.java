@@ -0,0 +1,126 @@
+package specmate.backend.service.ai;
+
+/**
+ * 최근 N 회 호출 결과 기반 서킷 브레이커
+ * - CLOSED: 실패율이 임계치를 넘으면 OPEN
+ * - OPEN: openMillis 동안 즉시 실패, 이후 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 halfOpenCalls 회가 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+public class AiCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final boolean[] window; // true = 실패
+    private final int minimumCalls;
+    private final int failureRateThreshold; // %
+    private final long openMillis;
+    private final int halfOpenCalls;
+
+    private State state = State.CLOSED;
+    private int index;
+    private int count;
+    private int failures;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public AiCircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, long openMillis, int halfOpenCalls) {
+        this.window = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMillis = openMillis;
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    /** 호출 가능 여부 (HALF_OPEN 이면 시험 호출 슬롯을 점유) */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMillis) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    /** 호출하지 않고 포기한 경우 점유한 시험 호출 슬롯 반환 */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight > 0) {
+                halfOpenInFlight--;
+            }
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (count >= minimumCalls && failures * 100 >= failureRateThreshold * count) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        // OPEN 유지 시간이 지났으면 다음 호출에서 HALF_OPEN 으로 전환됨
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return count == 0 ? 0.0 : (double) failures / count;
+    }
+
+    private void record(boolean failed) {
+        if (count == window.length) {
+            if (window[index]) {
+                failures--;
+            }
+        } else {
+            count++;
+        }
+        window[index] = failed;
+        if (failed) {
+            failures++;
+        }
+        index = (index + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+        }
+        if (next == State.CLOSED) {
+            index = 0;
+            count = 0;
+            failures = 0;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package specmate.backend.service.ai;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import specmate.backend.dto.ai.AiRequest;
+import specmate.backend.dto.ai.AiResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * FastAPI AI 서버 호출 클라이언트
+ * - 다중 엔드포인트: ai.server.url 에 콤마로 여러 인스턴스 지정, (진행 중 요청 수 x EWMA 응답 시간)이 낮은 쪽으로 분산
+ *   연속 실패한 인스턴스는 일정 시간 제외 (passive health check)
+ * - 서킷 브레이커: AI 서버 장애 시 즉시 안내 메시지 반환
+ * - 벌크헤드: 동시 호출 수 제한 (채팅이 DB 커넥션/스레드를 독점하지 않도록)
+ * - 적응형 타임아웃: 최근 응답 시간 분포에 맞춰 타임아웃 조정
+ * - 상태는 Micrometer 메트릭(ai.client.*)으로 노출
+ */
+@Slf4j
+@Component
+public class AiServerClient {
+
+    private static final String CIRCUIT_OPEN_MESSAGE = "AI 상담 서버가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.";
+    private static final String BUSY_MESSAGE = "상담 요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.";
+    private static final String TIMEOUT_MESSAGE = "AI 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.";
+    private static final String FAILURE_MESSAGE = "죄송합니다. AI 서버 연결에 실패했습니다.";
+
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final List<AiServerEndpoint> endpoints;
+    private final AiCircuitBreaker circuitBreaker;
+    private final AdaptiveTimeout adaptiveTimeout;
+    private final Semaphore bulkhead;
+    private final Timer latencyTimer;
+
+    @Value("${ai.client.bulkhead.max-wait-ms}")
+    private long bulkheadMaxWaitMs;
+
+    public AiServerClient(
+        WebClient webClient,
+        MeterRegistry meterRegistry,
+        @Value("${ai.server.url}") String aiServerUrls,
+        @Value("${ai.client.endpoint.eject-consecutive-failures}") int ejectConsecutiveFailures,
+        @Value("${ai.client.endpoint.eject-seconds}") long ejectSeconds,
+        @Value("${ai.client.bulkhead.max-concurrent}") int maxConcurrent,
+        @Value("${ai.client.circuit.window-size}") int windowSize,
+        @Value("${ai.client.circuit.minimum-calls}") int minimumCalls,
+        @Value("${ai.client.circuit.failure-rate-threshold}") int failureRateThreshold,
+        @Value("${ai.client.circuit.open-seconds}") long openSeconds,
+        @Value("${ai.client.circuit.half-open-calls}") int halfOpenCalls,
+        @Value("${ai.client.timeout.percentile}") double timeoutPercentile,
+        @Value("${ai.client.timeout.multiplier}") double timeoutMultiplier,
+        @Value("${ai.client.timeout.min-ms}") long minTimeoutMs,
+        @Value("${ai.client.timeout.max-ms}") long maxTimeoutMs) {
+
+        this.webClient = webClient;
+        this.meterRegistry = meterRegistry;
+        this.endpoints = Arrays.stream(aiServerUrls.split(","))
+            .map(String::trim)
+            .filter(url -> !url.isEmpty())
+            .map(url -> new AiServerEndpoint(url.replaceAll("/+$", ""), ejectConsecutiveFailures, ejectSeconds * 1000))
+            .toList();
+        this.circuitBreaker = new AiCircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openSeconds * 1000, halfOpenCalls);
+        this.adaptiveTimeout = new AdaptiveTimeout(200, timeoutPercentile, timeoutMultiplier, minTimeoutMs, maxTimeoutMs);
+        this.bulkhead = new Semaphore(maxConcurrent, true);
+
+        Gauge.builder("ai.client.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+            .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+            .register(meterRegistry);
+        Gauge.builder("ai.client.circuit.failure.rate", circuitBreaker, AiCircuitBreaker::getFailureRate)
+            .register(meterRegistry);
+        Gauge.builder("ai.client.bulkhead.available", bulkhead, Semaphore::availablePermits)
+            .register(meterRegistry);
+        Gauge.builder("ai.client.timeout", adaptiveTimeout, t -> t.current().toMillis())
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        for (AiServerEndpoint endpoint : endpoints) {
+            Gauge.builder("ai.client.endpoint.outstanding", endpoint, AiServerEndpoint::getOutstanding)
+                .tag("endpoint", endpoint.getUrl())
+                .register(meterRegistry);
+            Gauge.builder("ai.client.endpoint.latency.ewma", endpoint, AiServerEndpoint::getEwmaLatencyMs)
+                .tag("endpoint", endpoint.getUrl())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+            Gauge.builder("ai.client.endpoint.ejected", endpoint, e -> e.isEjected() ? 1 : 0)
+                .tag("endpoint", endpoint.getUrl())
+                .register(meterRegistry);
+        }
+        this.latencyTimer = Timer.builder("ai.client.latency")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+
+    /** /chat/message 호출. 실패 시 사용자 안내 문구를 담은 AiServerUnavailableException */
+    public AiResponse sendMessage(AiRequest request) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            count("short_circuited");
+            throw new AiServerUnavailableException(CIRCUIT_OPEN_MESSAGE);
+        }
+
+        if (!acquireBulkhead()) {
+            circuitBreaker.releasePermission();
+            count("rejected");
+            throw new AiServerUnavailableException(BUSY_MESSAGE);
+        }
+
+        long timeoutMs = adaptiveTimeout.current().toMillis();
+        long start = System.nanoTime();
+        try {
+            AiResponse response = call(select(), request, timeoutMs).block();
+
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            adaptiveTimeout.record(elapsedMs);
+            latencyTimer.record(elapsedMs, TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess();
+            count("success");
+            return response;
+        } catch (Exception e) {
+            Throwable cause = Exceptions.unwrap(e);
+
+            if (isTimeout(cause)) {
+                adaptiveTimeout.record(timeoutMs);
+                circuitBreaker.onFailure();
+                count("timeout");
+                log.warn("AI Server timeout after {} ms", timeoutMs);
+                throw new AiServerUnavailableException(TIMEOUT_MESSAGE, cause);
+            }
+
+            // 4xx 는 요청 문제이므로 서버 장애로 집계하지 않음
+            if (isClientError(cause)) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+            count("failure");
+            log.error("AI Server Error", cause);
+            throw new AiServerUnavailableException(FAILURE_MESSAGE, cause);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public AiCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /** 인스턴스 하나 호출 (진행 중 요청 수와 응답 시간/실패를 인스턴스별로 기록) */
+    private Mono<AiResponse> call(AiServerEndpoint endpoint, AiRequest request, long timeoutMs) {
+        return Mono.defer(() -> {
+            endpoint.onStart();
+            long start = System.nanoTime();
+            return webClient.post()
+                .uri(endpoint.getUrl() + "/chat/message")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(AiResponse.class)
+                .timeout(Duration.ofMillis(timeoutMs))
+                .doOnSuccess(response -> endpoint.onSuccess(elapsedMs(start)))
+                .doOnError(error -> {
+                    if (isClientError(error)) {
+                        endpoint.onSuccess(elapsedMs(start));
+                    } else {
+                        endpoint.onFailure(error instanceof TimeoutException ? timeoutMs : elapsedMs(start));
+                    }
+                })
+                .doFinally(signal -> endpoint.onFinish());
+        });
+    }
+
+    /**
+     * Power of two choices: 제외되지 않은 인스턴스 중 임의의 둘을 골라 점수가 낮은 쪽 선택
+     * 모두 제외 상태면 제외 여부와 무관하게 선택 (전체 차단보다 시도하는 편이 나음)
+     */
+    private AiServerEndpoint select() {
+        List<AiServerEndpoint> candidates = new ArrayList<>(endpoints.size());
+        for (AiServerEndpoint endpoint : endpoints) {
+            if (!endpoint.isEjected()) {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            candidates.addAll(endpoints);
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int a = random.nextInt(candidates.size());
+        int b = random.nextInt(candidates.size() - 1);
+        if (b >= a) {
+            b++;
+        }
+        AiServerEndpoint first = candidates.get(a);
+        AiServerEndpoint second = candidates.get(b);
+        return first.score() <= second.score() ? first : second;
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadMaxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        return error instanceof TimeoutException;
+    }
+
+    private static boolean isClientError(Throwable error) {
+        return error instanceof WebClientResponseException ex && ex.getStatusCode().is4xxClientError();
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("ai.client.calls", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,82 @@
+package specmate.backend.service.ai;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 서버 인스턴스 하나의 부하/상태
+ * - outstanding: 진행 중인 요청 수
+ * - EWMA 응답 시간: 최근 응답일수록 가중치가 큰 평균 (타임아웃은 타임아웃 값으로 반영)
+ * - 연속 실패가 임계치를 넘으면 일정 시간 선택 대상에서 제외 (제외 시간은 반복될수록 2배, 최대 5분)
+ */
+public class AiServerEndpoint {
+
+    private static final double EWMA_ALPHA = 0.3;
+    private static final long MAX_EJECT_MILLIS = 5 * 60 * 1000L;
+
+    private final String url;
+    private final int ejectConsecutiveFailures;
+    private final long baseEjectMillis;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private volatile double ewmaLatencyMs = 1.0;
+    private volatile long ejectedUntil;
+    private int consecutiveFailures;
+    private int ejections;
+
+    public AiServerEndpoint(String url, int ejectConsecutiveFailures, long baseEjectMillis) {
+        this.url = url;
+        this.ejectConsecutiveFailures = ejectConsecutiveFailures;
+        this.baseEjectMillis = baseEjectMillis;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public double getEwmaLatencyMs() {
+        return ewmaLatencyMs;
+    }
+
+    public boolean isEjected() {
+        return System.currentTimeMillis() < ejectedUntil;
+    }
+
+    /** 낮을수록 선호 (진행 중 요청이 많거나 느린 인스턴스는 불리) */
+    public double score() {
+        return (outstanding.get() + 1) * ewmaLatencyMs;
+    }
+
+    public void onStart() {
+        outstanding.incrementAndGet();
+    }
+
+    public void onFinish() {
+        outstanding.decrementAndGet();
+    }
+
+    public synchronized void onSuccess(long elapsedMs) {
+        updateLatency(elapsedMs);
+        consecutiveFailures = 0;
+        ejections = 0;
+    }
+
+    public synchronized void onFailure(long elapsedMs) {
+        updateLatency(elapsedMs);
+        if (++consecutiveFailures >= ejectConsecutiveFailures) {
+            long ejectMillis = Math.min(baseEjectMillis << Math.min(ejections, 10), MAX_EJECT_MILLIS);
+            ejectedUntil = System.currentTimeMillis() + ejectMillis;
+            ejections++;
+            consecutiveFailures = 0;
+        }
+    }
+
+    private void updateLatency(long elapsedMs) {
+        ewmaLatencyMs = ewmaLatencyMs <= 1.0
+            ? Math.max(elapsedMs, 1)
+            : EWMA_ALPHA * elapsedMs + (1 - EWMA_ALPHA) * ewmaLatencyMs;
+    }
+}
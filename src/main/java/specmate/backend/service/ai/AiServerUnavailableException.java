@@ -0,0 +1,15 @@
+package specmate.backend.service.ai;
+
+/**
+ * AI 서버 호출 실패 (메시지는 사용자에게 그대로 보여줄 안내 문구)
+ */
+public class AiServerUnavailableException extends RuntimeException {
+
+    public AiServerUnavailableException(String message) {
+        super(message);
+    }
+
+    public AiServerUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,80 @@
+package specmate.backend.service.ai.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 외부 호출 없는 로컬 임베딩 (문자 n-gram feature hashing)
+ * - 공백/문장부호 차이, 어미 변화 정도의 변형 문장이 높은 유사도를 갖도록 문자 2~3-gram 과 단어를 사용
+ * - 결과 벡터는 L2 정규화되어 내적 = 코사인 유사도
+ */
+public class HashingTextEmbedder {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}\\s]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern KEY_TOKEN = Pattern.compile("[a-z0-9]+");
+
+    private final int dimensions;
+
+    public HashingTextEmbedder(int dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    public float[] embed(String text) {
+        float[] vector = new float[dimensions];
+        String normalized = normalize(text);
+        String compact = normalized.replace(" ", "");
+
+        for (int n = 2; n <= 3; n++) {
+            for (int i = 0; i + n <= compact.length(); i++) {
+                addFeature(vector, compact.substring(i, i + n), 1.0f);
+            }
+        }
+        for (String word : normalized.split(" ")) {
+            if (!word.isEmpty()) {
+                addFeature(vector, "w:" + word, 0.5f);
+            }
+        }
+
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        if (norm > 0) {
+            float inverse = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] *= inverse;
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * 문장에 포함된 숫자/영문 토큰 목록 (예: 100, cpu, rtx4070)
+     * 예산이나 부품명만 다른 문장은 문자 n-gram 상으로는 가깝지만 같은 질문이 아니므로 별도로 비교한다.
+     */
+    public List<String> keyTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = KEY_TOKEN.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        return tokens;
+    }
+
+    private String normalize(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        String cleaned = NON_WORD.matcher(lower).replaceAll(" ");
+        return WHITESPACE.matcher(cleaned).replaceAll(" ").trim();
+    }
+
+    private void addFeature(float[] vector, String feature, float weight) {
+        int hash = feature.hashCode();
+        int bucket = Math.floorMod(hash, dimensions);
+        // 부호 해싱으로 충돌 편향 상쇄
+        vector[bucket] += ((hash >>> 31) == 0) ? weight : -weight;
+    }
+}
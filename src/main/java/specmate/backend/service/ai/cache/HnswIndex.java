@@ -0,0 +1,230 @@
+package specmate.backend.service.ai.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 코사인 유사도 기반 HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스
+ * - 벡터는 L2 정규화되어 있다고 가정 (유사도 = 내적)
+ * - 삭제는 tombstone 처리 (탐색 경로로는 계속 사용, 결과에서만 제외)
+ * - 스레드 안전하지 않음 → 호출 측에서 동기화
+ */
+public class HnswIndex {
+
+    private static final class Node {
+        final int id;
+        final float[] vector;
+        final List<List<Integer>> neighbors; // level 별 이웃 노드 index
+        boolean deleted;
+
+        Node(int id, float[] vector, int level) {
+            this.id = id;
+            this.vector = vector;
+            this.neighbors = new ArrayList<>(level + 1);
+            for (int i = 0; i <= level; i++) {
+                neighbors.add(new ArrayList<>());
+            }
+        }
+
+        int level() {
+            return neighbors.size() - 1;
+        }
+    }
+
+    /** 검색 결과 (id, 유사도) */
+    public record Match(int id, double similarity) {
+    }
+
+    private record Candidate(int node, double distance) {
+    }
+
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double levelMultiplier;
+    private final Random random = new Random(42);
+
+    private final List<Node> nodes = new ArrayList<>();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int deletedCount;
+
+    public HnswIndex(int m, int efConstruction, int efSearch) {
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.levelMultiplier = 1 / Math.log(m);
+    }
+
+    public int size() {
+        return nodes.size() - deletedCount;
+    }
+
+    public int deletedCount() {
+        return deletedCount;
+    }
+
+    /** 벡터 추가 후 내부 노드 번호 반환 */
+    public int add(int id, float[] vector) {
+        int level = (int) Math.floor(-Math.log(1 - random.nextDouble()) * levelMultiplier);
+        int index = nodes.size();
+        Node node = new Node(id, vector, level);
+        nodes.add(node);
+
+        if (entryPoint < 0) {
+            entryPoint = index;
+            maxLevel = level;
+            return index;
+        }
+
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedyClosest(vector, current, l);
+        }
+
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Candidate> candidates = searchLayer(vector, current, efConstruction, l);
+            int maxNeighbors = l == 0 ? maxM0 : m;
+            List<Integer> selected = closest(candidates, m);
+            node.neighbors.get(l).addAll(selected);
+
+            for (int neighbor : selected) {
+                List<Integer> links = nodes.get(neighbor).neighbors.get(l);
+                links.add(index);
+                if (links.size() > maxNeighbors) {
+                    prune(nodes.get(neighbor), l, maxNeighbors);
+                }
+            }
+            current = candidates.get(0).node();
+        }
+
+        if (level > maxLevel) {
+            entryPoint = index;
+            maxLevel = level;
+        }
+        return index;
+    }
+
+    public void markDeleted(int index) {
+        Node node = nodes.get(index);
+        if (!node.deleted) {
+            node.deleted = true;
+            deletedCount++;
+        }
+    }
+
+    /** 유사도 높은 순 최대 k 개 (삭제된 노드 제외) */
+    public List<Match> search(float[] query, int k) {
+        List<Match> matches = new ArrayList<>();
+        if (entryPoint < 0) {
+            return matches;
+        }
+
+        int current = entryPoint;
+        for (int l = maxLevel; l > 0; l--) {
+            current = greedyClosest(query, current, l);
+        }
+
+        for (Candidate candidate : searchLayer(query, current, Math.max(efSearch, k), 0)) {
+            Node node = nodes.get(candidate.node());
+            if (node.deleted) {
+                continue;
+            }
+            matches.add(new Match(node.id, 1 - candidate.distance()));
+            if (matches.size() == k) {
+                break;
+            }
+        }
+        return matches;
+    }
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        double currentDistance = distance(query, nodes.get(current).vector);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int neighbor : nodes.get(current).neighbors.get(level)) {
+                double d = distance(query, nodes.get(neighbor).vector);
+                if (d < currentDistance) {
+                    currentDistance = d;
+                    current = neighbor;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /** 가까운 순으로 정렬된 최대 ef 개 후보 */
+    private List<Candidate> searchLayer(float[] query, int start, int ef, int level) {
+        Set<Integer> visited = new HashSet<>();
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance));
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance).reversed());
+
+        Candidate first = new Candidate(start, distance(query, nodes.get(start).vector));
+        visited.add(start);
+        candidates.add(first);
+        results.add(first);
+
+        while (!candidates.isEmpty()) {
+            Candidate closest = candidates.poll();
+            if (closest.distance() > results.peek().distance() && results.size() >= ef) {
+                break;
+            }
+            for (int neighbor : nodes.get(closest.node()).neighbors.get(level)) {
+                if (!visited.add(neighbor)) {
+                    continue;
+                }
+                double d = distance(query, nodes.get(neighbor).vector);
+                if (results.size() < ef || d < results.peek().distance()) {
+                    Candidate candidate = new Candidate(neighbor, d);
+                    candidates.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingDouble(Candidate::distance));
+        return sorted;
+    }
+
+    private List<Integer> closest(List<Candidate> sortedCandidates, int count) {
+        List<Integer> selected = new ArrayList<>(count);
+        for (Candidate candidate : sortedCandidates) {
+            selected.add(candidate.node());
+            if (selected.size() == count) {
+                break;
+            }
+        }
+        return selected;
+    }
+
+    private void prune(Node node, int level, int maxNeighbors) {
+        List<Candidate> links = new ArrayList<>();
+        for (int neighbor : node.neighbors.get(level)) {
+            links.add(new Candidate(neighbor, distance(node.vector, nodes.get(neighbor).vector)));
+        }
+        links.sort(Comparator.comparingDouble(Candidate::distance));
+        node.neighbors.set(level, closest(links, maxNeighbors));
+    }
+
+    private static double distance(float[] a, float[] b) {
+        double dot = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return 1 - dot;
+    }
+}
@@ -0,0 +1,194 @@
+package specmate.backend.service.ai.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import specmate.backend.dto.ai.AiResponse;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI 채팅 응답 의미 기반 캐시 (인스턴스 로컬)
+ * - 질문을 로컬 임베딩 후 HNSW 인덱스에서 최근접 질문을 찾아 유사도가 임계치 이상이면 캐시된 답변 반환
+ * - 스레드 상태에 의존하지 않는 첫 턴, 견적(build/modify)이 아닌 답변만 대상 → 호출 측에서 제한
+ * - LRU(max-entries) + TTL 만료, 삭제 노드가 많아지면 인덱스 재구성
+ * - 적중률과 절약한 AI 응답 시간은 ai.semantic.cache.* 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class SemanticResponseCache {
+
+    private static final int HNSW_M = 16;
+    private static final int HNSW_EF_CONSTRUCTION = 100;
+    private static final int HNSW_EF_SEARCH = 50;
+
+    private record Entry(int index, String question, List<String> keyTokens, AiResponse response, long aiLatencyMs, long expiresAt) {
+    }
+
+    private final HashingTextEmbedder embedder;
+    private final LinkedHashMap<Integer, Entry> entries = new LinkedHashMap<>(16, 0.75f, true); // access-order = LRU
+    private HnswIndex index = newIndex();
+    private int nextId;
+
+    private final boolean enabled;
+    private final double similarityThreshold;
+    private final int maxEntries;
+    private final Duration ttl;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter latencySavedMs;
+
+    public SemanticResponseCache(
+        MeterRegistry meterRegistry,
+        @Value("${ai.semantic-cache.enabled}") boolean enabled,
+        @Value("${ai.semantic-cache.similarity-threshold}") double similarityThreshold,
+        @Value("${ai.semantic-cache.max-entries}") int maxEntries,
+        @Value("${ai.semantic-cache.ttl-minutes}") long ttlMinutes,
+        @Value("${ai.semantic-cache.dimensions}") int dimensions) {
+
+        this.embedder = new HashingTextEmbedder(dimensions);
+        this.enabled = enabled;
+        this.similarityThreshold = similarityThreshold;
+        this.maxEntries = maxEntries;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+
+        this.hits = meterRegistry.counter("ai.semantic.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("ai.semantic.cache.requests", "result", "miss");
+        this.latencySavedMs = Counter.builder("ai.semantic.cache.latency.saved")
+            .baseUnit("milliseconds")
+            .description("캐시 적중으로 생략된 AI 서버 응답 시간 합")
+            .register(meterRegistry);
+        Gauge.builder("ai.semantic.cache.hit.rate", this, SemanticResponseCache::hitRate).register(meterRegistry);
+        Gauge.builder("ai.semantic.cache.size", this, SemanticResponseCache::size).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 유사 질문의 캐시된 응답 (복사본). 미스면 null */
+    public AiResponse get(String question) {
+        if (!enabled || question == null || question.isBlank()) {
+            return null;
+        }
+
+        float[] vector = embedder.embed(question);
+        List<String> keyTokens = embedder.keyTokens(question);
+
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            for (HnswIndex.Match match : index.search(vector, 5)) {
+                if (match.similarity() < similarityThreshold) {
+                    break;
+                }
+                Entry entry = entries.get(match.id()); // LRU 갱신
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.expiresAt() < now) {
+                    remove(match.id());
+                    continue;
+                }
+                if (!entry.keyTokens().equals(keyTokens)) {
+                    continue;
+                }
+
+                hits.increment();
+                latencySavedMs.increment(entry.aiLatencyMs());
+                log.debug("Semantic cache hit (similarity={}): '{}' ~ '{}'", match.similarity(), question, entry.question());
+                return copy(entry.response());
+            }
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /** AI 응답 저장 (aiLatencyMs: 원래 AI 서버 응답 시간, 적중 시 절약 시간으로 집계) */
+    public void put(String question, AiResponse response, long aiLatencyMs) {
+        if (!enabled || question == null || question.isBlank()) {
+            return;
+        }
+
+        float[] vector = embedder.embed(question);
+        List<String> keyTokens = embedder.keyTokens(question);
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+
+        synchronized (this) {
+            int id = nextId++;
+            int node = index.add(id, vector);
+            entries.put(id, new Entry(node, question, keyTokens, copy(response), aiLatencyMs, expiresAt));
+
+            evictIfNecessary();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public double hitRate() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    private void evictIfNecessary() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<Integer, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Entry> eldest = it.next();
+            if (entries.size() <= maxEntries && eldest.getValue().expiresAt() >= now) {
+                break;
+            }
+            index.markDeleted(eldest.getValue().index());
+            it.remove();
+        }
+
+        // tombstone 이 살아있는 노드보다 많아지면 인덱스 재구성
+        if (index.deletedCount() > Math.max(index.size(), 1000)) {
+            rebuildIndex();
+        }
+    }
+
+    private void remove(int id) {
+        Entry entry = entries.remove(id);
+        if (entry != null) {
+            index.markDeleted(entry.index());
+        }
+    }
+
+    private void rebuildIndex() {
+        HnswIndex rebuilt = newIndex();
+        for (Map.Entry<Integer, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            int node = rebuilt.add(e.getKey(), embedder.embed(entry.question()));
+            e.setValue(new Entry(node, entry.question(), entry.keyTokens(), entry.response(), entry.aiLatencyMs(), entry.expiresAt()));
+        }
+        index = rebuilt;
+        log.info("Semantic cache index rebuilt ({} entries)", entries.size());
+    }
+
+    private static HnswIndex newIndex() {
+        return new HnswIndex(HNSW_M, HNSW_EF_CONSTRUCTION, HNSW_EF_SEARCH);
+    }
+
+    private static AiResponse copy(AiResponse source) {
+        AiResponse copy = new AiResponse();
+        copy.setReply(source.getReply());
+        copy.setIntent(source.getIntent());
+        copy.setIntro(source.getIntro());
+        copy.setNote(source.getNote());
+        copy.setAnotherInputText(source.getAnotherInputText());
+        copy.setTotal(source.getTotal());
+        copy.setMain(source.getMain());
+        return copy;
+    }
+}
@@ -0,0 +1,10 @@
+package specmate.backend.service.ai.intent;
+
+/**
+ * 채팅 메시지 사전 분류기 (AI 서버 호출 전, 프로세스 내에서 1ms 이내로 실행되어야 함)
+ * IntentClassifier 빈을 직접 등록하면 ai.intent.classifier 설정 대신 그 빈을 사용한다.
+ */
+public interface IntentClassifier {
+
+    IntentPrediction classify(String message);
+}
@@ -0,0 +1,12 @@
+package specmate.backend.service.ai.intent;
+
+/**
+ * @param confidence 0~1, 규칙 기반 분류기는 규칙에 걸리면 1
+ * @param topic      PART_INFO 일 때 부품 종류 (PartCatalog 키), 그 외 null
+ */
+public record IntentPrediction(LocalIntent intent, double confidence, String topic) {
+
+    public static IntentPrediction consult() {
+        return new IntentPrediction(LocalIntent.CONSULT, 1.0, null);
+    }
+}
@@ -0,0 +1,87 @@
+package specmate.backend.service.ai.intent;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 규칙 기반 사전 분류기 (기본값)
+ * 짧은 인사/감사, "OO가 뭐야" 형태의 부품 설명 질문만 로컬로 분류하고 나머지는 모두 CONSULT.
+ * 애매하면 CONSULT 로 보내는 쪽으로 보수적으로 판단한다.
+ */
+public class KeywordIntentClassifier implements IntentClassifier {
+
+    /** 견적 생성/수정으로 이어질 수 있는 표현 (이런 메시지는 항상 AI 서버로) */
+    private static final List<String> ESTIMATE_KEYWORDS =
+        List.of("견적", "맞춰", "만원", "추천", "바꿔", "교체", "변경", "빼줘", "넣어");
+
+    private static final int MAX_SMALL_TALK_LENGTH = 20;
+    private static final int MAX_PART_QUESTION_LENGTH = 40;
+
+    // 인사/감사는 메시지 전체가 이런 단어로만 이뤄졌을 때만 인정 ("안녕 게임용 PC 필요해" 는 상담)
+    private static final List<String> GREETING_WORDS =
+        List.of("안녕", "안뇽", "하이", "반가", "반갑", "처음", "뵙", "hi", "hello", "hey");
+    private static final List<String> THANKS_WORDS =
+        List.of("고마", "고맙", "감사", "땡큐", "ㄳ", "ㄱㅅ", "thank");
+    private static final List<String> FILLER_WORDS =
+        List.of("정말", "너무", "진짜", "많이", "네", "넵", "you", "so", "much", "ㅎ", "ㅋ", "^^");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}\\s]");
+    private static final Pattern PART_QUESTION = Pattern.compile(
+        "(뭐야|뭔가요|뭐에요|뭐예요|무엇|뭐하는|무슨 역할|역할이|하는 부품|설명해|what is|what's)");
+    private static final Pattern DIGITS = Pattern.compile("\\d");
+
+    /** 응답 전에는 intent 를 알 수 없으므로 메시지 표현으로 견적 요청 여부 추정 */
+    public static boolean looksLikeEstimateRequest(String message) {
+        return ESTIMATE_KEYWORDS.stream().anyMatch(message::contains);
+    }
+
+    @Override
+    public IntentPrediction classify(String message) {
+        String text = message.trim().toLowerCase(Locale.ROOT);
+        if (text.isEmpty() || looksLikeEstimateRequest(text)) {
+            return IntentPrediction.consult();
+        }
+
+        if (text.length() <= MAX_SMALL_TALK_LENGTH) {
+            LocalIntent smallTalk = classifySmallTalk(text);
+            if (smallTalk != null) {
+                return new IntentPrediction(smallTalk, 1.0, null);
+            }
+        }
+
+        // 모델명/예산 숫자가 들어간 질문은 특정 제품 상담이므로 제외
+        if (text.length() <= MAX_PART_QUESTION_LENGTH && !DIGITS.matcher(text).find()
+            && PART_QUESTION.matcher(text).find()) {
+            String topic = PartCatalog.detectTopic(text);
+            if (topic != null) {
+                return new IntentPrediction(LocalIntent.PART_INFO, 1.0, topic);
+            }
+        }
+        return IntentPrediction.consult();
+    }
+
+    private static LocalIntent classifySmallTalk(String text) {
+        boolean greeting = false;
+        boolean thanks = false;
+        for (String word : NON_WORD.matcher(text).replaceAll(" ").trim().split("\\s+")) {
+            if (word.isEmpty() || startsWithAny(word, FILLER_WORDS)) {
+                continue;
+            }
+            if (startsWithAny(word, THANKS_WORDS)) {
+                thanks = true;
+            } else if (startsWithAny(word, GREETING_WORDS)) {
+                greeting = true;
+            } else {
+                return null;
+            }
+        }
+        if (thanks) {
+            return LocalIntent.THANKS;
+        }
+        return greeting ? LocalIntent.GREETING : null;
+    }
+
+    private static boolean startsWithAny(String word, List<String> prefixes) {
+        return prefixes.stream().anyMatch(word::startsWith);
+    }
+}
@@ -0,0 +1,91 @@
+package specmate.backend.service.ai.intent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import specmate.backend.service.ai.cache.HashingTextEmbedder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * 파일에서 읽은 작은 선형 모델(softmax 회귀) 분류기
+ * - 입력: HashingTextEmbedder 벡터 (의미 캐시와 같은 문자 n-gram feature hashing)
+ * - 모델 파일(JSON): {"dimensions":512,"labels":["GREETING",...],"weights":[[...],...],"bias":[...]}
+ *   weights 는 라벨 수 x dimensions
+ * - PART_INFO 는 부품 종류를 특정할 수 있을 때만 인정, 견적 표현이 있으면 항상 CONSULT
+ */
+public class LinearIntentClassifier implements IntentClassifier {
+
+    /** 모델 파일 형식 */
+    public record Model(int dimensions, String[] labels, float[][] weights, float[] bias) {
+    }
+
+    private final HashingTextEmbedder embedder;
+    private final LocalIntent[] labels;
+    private final float[][] weights;
+    private final float[] bias;
+
+    public LinearIntentClassifier(Model model) {
+        if (model.weights().length != model.labels().length || model.bias().length != model.labels().length) {
+            throw new IllegalArgumentException("Intent model shape mismatch");
+        }
+        for (float[] row : model.weights()) {
+            if (row.length != model.dimensions()) {
+                throw new IllegalArgumentException("Intent model shape mismatch");
+            }
+        }
+        this.embedder = new HashingTextEmbedder(model.dimensions());
+        this.labels = new LocalIntent[model.labels().length];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = LocalIntent.valueOf(model.labels()[i]);
+        }
+        this.weights = model.weights();
+        this.bias = model.bias();
+    }
+
+    public static LinearIntentClassifier load(Path path, ObjectMapper objectMapper) {
+        try {
+            return new LinearIntentClassifier(objectMapper.readValue(path.toFile(), Model.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Intent model load failed: " + path, e);
+        }
+    }
+
+    @Override
+    public IntentPrediction classify(String message) {
+        if (KeywordIntentClassifier.looksLikeEstimateRequest(message)) {
+            return IntentPrediction.consult();
+        }
+
+        float[] x = embedder.embed(message);
+        double[] logits = new double[labels.length];
+        double max = Double.NEGATIVE_INFINITY;
+        for (int c = 0; c < labels.length; c++) {
+            double z = bias[c];
+            float[] w = weights[c];
+            for (int i = 0; i < x.length; i++) {
+                z += w[i] * x[i];
+            }
+            logits[c] = z;
+            max = Math.max(max, z);
+        }
+
+        double sum = 0;
+        int best = 0;
+        for (int c = 0; c < labels.length; c++) {
+            logits[c] = Math.exp(logits[c] - max);
+            sum += logits[c];
+            if (logits[c] > logits[best]) {
+                best = c;
+            }
+        }
+        double confidence = logits[best] / sum;
+
+        LocalIntent intent = labels[best];
+        if (intent == LocalIntent.PART_INFO) {
+            String topic = PartCatalog.detectTopic(message);
+            return topic != null ? new IntentPrediction(intent, confidence, topic) : IntentPrediction.consult();
+        }
+        return new IntentPrediction(intent, confidence, null);
+    }
+}
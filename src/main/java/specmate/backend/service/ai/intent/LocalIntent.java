@@ -0,0 +1,11 @@
+package specmate.backend.service.ai.intent;
+
+/**
+ * 사전 분류 결과
+ * - GREETING / THANKS: 정해진 문구로 바로 응답
+ * - PART_INFO: 부품 종류 설명 질문 → 부품 카탈로그로 응답
+ * - CONSULT: 실제 상담 (AI 서버로 전달)
+ */
+public enum LocalIntent {
+    GREETING, THANKS, PART_INFO, CONSULT
+}
@@ -0,0 +1,80 @@
+package specmate.backend.service.ai.intent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import specmate.backend.dto.ai.AiResponse;
+
+import java.nio.file.Path;
+
+/**
+ * AI 서버를 거치지 않는 로컬 응답 (인사/감사/부품 설명)
+ * - 분류기: IntentClassifier 빈이 있으면 그것을, 없으면 ai.intent.classifier (keyword | linear) 설정을 사용
+ * - 신뢰도가 min-confidence 미만이거나 CONSULT 면 null → 기존대로 AI 서버 호출
+ * - AI 서버 대화 스레드에는 로컬 응답한 턴이 남지 않으므로, 문맥이 필요 없는 턴만 대상으로 한다.
+ */
+@Slf4j
+@Component
+public class LocalReplyService {
+
+    private static final String GREETING_REPLY =
+        "안녕하세요! SpecMate 입니다. 사용 용도(게임, 작업 등)와 예산을 알려주시면 맞춤 PC 견적을 도와드릴게요.";
+    private static final String THANKS_REPLY =
+        "도움이 되었다니 다행이에요. 궁금한 점이 생기면 언제든 편하게 물어보세요!";
+
+    private final IntentClassifier classifier;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.intent.enabled}")
+    private boolean enabled;
+
+    @Value("${ai.intent.min-confidence}")
+    private double minConfidence;
+
+    public LocalReplyService(
+        ObjectProvider<IntentClassifier> customClassifier,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${ai.intent.classifier}") String classifierType,
+        @Value("${ai.intent.model-path}") String modelPath) {
+
+        this.meterRegistry = meterRegistry;
+        this.classifier = customClassifier.getIfAvailable(() -> {
+            if ("linear".equals(classifierType)) {
+                log.info("Loading linear intent model from {}", modelPath);
+                return LinearIntentClassifier.load(Path.of(modelPath), objectMapper);
+            }
+            return new KeywordIntentClassifier();
+        });
+    }
+
+    /** 로컬로 답할 수 있으면 응답, 아니면 null */
+    public AiResponse tryReply(String message) {
+        if (!enabled || message == null) {
+            return null;
+        }
+
+        IntentPrediction prediction = classifier.classify(message);
+        if (prediction.intent() == LocalIntent.CONSULT || prediction.confidence() < minConfidence) {
+            return null;
+        }
+
+        String reply = switch (prediction.intent()) {
+            case GREETING -> GREETING_REPLY;
+            case THANKS -> THANKS_REPLY;
+            case PART_INFO -> PartCatalog.describe(prediction.topic());
+            case CONSULT -> null;
+        };
+        if (reply == null) {
+            return null;
+        }
+
+        meterRegistry.counter("ai.intent.local", "intent", prediction.intent().name()).increment();
+        AiResponse response = new AiResponse();
+        response.setReply(reply);
+        return response;
+    }
+}
@@ -0,0 +1,106 @@
+package specmate.backend.service.ai.intent;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 부품 종류별 설명 (PART_INFO 질문에 AI 서버 없이 답하는 카탈로그)
+ * 키는 견적 부품 category 값과 같다.
+ */
+public final class PartCatalog {
+
+    private record Entry(List<String> keywords, String description) {
+    }
+
+    private static final Map<String, Entry> ENTRIES = new LinkedHashMap<>();
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // 한글 부품명 바로 뒤에 붙어도 같은 단어로 보는 조사 ("램이", "그래픽카드는", "케이스랑")
+    private static final List<String> PARTICLES = List.of(
+        "이란", "이랑", "이야", "이에요", "예요", "에요", "에서", "으로",
+        "이", "가", "은", "는", "을", "를", "의", "에", "도", "만", "랑", "와", "과", "란", "로", "야", "요");
+
+    static {
+        ENTRIES.put("cpu", new Entry(List.of("cpu", "씨피유", "프로세서", "중앙처리장치"),
+            "CPU는 컴퓨터의 두뇌 역할을 하는 부품으로, 프로그램 실행과 각종 연산을 처리합니다. 코어 수와 클럭이 높을수록 작업 처리 속도가 빨라집니다."));
+        ENTRIES.put("gpu", new Entry(List.of("gpu", "그래픽카드", "그래픽 카드", "글카", "vga"),
+            "그래픽카드(GPU)는 화면 출력과 3D 그래픽 연산을 담당합니다. 게임, 영상 편집, AI 연산 성능에 가장 큰 영향을 주는 부품입니다."));
+        ENTRIES.put("mainboard", new Entry(List.of("메인보드", "마더보드", "보드", "mainboard", "motherboard"),
+            "메인보드는 CPU, 메모리, 그래픽카드, 저장장치 등 모든 부품을 연결하는 기판입니다. CPU 소켓과 칩셋에 따라 호환되는 부품이 정해집니다."));
+        ENTRIES.put("ram", new Entry(List.of("ram", "램", "메모리"),
+            "램(RAM)은 실행 중인 프로그램과 데이터를 임시로 저장하는 메모리입니다. 용량이 클수록 여러 프로그램을 동시에 원활하게 실행할 수 있습니다."));
+        ENTRIES.put("ssd", new Entry(List.of("ssd", "저장장치", "nvme", "하드디스크", "hdd"),
+            "SSD는 운영체제와 파일을 저장하는 장치입니다. HDD보다 훨씬 빨라 부팅과 프로그램 로딩 시간이 짧아지며, NVMe 방식이 SATA 방식보다 빠릅니다."));
+        ENTRIES.put("power", new Entry(List.of("파워", "psu", "전원공급장치", "power"),
+            "파워(PSU)는 모든 부품에 전력을 공급합니다. 부품 소비전력보다 여유 있는 용량과 80PLUS 같은 효율 인증을 갖춘 제품이 안정적입니다."));
+        ENTRIES.put("case", new Entry(List.of("케이스", "case"),
+            "케이스는 부품을 담고 보호하는 틀입니다. 메인보드 규격과 그래픽카드 길이, 쿨러 높이를 수용할 수 있는지와 통풍 구조를 확인해야 합니다."));
+        ENTRIES.put("cooler", new Entry(List.of("쿨러", "cooler", "수랭", "공랭"),
+            "쿨러는 CPU에서 나는 열을 식혀 성능 저하와 고장을 막아줍니다. 공랭과 수랭 방식이 있으며, 고성능 CPU일수록 냉각 성능이 좋은 쿨러가 필요합니다."));
+    }
+
+    private PartCatalog() {
+    }
+
+    /**
+     * 메시지에 언급된 부품 종류 (하나만 언급된 경우에만, 없거나 여러 개면 null)
+     * 단어 단위로 비교해 "키보드"(보드), "프로그램"(램), "showcase"(case) 같은 부분 일치는 무시한다.
+     */
+    public static String detectTopic(String message) {
+        List<String> tokens = List.of(TOKEN_SEPARATOR.split(message.toLowerCase(Locale.ROOT).trim()));
+        String found = null;
+        for (Map.Entry<String, Entry> entry : ENTRIES.entrySet()) {
+            if (entry.getValue().keywords().stream().anyMatch(keyword -> mentions(tokens, keyword))) {
+                if (found != null) {
+                    return null;
+                }
+                found = entry.getKey();
+            }
+        }
+        return found;
+    }
+
+    /** 키워드(공백으로 나뉜 경우 연속된 단어)가 단어 단위로 등장하는지 */
+    private static boolean mentions(List<String> tokens, String keyword) {
+        String[] words = keyword.split(" ");
+        for (int i = 0; i + words.length <= tokens.size(); i++) {
+            boolean matched = true;
+            for (int j = 0; j < words.length - 1 && matched; j++) {
+                matched = tokens.get(i + j).equals(words[j]);
+            }
+            if (matched && matchesWord(tokens.get(i + words.length - 1), words[words.length - 1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 단어가 키워드로 시작하고, 뒤에 붙은 부분이 없거나 (영문 키워드) 영문/숫자가 아니거나 (한글 키워드) 조사일 때 */
+    private static boolean matchesWord(String token, String keyword) {
+        if (!token.startsWith(keyword)) {
+            return false;
+        }
+        String rest = token.substring(keyword.length());
+        if (rest.isEmpty()) {
+            return true;
+        }
+        if (isAscii(keyword)) {
+            char next = rest.charAt(0);
+            return !(next < 128 && Character.isLetterOrDigit(next));
+        }
+        return PARTICLES.stream().anyMatch(rest::startsWith);
+    }
+
+    private static boolean isAscii(String value) {
+        return value.chars().allMatch(c -> c < 128);
+    }
+
+    public static String describe(String topic) {
+        Entry entry = ENTRIES.get(topic);
+        return entry != null ? entry.description() : null;
+    }
+}
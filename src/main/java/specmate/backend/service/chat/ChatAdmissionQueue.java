@@ -0,0 +1,263 @@
+package specmate.backend.service.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * AI 채팅 입장 제어 (admission control)
+ * - 동시 처리 수를 AI 서버 처리량에 맞춰 제한, 초과분은 대기열에서 기다림
+ * - 대기열은 사용자별 큐를 라운드로빈으로 꺼내는 공정 큐 (한 사용자가 연속 전송해도 다른 사용자를 밀어내지 않음)
+ * - 대기열이 가득 차면 기다리게 하지 않고 바로 거절 (Retry-After 안내)
+ * - 대기 순번/예상 대기 시간은 ChatQueueNotifier 로 클라이언트에 푸시
+ * - 과부하 시 응답 시간이 타임아웃 연쇄로 무너지지 않고 (대기열 길이 / 동시 처리 수) 만큼만 늘어난다.
+ */
+@Slf4j
+@Component
+public class ChatAdmissionQueue {
+
+    private static final String QUEUE_FULL_MESSAGE = "상담 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.";
+    private static final String USER_QUEUE_FULL_MESSAGE = "이전 메시지의 답변을 기다리는 중입니다. 답변을 받은 뒤 다시 시도해주세요.";
+    private static final String WAIT_TIMEOUT_MESSAGE = "상담 대기 시간이 길어지고 있습니다. 잠시 후 다시 시도해주세요.";
+    private static final double SERVICE_TIME_EWMA_ALPHA = 0.2;
+
+    private static final class Ticket {
+        final String userId;
+        final Long chatRoomId;
+        final CompletableFuture<Void> admitted = new CompletableFuture<>();
+
+        Ticket(String userId, Long chatRoomId) {
+            this.userId = userId;
+            this.chatRoomId = chatRoomId;
+        }
+    }
+
+    private record QueueStatus(Ticket ticket, int position, long etaSeconds) {
+    }
+
+    private final ChatQueueNotifier notifier;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final int maxQueuedPerUser;
+    private final long maxWaitMillis;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedUserLimit;
+    private final Counter rejectedTimeout;
+
+    // 아래 상태는 모두 this 락으로 보호
+    private final Map<String, Deque<Ticket>> queues = new HashMap<>();
+    private final Deque<String> rotation = new ArrayDeque<>();
+    private int active;
+    private int queued;
+    private double avgServiceMillis;
+
+    public ChatAdmissionQueue(
+        ChatQueueNotifier notifier,
+        MeterRegistry meterRegistry,
+        @Value("${chat.admission.max-concurrent}") int maxConcurrent,
+        @Value("${chat.admission.max-queue}") int maxQueue,
+        @Value("${chat.admission.max-queued-per-user}") int maxQueuedPerUser,
+        @Value("${chat.admission.max-wait-seconds}") long maxWaitSeconds,
+        @Value("${chat.admission.initial-service-ms}") long initialServiceMillis) {
+
+        this.notifier = notifier;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxQueuedPerUser = maxQueuedPerUser;
+        this.maxWaitMillis = TimeUnit.SECONDS.toMillis(maxWaitSeconds);
+        this.avgServiceMillis = initialServiceMillis;
+
+        Gauge.builder("chat.admission.active", this, q -> q.snapshotCount(true)).register(meterRegistry);
+        Gauge.builder("chat.admission.queued", this, q -> q.snapshotCount(false)).register(meterRegistry);
+        Gauge.builder("chat.admission.service.time", this, ChatAdmissionQueue::snapshotServiceMillis)
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        this.rejectedQueueFull = meterRegistry.counter("chat.admission.rejected", "reason", "queue_full");
+        this.rejectedUserLimit = meterRegistry.counter("chat.admission.rejected", "reason", "user_limit");
+        this.rejectedTimeout = meterRegistry.counter("chat.admission.rejected", "reason", "timeout");
+    }
+
+    /**
+     * 입장 허가를 받은 뒤 task 실행. 대기열이 가득 찼거나 대기 시간을 넘기면 ChatAdmissionRejectedException
+     */
+    public <T> T execute(String userId, Long chatRoomId, Supplier<T> task) {
+        Ticket ticket = enter(userId, chatRoomId);
+        if (ticket != null) {
+            await(ticket);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            leave(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /** 바로 입장 가능하면 null, 아니면 대기열에 넣은 티켓 */
+    private Ticket enter(String userId, Long chatRoomId) {
+        Ticket ticket;
+        List<QueueStatus> statuses;
+        synchronized (this) {
+            if (active < maxConcurrent && queued == 0) {
+                active++;
+                return null;
+            }
+            if (queued >= maxQueue) {
+                rejectedQueueFull.increment();
+                throw new ChatAdmissionRejectedException(QUEUE_FULL_MESSAGE, retryAfterSeconds());
+            }
+            Deque<Ticket> userQueue = queues.computeIfAbsent(userId, id -> new ArrayDeque<>());
+            if (userQueue.size() >= maxQueuedPerUser) {
+                rejectedUserLimit.increment();
+                throw new ChatAdmissionRejectedException(USER_QUEUE_FULL_MESSAGE, retryAfterSeconds());
+            }
+
+            ticket = new Ticket(userId, chatRoomId);
+            if (userQueue.isEmpty()) {
+                rotation.addLast(userId);
+            }
+            userQueue.addLast(ticket);
+            queued++;
+            statuses = queueStatuses();
+        }
+        publish(statuses, List.of());
+        return ticket;
+    }
+
+    private void await(Ticket ticket) {
+        try {
+            ticket.admitted.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            List<QueueStatus> statuses;
+            synchronized (this) {
+                if (ticket.admitted.isDone()) {
+                    return; // 타임아웃 직전에 입장 허가됨
+                }
+                remove(ticket);
+                statuses = queueStatuses();
+            }
+            publish(statuses, List.of());
+            rejectedTimeout.increment();
+            throw new ChatAdmissionRejectedException(WAIT_TIMEOUT_MESSAGE, retryAfterSeconds());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void leave(long serviceMillis) {
+        List<Ticket> admitted = new ArrayList<>();
+        List<QueueStatus> statuses;
+        synchronized (this) {
+            avgServiceMillis += SERVICE_TIME_EWMA_ALPHA * (serviceMillis - avgServiceMillis);
+            active--;
+
+            while (active < maxConcurrent && !rotation.isEmpty()) {
+                String userId = rotation.pollFirst();
+                Deque<Ticket> userQueue = queues.get(userId);
+                Ticket next = userQueue.pollFirst();
+                if (userQueue.isEmpty()) {
+                    queues.remove(userId);
+                } else {
+                    rotation.addLast(userId);
+                }
+                queued--;
+                active++;
+                next.admitted.complete(null);
+                admitted.add(next);
+            }
+            statuses = admitted.isEmpty() ? List.of() : queueStatuses();
+        }
+        publish(statuses, admitted);
+    }
+
+    private void remove(Ticket ticket) {
+        Deque<Ticket> userQueue = queues.get(ticket.userId);
+        if (userQueue != null && userQueue.remove(ticket)) {
+            queued--;
+            if (userQueue.isEmpty()) {
+                queues.remove(ticket.userId);
+                rotation.remove(ticket.userId);
+            }
+        }
+    }
+
+    /**
+     * 라운드로빈 순서를 그대로 따라가며 각 티켓의 순번 계산 (대기열 크기만큼의 비용)
+     * 순번 n 은 앞에 n-1 건이 먼저 입장한다는 뜻
+     */
+    private List<QueueStatus> queueStatuses() {
+        List<QueueStatus> statuses = new ArrayList<>(queued);
+        List<Deque<Ticket>> ordered = new ArrayList<>(rotation.size());
+        for (String userId : rotation) {
+            ordered.add(queues.get(userId));
+        }
+
+        int position = 0;
+        for (int round = 0; statuses.size() < queued; round++) {
+            for (Deque<Ticket> userQueue : ordered) {
+                if (userQueue.size() > round) {
+                    position++;
+                    statuses.add(new QueueStatus(nth(userQueue, round), position, etaSeconds(position)));
+                }
+            }
+        }
+        return statuses;
+    }
+
+    private static Ticket nth(Deque<Ticket> queue, int index) {
+        int i = 0;
+        for (Ticket ticket : queue) {
+            if (i++ == index) {
+                return ticket;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    /** 앞선 요청들이 동시 처리 수만큼씩 빠진다고 보고 예상 대기 시간 계산 */
+    private long etaSeconds(int position) {
+        long rounds = (position + maxConcurrent - 1) / maxConcurrent;
+        return Math.max(1, Math.round(rounds * avgServiceMillis / 1000));
+    }
+
+    private long retryAfterSeconds() {
+        return etaSeconds(queued + 1);
+    }
+
+    /** 알림 전송은 락 밖에서 */
+    private void publish(List<QueueStatus> statuses, List<Ticket> admitted) {
+        for (Ticket ticket : admitted) {
+            notifier.sendAdmitted(ticket.userId, ticket.chatRoomId);
+        }
+        for (QueueStatus status : statuses) {
+            notifier.sendQueued(status.ticket().userId, status.ticket().chatRoomId, status.position(), status.etaSeconds());
+        }
+    }
+
+    private synchronized int snapshotCount(boolean activeCount) {
+        return activeCount ? active : queued;
+    }
+
+    private synchronized double snapshotServiceMillis() {
+        return avgServiceMillis;
+    }
+}
@@ -0,0 +1,18 @@
+package specmate.backend.service.chat;
+
+/**
+ * 채팅 대기열이 가득 찼거나 대기 시간을 넘긴 경우 (HTTP 429 + Retry-After)
+ */
+public class ChatAdmissionRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ChatAdmissionRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
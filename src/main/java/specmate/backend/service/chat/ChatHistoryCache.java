@@ -0,0 +1,171 @@
+package specmate.backend.service.chat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import specmate.backend.dto.chat.ChatMessageResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼 (Redis List, 오래된 순 저장)
+ * - 리스트가 존재할 때만 append 하고, 없으면 다음 조회 시 DB에서 재구성한다.
+ * - 리스트 길이가 capacity 미만이면 방의 전체 메시지를 담고 있다는 뜻이다.
+ * - append/evict 마다 방의 버전을 올리고, 재구성은 DB 를 읽기 전 버전이 그대로일 때만 원자적으로 교체한다.
+ *   (스냅샷을 읽은 뒤 들어온 메시지를 오래된 스냅샷으로 덮어쓰지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatHistoryCache {
+
+    private static final String KEY_PREFIX = "chat:recent:";
+    private static final String VERSION_KEY_PREFIX = "chat:recent-version:";
+
+    // KEYS[1]=리스트, KEYS[2]=버전 / ARGV[1]=메시지, ARGV[2]=capacity, ARGV[3]=TTL(초)
+    private static final DefaultRedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('incr', KEYS[2]) redis.call('expire', KEYS[2], ARGV[3]) " +
+        "if redis.call('exists', KEYS[1]) == 0 then return 0 end " +
+        "local size = redis.call('rpush', KEYS[1], ARGV[1]) " +
+        "if size > tonumber(ARGV[2]) then redis.call('ltrim', KEYS[1], -tonumber(ARGV[2]), -1) end " +
+        "redis.call('expire', KEYS[1], ARGV[3]) " +
+        "return size",
+        Long.class
+    );
+
+    // KEYS[1]=리스트, KEYS[2]=버전 / ARGV[1]=DB 를 읽기 전 버전, ARGV[2]=TTL(초), ARGV[3..]=메시지 (오래된 순)
+    private static final DefaultRedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>(
+        "if tonumber(redis.call('get', KEYS[2]) or '0') ~= tonumber(ARGV[1]) then return 0 end " +
+        "redis.call('del', KEYS[1]) " +
+        "for i = 3, #ARGV do redis.call('rpush', KEYS[1], ARGV[i]) end " +
+        "redis.call('expire', KEYS[1], ARGV[2]) " +
+        "return 1",
+        Long.class
+    );
+
+    // KEYS[1]=리스트, KEYS[2]=버전 / ARGV[1]=TTL(초)
+    private static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('incr', KEYS[2]) redis.call('expire', KEYS[2], ARGV[1]) " +
+        "return redis.call('del', KEYS[1])",
+        Long.class
+    );
+
+    private static final DefaultRedisScript<Long> VERSION_SCRIPT = new DefaultRedisScript<>(
+        "return tonumber(redis.call('get', KEYS[1]) or '0')",
+        Long.class
+    );
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${chat.history.cache.size}")
+    private int capacity;
+
+    @Value("${chat.history.cache.ttl-hours}")
+    private long ttlHours;
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** 새 메시지 추가 후 capacity 만큼만 유지 (캐시가 없으면 버전만 올리고 조회 시 재구성) */
+    public void append(Long chatRoomId, ChatMessageResponse message) {
+        try {
+            run(APPEND_SCRIPT, chatRoomId, serialize(message), number(capacity), number(ttlSeconds()));
+        } catch (Exception e) {
+            log.warn("Chat history cache append failed (roomId={}): {}", chatRoomId, e.getMessage());
+            evict(chatRoomId);
+        }
+    }
+
+    /** 최근 count 개 메시지 (오래된 순). 캐시 미스면 null */
+    public List<ChatMessageResponse> getRecent(Long chatRoomId, int count) {
+        try {
+            List<Object> values = redisTemplate.opsForList().range(key(chatRoomId), -count, -1);
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            List<ChatMessageResponse> messages = new ArrayList<>(values.size());
+            for (Object value : values) {
+                messages.add((ChatMessageResponse) value);
+            }
+            return messages;
+        } catch (Exception e) {
+            log.warn("Chat history cache read failed (roomId={}): {}", chatRoomId, e.getMessage());
+            return null;
+        }
+    }
+
+    /** 재구성용 버전 (DB 스냅샷을 읽기 전에 조회). Redis 장애 시 null → 재구성하지 않음 */
+    public Long version(Long chatRoomId) {
+        try {
+            return redisTemplate.execute(VERSION_SCRIPT, RedisSerializer.byteArray(), new GenericToStringSerializer<>(Long.class),
+                List.of(versionKey(chatRoomId)));
+        } catch (Exception e) {
+            log.warn("Chat history cache version read failed (roomId={}): {}", chatRoomId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * DB에서 읽은 최근 메시지(오래된 순)로 캐시 재구성
+     * - version 은 스냅샷을 읽기 전에 받은 값, 그 사이 append/evict 가 있었으면 재구성하지 않음 (다음 조회에서 다시 시도)
+     */
+    public void rebuild(Long chatRoomId, long version, List<ChatMessageResponse> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        try {
+            List<Object> args = new ArrayList<>(messages.size() + 2);
+            args.add(number(version));
+            args.add(number(ttlSeconds()));
+            for (ChatMessageResponse message : messages) {
+                args.add(serialize(message));
+            }
+            run(REBUILD_SCRIPT, chatRoomId, args.toArray());
+        } catch (Exception e) {
+            log.warn("Chat history cache rebuild failed (roomId={}): {}", chatRoomId, e.getMessage());
+        }
+    }
+
+    public void evict(Long chatRoomId) {
+        try {
+            run(EVICT_SCRIPT, chatRoomId, number(ttlSeconds()));
+        } catch (Exception e) {
+            log.warn("Chat history cache evict failed (roomId={}): {}", chatRoomId, e.getMessage());
+        }
+    }
+
+    /** 스크립트 인자는 직접 직렬화한 바이트로 전달 (메시지는 템플릿 값 직렬화, 숫자는 문자열) */
+    private Long run(DefaultRedisScript<Long> script, Long chatRoomId, Object... args) {
+        return redisTemplate.execute(script, RedisSerializer.byteArray(), new GenericToStringSerializer<>(Long.class),
+            List.of(key(chatRoomId), versionKey(chatRoomId)), args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] serialize(ChatMessageResponse message) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(message);
+    }
+
+    private static byte[] number(long value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long ttlSeconds() {
+        return ttlHours * 3600;
+    }
+
+    private String key(Long chatRoomId) {
+        return KEY_PREFIX + chatRoomId;
+    }
+
+    private String versionKey(Long chatRoomId) {
+        return VERSION_KEY_PREFIX + chatRoomId;
+    }
+}
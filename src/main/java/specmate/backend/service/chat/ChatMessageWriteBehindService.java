@@ -0,0 +1,322 @@
+package specmate.backend.service.chat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import specmate.backend.entity.ChatMessage;
+import specmate.backend.entity.ChatRoom;
+import specmate.backend.repository.chat.ChatRoomRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 Write-behind 저장 (chat.write-behind.enabled=true 일 때만 동작)
+ * - 요청 경로에서는 (호출 트랜잭션 커밋 후) Redis Stream 에 append 만 하고 바로 반환한다.
+ * - 워커 스레드가 Consumer Group 으로 읽어 chat_messages 에 배치 insert 후 ACK 한다.
+ * - (message_key, created_at) 유니크 제약 + ON CONFLICT DO NOTHING 으로 재전송(at-least-once)에도 중복 저장되지 않는다.
+ * - 다른 인스턴스가 처리하다 죽은 레코드는 pending 목록에서 claim 해 다시 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageWriteBehindService implements SmartLifecycle {
+
+    private static final String STREAM_KEY = "chat:messages:stream";
+    private static final String GROUP = "chat-message-writers";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO chat_messages (message_key, chat_room_id, sender, type, content, related_estimate_id, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (message_key, created_at) DO NOTHING";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ChatHistoryCache chatHistoryCache;
+    private final ChatRoomRepository chatRoomRepository;
+
+    @Value("${chat.write-behind.enabled}")
+    private boolean enabled;
+
+    @Value("${chat.write-behind.batch-size}")
+    private int batchSize;
+
+    @Value("${chat.write-behind.poll-interval-ms}")
+    private long pollIntervalMs;
+
+    @Value("${chat.write-behind.claim-idle-seconds}")
+    private long claimIdleSeconds;
+
+    @Value("${chat.write-behind.drain-timeout-seconds}")
+    private long drainTimeoutSeconds;
+
+    private final String consumerName = "writer-" + UUID.randomUUID();
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 메시지를 Stream 에 추가 (DB 저장은 워커가 비동기로 수행) */
+    public void enqueue(ChatMessage message) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("messageKey", message.getMessageKey());
+        fields.put("chatRoomId", String.valueOf(message.getChatRoom().getId()));
+        fields.put("sender", message.getSender().name());
+        fields.put("type", message.getType().name());
+        fields.put("content", message.getContent() != null ? message.getContent() : "");
+        fields.put("relatedEstimateId", message.getRelatedEstimateId() != null ? String.valueOf(message.getRelatedEstimateId()) : "");
+        fields.put("createdAt", message.getCreatedAt().toString());
+
+        stringRedisTemplate.opsForStream().add(STREAM_KEY, fields);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (Exception e) {
+            log.debug("Chat message stream group already exists: {}", e.getMessage()); // BUSYGROUP
+        }
+
+        running = true;
+        worker = new Thread(this::runLoop, "chat-write-behind");
+        worker.start();
+        log.info("Chat message write-behind worker started (consumer={})", consumerName);
+    }
+
+    /** 웹 서버 종료 이후 멈추도록 기본 phase 보다 낮게 설정 → 남은 메시지를 모두 저장하고 종료 */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join(Duration.ofSeconds(drainTimeoutSeconds + 5).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Chat message write-behind worker stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runLoop() {
+        StreamOperations<String, String, String> ops = stringRedisTemplate.opsForStream();
+        long lastClaimAt = 0;
+
+        while (running) {
+            try {
+                long now = System.currentTimeMillis();
+                if (now - lastClaimAt > claimIdleSeconds * 1000) {
+                    reclaimStale(ops);
+                    lastClaimAt = now;
+                }
+
+                List<MapRecord<String, String, String>> records = readNew(ops);
+                if (records == null || records.isEmpty()) {
+                    Thread.sleep(pollIntervalMs);
+                    continue;
+                }
+                flush(ops, records);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Chat message write-behind flush failed, will retry", e);
+                sleepQuietly();
+            }
+        }
+
+        drain(ops);
+    }
+
+    /** 종료 시 아직 전달되지 않은 메시지 모두 저장 */
+    private void drain(StreamOperations<String, String, String> ops) {
+        long deadline = System.currentTimeMillis() + drainTimeoutSeconds * 1000;
+        try {
+            List<MapRecord<String, String, String>> records;
+            while (System.currentTimeMillis() < deadline
+                && (records = readNew(ops)) != null && !records.isEmpty()) {
+                flush(ops, records);
+            }
+        } catch (Exception e) {
+            log.error("Chat message write-behind drain failed (remaining records stay in stream)", e);
+        }
+    }
+
+    private List<MapRecord<String, String, String>> readNew(StreamOperations<String, String, String> ops) {
+        return ops.read(
+            Consumer.from(GROUP, consumerName),
+            StreamReadOptions.empty().count(batchSize),
+            StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed())
+        );
+    }
+
+    /** claim-idle-seconds 이상 ACK 되지 않은 레코드를 가져와 다시 처리 */
+    private void reclaimStale(StreamOperations<String, String, String> ops) {
+        PendingMessages pending = ops.pending(STREAM_KEY, GROUP, Range.unbounded(), batchSize);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+
+        Duration minIdle = Duration.ofSeconds(claimIdleSeconds);
+        List<RecordId> staleIds = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0) {
+                staleIds.add(message.getId());
+            }
+        }
+        if (staleIds.isEmpty()) {
+            return;
+        }
+
+        List<MapRecord<String, String, String>> claimed =
+            ops.claim(STREAM_KEY, GROUP, consumerName, minIdle, staleIds.toArray(new RecordId[0]));
+        if (claimed != null && !claimed.isEmpty()) {
+            log.warn("Reclaimed {} stale chat message records", claimed.size());
+            flush(ops, claimed);
+        }
+    }
+
+    /** 배치 insert 후 ACK/삭제. 실패 시 ACK 하지 않으므로 나중에 재처리된다. */
+    private void flush(StreamOperations<String, String, String> ops, List<MapRecord<String, String, String>> records) {
+        List<MapRecord<String, String, String>> done;
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), this::bind);
+                List<MapRecord<String, String, String>> inserted = new ArrayList<>();
+                int i = 0;
+                for (int[] batch : counts) {
+                    for (int count : batch) {
+                        // 재전송으로 이미 저장된 메시지(0건)는 요약에 다시 세지 않음
+                        if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                            inserted.add(records.get(i));
+                        }
+                        i++;
+                    }
+                }
+                applyRoomSummaries(inserted);
+            });
+            done = records;
+        } catch (DataIntegrityViolationException e) {
+            // 삭제된 채팅방 등 저장할 수 없는 레코드가 섞인 경우 → 한 건씩 저장하고 실패 건은 버린다
+            log.warn("Batch insert rejected, retrying chat messages one by one: {}", e.getMessage());
+            done = insertOneByOne(records);
+        }
+
+        RecordId[] ids = done.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        ops.acknowledge(STREAM_KEY, GROUP, ids);
+        ops.delete(STREAM_KEY, ids);
+
+        // 저장된 메시지(이제 id 가 있음)가 보이도록 최근 메시지 캐시 무효화 → 다음 조회 시 DB 기준으로 재구성
+        Set<Long> roomIds = new HashSet<>();
+        for (MapRecord<String, String, String> record : done) {
+            roomIds.add(Long.valueOf(record.getValue().get("chatRoomId")));
+        }
+        roomIds.forEach(chatHistoryCache::evict);
+    }
+
+    private List<MapRecord<String, String, String>> insertOneByOne(List<MapRecord<String, String, String>> records) {
+        List<MapRecord<String, String, String>> done = new ArrayList<>();
+        List<MapRecord<String, String, String>> inserted = new ArrayList<>();
+        for (MapRecord<String, String, String> record : records) {
+            try {
+                if (jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, record)) > 0) {
+                    inserted.add(record);
+                }
+            } catch (DataIntegrityViolationException e) {
+                log.error("Dropping chat message that cannot be stored (messageKey={}): {}",
+                    record.getValue().get("messageKey"), e.getMessage());
+            }
+            done.add(record);
+        }
+        applyRoomSummaries(inserted);
+        return done;
+    }
+
+    /** 채팅방별로 모아 건수와 가장 최근 메시지를 한 번에 반영 */
+    private void applyRoomSummaries(List<MapRecord<String, String, String>> inserted) {
+        Map<Long, Integer> counts = new HashMap<>();
+        Map<Long, Map<String, String>> latest = new HashMap<>();
+        for (MapRecord<String, String, String> record : inserted) {
+            Map<String, String> v = record.getValue();
+            Long roomId = Long.valueOf(v.get("chatRoomId"));
+            counts.merge(roomId, 1, Integer::sum);
+            latest.merge(roomId, v, (a, b) ->
+                LocalDateTime.parse(b.get("createdAt")).isBefore(LocalDateTime.parse(a.get("createdAt"))) ? a : b);
+        }
+        counts.forEach((roomId, count) -> {
+            Map<String, String> v = latest.get(roomId);
+            chatRoomRepository.applyNewMessages(roomId, count, ChatRoom.previewOf(v.get("content")),
+                LocalDateTime.parse(v.get("createdAt")));
+        });
+    }
+
+    private void bind(PreparedStatement ps, MapRecord<String, String, String> record) throws SQLException {
+        Map<String, String> v = record.getValue();
+        ps.setString(1, v.get("messageKey"));
+        ps.setLong(2, Long.parseLong(v.get("chatRoomId")));
+        ps.setString(3, v.get("sender"));
+        ps.setString(4, v.get("type"));
+        ps.setString(5, v.get("content"));
+        String relatedEstimateId = v.get("relatedEstimateId");
+        if (relatedEstimateId == null || relatedEstimateId.isEmpty()) {
+            ps.setNull(6, Types.BIGINT);
+        } else {
+            ps.setLong(6, Long.parseLong(relatedEstimateId));
+        }
+        ps.setTimestamp(7, Timestamp.valueOf(LocalDateTime.parse(v.get("createdAt"))));
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
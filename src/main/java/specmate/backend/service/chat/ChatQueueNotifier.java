@@ -0,0 +1,96 @@
+package specmate.backend.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 대기열 상태 푸시 (WebSocket /ws/chat-queue?token=JWT)
+ * - 서버 → 클라이언트 단방향: {"type":"QUEUED","roomId":1,"position":3,"etaSeconds":12} / {"type":"ADMITTED","roomId":1}
+ * - 사용자별 세션을 인스턴스 메모리에 보관 (대기열도 인스턴스 단위이므로 같은 인스턴스 세션에만 전송)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatQueueNotifier extends TextWebSocketHandler {
+
+    private static final int SEND_TIME_LIMIT_MS = 5000;
+    private static final int BUFFER_SIZE_LIMIT = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Set<WebSocketSession>> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        String userId = (String) session.getAttributes().get("userId");
+        if (userId == null) {
+            return;
+        }
+        // 여러 스레드가 동시에 보내도 안전하도록 감싸서 보관
+        WebSocketSession concurrent = new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, BUFFER_SIZE_LIMIT);
+        sessions.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(concurrent);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        String userId = (String) session.getAttributes().get("userId");
+        if (userId == null) {
+            return;
+        }
+        sessions.computeIfPresent(userId, (id, userSessions) -> {
+            userSessions.removeIf(s -> s.getId().equals(session.getId()));
+            return userSessions.isEmpty() ? null : userSessions;
+        });
+    }
+
+    public void sendQueued(String userId, Long chatRoomId, int position, long etaSeconds) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", "QUEUED");
+        payload.put("roomId", chatRoomId);
+        payload.put("position", position);
+        payload.put("etaSeconds", etaSeconds);
+        send(userId, payload);
+    }
+
+    public void sendAdmitted(String userId, Long chatRoomId) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", "ADMITTED");
+        payload.put("roomId", chatRoomId);
+        send(userId, payload);
+    }
+
+    private void send(String userId, Map<String, Object> payload) {
+        Set<WebSocketSession> userSessions = sessions.get(userId);
+        if (userSessions == null) {
+            return;
+        }
+        TextMessage message;
+        try {
+            message = new TextMessage(objectMapper.writeValueAsString(payload));
+        } catch (Exception e) {
+            log.warn("Chat queue notification serialization failed", e);
+            return;
+        }
+        for (WebSocketSession session : userSessions) {
+            try {
+                if (session.isOpen()) {
+                    session.sendMessage(message);
+                }
+            } catch (Exception e) {
+                // 푸시는 안내용이므로 실패해도 채팅 처리는 계속
+                log.debug("Chat queue notification failed (userId={}): {}", userId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package specmate.backend.service.chat;
+
+/**
+ * 같은 채팅방의 이전 메시지를 처리하는 중이라 순서를 기다리다 시간을 넘긴 경우 (HTTP 409 + Retry-After)
+ */
+public class ChatRoomBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ChatRoomBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,164 @@
+package specmate.backend.service.chat;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 채팅방 단위 순차 실행
+ * - 인스턴스 내: 채팅방별 공정(fair) 락 → 같은 방 메시지는 도착 순서대로 처리
+ * - 인스턴스 간: Redis 리스(SET NX PX) → 여러 서버에 걸친 동시 처리 방지
+ *   처리 중에는 리스 기간의 1/3 마다 연장하므로, 대기열/AI 응답이 길어져도 처리 도중 만료되지 않는다.
+ *   (리스 기간은 서버가 죽었을 때 다른 서버가 이어받기까지의 시간)
+ * - 서로 다른 채팅방은 락을 공유하지 않으므로 완전히 병렬로 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSerialExecutor {
+
+    private static final String LEASE_KEY_PREFIX = "chat:room-lock:";
+    private static final String BUSY_MESSAGE = "이전 메시지를 처리하는 중입니다. 잠시 후 다시 시도해주세요.";
+    private static final long BUSY_RETRY_AFTER_SECONDS = 5;
+
+    // 내 토큰일 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    // 내 토큰일 때만 만료 연장
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+        Long.class
+    );
+
+    private static final class RoomLock {
+        final ReentrantLock lock = new ReentrantLock(true);
+        int holders; // 대기 중 포함, 0 이 되면 맵에서 제거
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ConcurrentHashMap<Long, RoomLock> locks = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "chat-room-lease-renewer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @Value("${chat.room-lock.lease-seconds}")
+    private long leaseSeconds;
+
+    @Value("${chat.room-lock.max-wait-seconds}")
+    private long maxWaitSeconds;
+
+    public <T> T execute(Long chatRoomId, Supplier<T> task) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(maxWaitSeconds);
+        RoomLock roomLock = locks.compute(chatRoomId, (id, existing) -> {
+            RoomLock l = existing != null ? existing : new RoomLock();
+            l.holders++;
+            return l;
+        });
+
+        try {
+            if (!roomLock.lock.tryLock(maxWaitSeconds, TimeUnit.SECONDS)) {
+                throw new ChatRoomBusyException(BUSY_MESSAGE, BUSY_RETRY_AFTER_SECONDS);
+            }
+            try {
+                String token = acquireLease(chatRoomId, deadline);
+                ScheduledFuture<?> renewal = scheduleRenewal(chatRoomId, token);
+                try {
+                    return task.get();
+                } finally {
+                    if (renewal != null) {
+                        renewal.cancel(false);
+                    }
+                    releaseLease(chatRoomId, token);
+                }
+            } finally {
+                roomLock.lock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ChatRoomBusyException(BUSY_MESSAGE, BUSY_RETRY_AFTER_SECONDS);
+        } finally {
+            locks.computeIfPresent(chatRoomId, (id, l) -> --l.holders == 0 ? null : l);
+        }
+    }
+
+    /** 클러스터 리스 획득. Redis 장애 시 인스턴스 로컬 순서만 보장하고 진행 (토큰 null) */
+    private String acquireLease(Long chatRoomId, long deadline) throws InterruptedException {
+        String key = LEASE_KEY_PREFIX + chatRoomId;
+        String token = UUID.randomUUID().toString();
+        long backoffMs = 20;
+
+        while (true) {
+            try {
+                Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, token, Duration.ofSeconds(leaseSeconds));
+                if (Boolean.TRUE.equals(acquired)) {
+                    return token;
+                }
+            } catch (Exception e) {
+                log.warn("Chat room lease unavailable, falling back to local ordering (roomId={}): {}", chatRoomId, e.getMessage());
+                return null;
+            }
+
+            if (System.nanoTime() > deadline) {
+                throw new ChatRoomBusyException(BUSY_MESSAGE, BUSY_RETRY_AFTER_SECONDS);
+            }
+            Thread.sleep(backoffMs);
+            backoffMs = Math.min(backoffMs * 2, 500);
+        }
+    }
+
+    /** 처리하는 동안 리스를 주기적으로 연장 (로컬 순서만 보장하는 경우 null) */
+    private ScheduledFuture<?> scheduleRenewal(Long chatRoomId, String token) {
+        if (token == null) {
+            return null;
+        }
+        String key = LEASE_KEY_PREFIX + chatRoomId;
+        long periodMs = Math.max(TimeUnit.SECONDS.toMillis(leaseSeconds) / 3, 1000);
+        return renewer.scheduleAtFixedRate(() -> {
+            try {
+                Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(key), token,
+                    String.valueOf(TimeUnit.SECONDS.toMillis(leaseSeconds)));
+                if (renewed == null || renewed == 0) {
+                    log.warn("Chat room lease lost while processing (roomId={})", chatRoomId);
+                }
+            } catch (Exception e) {
+                log.warn("Chat room lease renewal failed (roomId={}): {}", chatRoomId, e.getMessage());
+            }
+        }, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    private void releaseLease(Long chatRoomId, String token) {
+        if (token == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + chatRoomId), token);
+        } catch (Exception e) {
+            log.warn("Chat room lease release failed (roomId={}), it will expire: {}", chatRoomId, e.getMessage());
+        }
+    }
+}
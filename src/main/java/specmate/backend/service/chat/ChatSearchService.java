@@ -0,0 +1,182 @@
+package specmate.backend.service.chat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.text.StringEscapeUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import specmate.backend.dto.chat.ChatSearchResponse;
+import specmate.backend.service.chat.archive.ChatMessagePartitionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 내 대화/AI 견적 부품 검색
+ * - chat_messages.content, ai_component_set_items.name 에 pg_trgm GIN 인덱스 → ILIKE 부분 일치 (형태소 분석 없이 한국어도 검색)
+ * - 공백으로 나눈 검색어는 모두 포함(AND)해야 일치, 최신순
+ * - AI 견적 부품은 견적이 참조하는 부품 구성(ai_component_set_items)에서 찾는다. (같은 구성을 공유하는 견적마다 한 번씩 일치)
+ * - 내 채팅방/견적으로 범위를 먼저 좁히므로 짧은 검색어(인덱스를 못 쓰는 2글자 이하)도 방 인덱스로 처리
+ * - 보관(archive)된 채팅방의 메시지는 복원 전까지 검색되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatSearchService {
+
+    private static final int MAX_LIMIT = 50;
+    private static final int MAX_TERMS = 5;
+    private static final int SNIPPET_RADIUS = 40;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatMessagePartitionManager partitionManager;
+
+    /** 검색용 trigram 인덱스 준비 (없을 때만 생성) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSearchIndexes() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            // 파티션 테이블은 CONCURRENTLY 를 지원하지 않음
+            String concurrently = partitionManager.isPartitioned() ? "" : "CONCURRENTLY ";
+            jdbcTemplate.execute("CREATE INDEX " + concurrently + "IF NOT EXISTS idx_chat_messages_content_trgm " +
+                "ON chat_messages USING gin (content gin_trgm_ops)");
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_ai_component_set_items_name_trgm " +
+                "ON ai_component_set_items USING gin (name gin_trgm_ops)");
+            // 부품 행은 구성으로 옮겨지므로 레거시 테이블 인덱스는 더 이상 쓰지 않음
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS idx_ai_estimate_products_name_trgm");
+        } catch (Exception e) {
+            log.warn("Chat search indexes unavailable, search will fall back to scans: {}", e.getMessage());
+        }
+    }
+
+    public ChatSearchResponse search(String userId, String query, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            throw new RuntimeException("검색어를 입력해주세요.");
+        }
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<Object> messageArgs = new ArrayList<>();
+        messageArgs.add(userId);
+        StringBuilder messageSql = new StringBuilder(
+            "SELECT m.id, m.chat_room_id, r.title, m.sender, m.content, m.created_at " +
+            "FROM chat_messages m JOIN chat_rooms r ON r.id = m.chat_room_id " +
+            "WHERE r.user_id = ?");
+        for (String term : terms) {
+            messageSql.append(" AND m.content ILIKE ? ESCAPE '\\'");
+            messageArgs.add(likePattern(term));
+        }
+        messageSql.append(" ORDER BY m.created_at DESC, m.id DESC LIMIT ?");
+        messageArgs.add(size);
+
+        List<ChatSearchResponse.MessageHit> messages = jdbcTemplate.query(messageSql.toString(), (rs, rowNum) ->
+            ChatSearchResponse.MessageHit.builder()
+                .messageId(rs.getLong("id"))
+                .chatRoomId(rs.getLong("chat_room_id"))
+                .chatRoomTitle(rs.getString("title"))
+                .sender(rs.getString("sender"))
+                .snippet(snippet(rs.getString("content"), terms))
+                .createdAt(rs.getTimestamp("created_at") != null ? rs.getTimestamp("created_at").toLocalDateTime() : null)
+                .build(), messageArgs.toArray());
+
+        List<Object> productArgs = new ArrayList<>();
+        productArgs.add(userId);
+        StringBuilder productSql = new StringBuilder(
+            "SELECT i.id, e.id AS ai_estimate_id, i.category, i.name, i.price, e.chat_room_id, e.created_at " +
+            "FROM ai_estimates e JOIN ai_component_set_items i ON i.component_set_id = e.component_set_id " +
+            "WHERE e.user_id = ?");
+        for (String term : terms) {
+            productSql.append(" AND i.name ILIKE ? ESCAPE '\\'");
+            productArgs.add(likePattern(term));
+        }
+        productSql.append(" ORDER BY e.created_at DESC NULLS LAST, e.id DESC, i.position LIMIT ?");
+        productArgs.add(size);
+
+        List<ChatSearchResponse.EstimateProductHit> products = jdbcTemplate.query(productSql.toString(), (rs, rowNum) ->
+            ChatSearchResponse.EstimateProductHit.builder()
+                .aiEstimateProductId(rs.getLong("id"))
+                .aiEstimateId(rs.getLong("ai_estimate_id"))
+                .chatRoomId((Long) rs.getObject("chat_room_id"))
+                .category(rs.getString("category"))
+                .name(rs.getString("name"))
+                .price((Long) rs.getObject("price"))
+                .snippet(snippet(rs.getString("name"), terms))
+                .createdAt(rs.getTimestamp("created_at") != null ? rs.getTimestamp("created_at").toLocalDateTime() : null)
+                .build(), productArgs.toArray());
+
+        return ChatSearchResponse.builder()
+            .query(query)
+            .messages(messages)
+            .estimateProducts(products)
+            .build();
+    }
+
+    private static List<String> terms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        return Arrays.stream(query.trim().split("\\s+"))
+            .filter(term -> !term.isEmpty())
+            .distinct()
+            .limit(MAX_TERMS)
+            .toList();
+    }
+
+    private static String likePattern(String term) {
+        String escaped = term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    /**
+     * 첫 번째로 등장하는 검색어 주변만 잘라 HTML 이스케이프 후 모든 검색어를 <mark> 로 강조
+     */
+    static String snippet(String text, List<String> terms) {
+        if (text == null) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int first = -1;
+        for (String term : terms) {
+            int idx = lower.indexOf(term.toLowerCase(Locale.ROOT));
+            if (idx >= 0 && (first < 0 || idx < first)) {
+                first = idx;
+            }
+        }
+        int start = first < 0 ? 0 : Math.max(0, first - SNIPPET_RADIUS);
+        int end = Math.min(text.length(), (first < 0 ? 0 : first) + SNIPPET_RADIUS * 2);
+        String window = text.substring(start, end);
+
+        // 강조 구간 표시 (겹치는 구간은 합침)
+        String windowLower = window.toLowerCase(Locale.ROOT);
+        boolean[] marked = new boolean[window.length()];
+        for (String term : terms) {
+            String t = term.toLowerCase(Locale.ROOT);
+            for (int idx = windowLower.indexOf(t); idx >= 0; idx = windowLower.indexOf(t, idx + 1)) {
+                Arrays.fill(marked, idx, Math.min(window.length(), idx + t.length()), true);
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        if (start > 0) {
+            sb.append("…");
+        }
+        int i = 0;
+        while (i < window.length()) {
+            int j = i;
+            while (j < window.length() && marked[j] == marked[i]) {
+                j++;
+            }
+            String part = StringEscapeUtils.escapeHtml4(window.substring(i, j));
+            sb.append(marked[i] ? "<mark>" + part + "</mark>" : part);
+            i = j;
+        }
+        if (end < text.length()) {
+            sb.append("…");
+        }
+        return sb.toString();
+    }
+}
@@ -3,15 +3,23 @@ package specmate.backend.service.chat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import specmate.backend.dto.ai.AiComponent;
 import specmate.backend.dto.ai.AiRequest;
 import specmate.backend.dto.ai.AiResponse;
+import specmate.backend.dto.chat.ChatHistoryResponse;
+import specmate.backend.dto.chat.ChatMessageResponse;
+import specmate.backend.dto.chat.ChatRoomSummaryResponse;
 import specmate.backend.entity.User;
 import specmate.backend.entity.AiEstimate;
-import specmate.backend.entity.AiEstimateProduct;
+import specmate.backend.entity.AiComponentSetItem;
 import specmate.backend.entity.ChatMessage;
 import specmate.backend.entity.ChatRoom;
 import specmate.backend.repository.user.UserRepository;
@@ -19,56 +27,120 @@ import specmate.backend.repository.estimate.ai.AiEstimateRepository;
 import specmate.backend.repository.chat.ChatMessageRepository;
 import specmate.backend.repository.chat.ChatRoomRepository;
 import specmate.backend.repository.product.ProductRepository;
+import specmate.backend.service.ai.AiServerClient;
+import specmate.backend.service.ai.AiServerUnavailableException;
+import specmate.backend.service.ai.cache.SemanticResponseCache;
+import specmate.backend.service.ai.intent.KeywordIntentClassifier;
+import specmate.backend.service.ai.intent.LocalReplyService;
+import specmate.backend.service.chat.archive.ChatArchiveService;
+import specmate.backend.service.estimate.ai.AiComponentSetService;
+import specmate.backend.service.estimate.summary.EstimateSummaryService;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatService {
 
+    private static final int MAX_HISTORY_LIMIT = 100;
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final AiEstimateRepository aiEstimateRepository;
+    private final AiComponentSetService aiComponentSetService;
+    private final EstimateSummaryService estimateSummaryService;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
-    private final WebClient webClient;
+    private final AiServerClient aiServerClient;
+    private final SemanticResponseCache semanticResponseCache;
+    private final ChatHistoryCache chatHistoryCache;
+    private final ChatMessageWriteBehindService chatMessageWriteBehindService;
+    private final ChatRoomSerialExecutor chatRoomSerialExecutor;
+    private final ChatAdmissionQueue chatAdmissionQueue;
+    private final ChatArchiveService chatArchiveService;
+    private final LocalReplyService localReplyService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Value("${ai.server.url}")
-    private String aiServerUrl;
+    @Value("${chat.room-summary.backfill-batch-size}")
+    private int roomSummaryBackfillBatchSize;
 
     /**
      * 사용자 메시지 처리 및 AI 응답 생성
+     * - 같은 채팅방 메시지는 도착 순서대로 하나씩 처리 (AI 서버 thread_id 상태 꼬임 방지)
+     * - AI 응답 대기 중 DB 커넥션을 점유하지 않도록 트랜잭션은 저장 단위로만 연다.
+     * - 채팅방 순서를 잡은 뒤 입장 대기열을 통과해야 처리 (거절 시 메시지를 저장하지 않으므로 그대로 재전송 가능)
+     * - 인사/감사/부품 설명 같은 턴은 대기열과 AI 서버를 거치지 않고 바로 응답
      */
-    @Transactional
     public AiResponse processUserMessage(Long chatRoomId, String userId, String userMessageContent) {
+        return chatRoomSerialExecutor.execute(chatRoomId, () -> {
+            AiResponse localReply = localReplyService.tryReply(userMessageContent);
+            if (localReply != null) {
+                return replyLocally(chatRoomId, userMessageContent, localReply);
+            }
+            return chatAdmissionQueue.execute(userId, chatRoomId, () -> doProcessUserMessage(chatRoomId, userId, userMessageContent));
+        });
+    }
+
+    private AiResponse replyLocally(Long chatRoomId, String userMessageContent, AiResponse localReply) {
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
             .orElseThrow(() -> new RuntimeException("ChatRoom not found"));
+        if (chatRoom.isArchived()) {
+            chatArchiveService.rehydrate(chatRoomId);
+        }
+        saveChatMessage(chatRoom, ChatMessage.Sender.USER, userMessageContent, ChatMessage.MessageType.TALK, null);
+        saveChatMessage(chatRoom, ChatMessage.Sender.AI, localReply.getReply(), ChatMessage.MessageType.TALK, null);
+        return localReply;
+    }
+
+    private AiResponse doProcessUserMessage(Long chatRoomId, String userId, String userMessageContent) {
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+            .orElseThrow(() -> new RuntimeException("ChatRoom not found"));
+        if (chatRoom.isArchived()) {
+            chatArchiveService.rehydrate(chatRoomId);
+        }
+
+        // 첫 턴은 AI 서버의 대화 스레드 상태와 무관하므로 의미 캐시 사용 가능
+        // - 채팅방 요약(메시지 수/마지막 메시지 시각)으로 판단 (write-behind 로 아직 저장되지 않은 메시지도 반영됨)
+        // - 견적 요청은 이후 수정(modify) 턴이 스레드 상태를 이어 받아야 하므로 캐시로 답하지 않음
+        boolean firstTurn = semanticResponseCache.isEnabled()
+            && !KeywordIntentClassifier.looksLikeEstimateRequest(userMessageContent)
+            && chatRoom.getMessageCount() == 0 && chatRoom.getLastMessageAt() == null
+            && !chatMessageRepository.existsByChatRoomId(chatRoomId); // 요약이 아직 채워지지 않은 오래된 방
 
         saveChatMessage(chatRoom, ChatMessage.Sender.USER, userMessageContent, ChatMessage.MessageType.TALK, null);
 
-        AiRequest request = AiRequest.builder()
-            .user_input(userMessageContent)
-            .thread_id(String.valueOf(chatRoomId))
-            .build();
+        AiResponse aiResponse = firstTurn ? semanticResponseCache.get(userMessageContent) : null;
+        if (aiResponse == null) {
+            AiRequest request = AiRequest.builder()
+                .user_input(userMessageContent)
+                .thread_id(String.valueOf(chatRoomId))
+                .build();
 
-        AiResponse aiResponse;
-        try {
-            aiResponse = webClient.post()
-                .uri(aiServerUrl + "/chat/message")
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(AiResponse.class)
-                .block();
-        } catch (Exception e) {
-            log.error("AI Server Error", e);
-            saveChatMessage(chatRoom, ChatMessage.Sender.AI, "죄송합니다. AI 서버 연결에 실패했습니다.", ChatMessage.MessageType.TALK, null);
-            AiResponse errorResponse = new AiResponse();
-            errorResponse.setReply("죄송합니다. AI 서버 연결에 실패했습니다.");
-            return errorResponse;
+            long start = System.nanoTime();
+            try {
+                aiResponse = aiServerClient.sendMessage(request);
+            } catch (AiServerUnavailableException e) {
+                saveChatMessage(chatRoom, ChatMessage.Sender.AI, e.getMessage(), ChatMessage.MessageType.TALK, null);
+                AiResponse errorResponse = new AiResponse();
+                errorResponse.setReply(e.getMessage());
+                return errorResponse;
+            }
+
+            // 견적(build/modify)이 아닌 일반 답변만 캐시
+            if (firstTurn && aiResponse != null && !isEstimateIntent(aiResponse.getIntent())
+                && aiResponse.getReply() != null && !aiResponse.getReply().isEmpty()) {
+                semanticResponseCache.put(userMessageContent, aiResponse, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
         }
 
         if (aiResponse == null) {
@@ -77,8 +149,9 @@ public class ChatService {
             return errorResponse;
         }
 
-        if (aiResponse.getIntent() != null && ("build".equals(aiResponse.getIntent()) || "modify".equals(aiResponse.getIntent()))) {
-            handleEstimateResponse(chatRoom, userId, aiResponse);
+        if (isEstimateIntent(aiResponse.getIntent())) {
+            AiResponse estimateResponse = aiResponse;
+            transactionTemplate.executeWithoutResult(status -> handleEstimateResponse(chatRoom, userId, estimateResponse));
         } else {
             String reply = aiResponse.getReply();
             if (reply == null || reply.isEmpty()) {
@@ -91,6 +164,10 @@ public class ChatService {
         return aiResponse;
     }
 
+    private boolean isEstimateIntent(String intent) {
+        return "build".equals(intent) || "modify".equals(intent);
+    }
+
     /**
      * AI 견적 응답 처리 (DB 저장 및 메시지 연결)
      */
@@ -120,8 +197,21 @@ public class ChatService {
             .createdAt(LocalDateTime.now()) // Auditing을 쓴다면 생략 가능
             .build();
 
+        // 부품 구성은 내용 해시로 공유 (같은 견적이 반복되면 부품 행을 다시 저장하지 않음)
+        List<AiComponentSetItem> items = new ArrayList<>();
         if (response.getMain() != null) {
-            List<AiEstimateProduct> products = new ArrayList<>();
+            // Product 테이블에서 이미지 가져오기 (부품명으로 한 번에 조회)
+            List<String> names = response.getMain().values().stream()
+                .filter(Objects::nonNull)
+                .map(AiComponent::getName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+            Map<String, String> images = new HashMap<>();
+            if (!names.isEmpty()) {
+                productRepository.findAllByNameIn(names)
+                    .forEach(p -> images.putIfAbsent(p.getName(), p.getImage()));
+            }
 
             for (Map.Entry<String, AiComponent> entry : response.getMain().entrySet()) {
                 String categoryKey = entry.getKey();
@@ -129,26 +219,19 @@ public class ChatService {
 
                 if (comp == null) continue;
 
-                // Product 테이블에서 이미지 가져오기
-                String imageUrl = productRepository.findByName(comp.getName())
-                    .map(specmate.backend.entity.Product::getImage)
-                    .orElse(null);
-
-                AiEstimateProduct product = AiEstimateProduct.builder()
-                    .aiEstimate(estimate)
+                items.add(AiComponentSetItem.builder()
                     .category(categoryKey) // cpu, gpu ...
                     .name(comp.getName())
                     .price(comp.getPrice())
-                    .image(imageUrl)
+                    .image(comp.getName() != null ? images.get(comp.getName()) : null)
                     .description(comp.getDescription())
-                    .build();
-
-                products.add(product);
+                    .build());
             }
-            estimate.setProducts(products);
         }
+        estimate.setComponentSet(aiComponentSetService.intern(items));
 
         AiEstimate savedEstimate = aiEstimateRepository.save(estimate);
+        estimateSummaryService.refreshAiEstimate(savedEstimate.getId());
 
         String messageContent = response.getIntro() + "\n\n" + response.getNote();
         if (response.getAnotherInputText() != null) {
@@ -176,9 +259,59 @@ public class ChatService {
             .content(content)
             .type(type)
             .relatedEstimateId(estimateId)
+            .messageKey(UUID.randomUUID().toString())
             .build();
 
-        chatMessageRepository.save(message);
+        if (chatMessageWriteBehindService.isEnabled()) {
+            // 호출 트랜잭션이 롤백되면 남지 않도록 커밋 후 Redis Stream 에 적재 (id 는 워커가 DB 저장 시 부여)
+            // id 가 없는 메시지는 최근 메시지 캐시에 넣지 않음 → 워커가 저장 후 캐시를 무효화해 DB 기준으로 재구성
+            message.setCreatedAt(LocalDateTime.now());
+            if (chatRoom.getLastMessageAt() == null) {
+                // 방의 첫 메시지는 시각만 바로 반영 (다음 턴의 첫 턴 판단이 워커 반영을 기다리지 않도록)
+                chatRoomRepository.touchLastMessage(chatRoom.getId(), ChatRoom.previewOf(content), message.getCreatedAt());
+                chatRoom.setLastMessageAt(message.getCreatedAt());
+            }
+            afterCommit(() -> enqueueOrSave(message));
+            return;
+        }
+
+        ChatMessage saved = chatMessageRepository.save(message);
+        // 채팅방 목록 요약 갱신 (write-behind 모드에서는 워커가 배치로 반영)
+        LocalDateTime at = saved.getCreatedAt() != null ? saved.getCreatedAt() : LocalDateTime.now();
+        chatRoomRepository.applyNewMessages(chatRoom.getId(), 1, ChatRoom.previewOf(content), at);
+
+        // 커밋된 메시지만 최근 메시지 캐시에 반영
+        ChatMessageResponse cached = toMessageResponse(saved);
+        afterCommit(() -> chatHistoryCache.append(chatRoom.getId(), cached));
+    }
+
+    /** Stream 적재 실패 시 (Redis 장애) 메시지를 잃지 않도록 DB 에 바로 저장 */
+    private void enqueueOrSave(ChatMessage message) {
+        try {
+            chatMessageWriteBehindService.enqueue(message);
+        } catch (Exception e) {
+            log.warn("Chat message stream unavailable, saving directly (roomId={}): {}", message.getChatRoom().getId(), e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> {
+                chatMessageRepository.save(message);
+                chatRoomRepository.applyNewMessages(message.getChatRoom().getId(), 1,
+                    ChatRoom.previewOf(message.getContent()), message.getCreatedAt());
+            });
+            chatHistoryCache.evict(message.getChatRoom().getId());
+        }
+    }
+
+    /** 트랜잭션 안이면 커밋 후, 아니면 바로 실행 */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 
     /**
@@ -194,8 +327,107 @@ public class ChatService {
         return chatRoomRepository.save(chatRoom);
     }
 
+    /**
+     * 내 채팅방 목록 (마지막 메시지 미리보기/시각/메시지 수 포함, 최근 활동순)
+     */
     @Transactional(readOnly = true)
-    public List<ChatRoom> getUserChatRooms(String userId) {
-        return chatRoomRepository.findByUserIdOrderByUpdatedAtDesc(userId);
+    public List<ChatRoomSummaryResponse> getUserChatRooms(String userId) {
+        return chatRoomRepository.findSummariesByUserId(userId);
+    }
+
+    /**
+     * 요약 컬럼이 생기기 전에 만들어진 채팅방 요약 채우기
+     * - 메시지가 있는데 요약이 없는 방(last_message_at IS NULL)만 id 순으로 배치 처리, 해당 방의 메시지만 집계
+     * - 모든 방에 요약이 있으면 조회 한 번으로 끝남 (메시지 없는 방은 방마다 인덱스 확인 한 번, 집계 UPDATE 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRoomSummaries() {
+        try {
+            int updated = 0;
+            long afterId = 0;
+            List<Long> roomIds;
+            do {
+                roomIds = chatRoomRepository.findIdsWithoutSummary(afterId, roomSummaryBackfillBatchSize);
+                if (roomIds.isEmpty()) {
+                    break;
+                }
+                updated += chatRoomRepository.backfillSummaries(roomIds);
+                afterId = roomIds.get(roomIds.size() - 1);
+            } while (roomIds.size() == roomSummaryBackfillBatchSize);
+
+            if (updated > 0) {
+                log.info("Backfilled chat room summaries: {}", updated);
+            }
+        } catch (Exception e) {
+            log.warn("Chat room summary backfill failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅 내역 커서 기반 조회 (before 가 없으면 최신 페이지)
+     * - 첫 페이지는 Redis 최근 메시지 캐시에서, 이전 페이지는 DB에서 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public ChatHistoryResponse getChatHistory(Long chatRoomId, String userId, Long before, int limit) {
+        boolean archived = chatRoomRepository.findArchivedByIdAndUserId(chatRoomId, userId)
+            .orElseThrow(() -> new RuntimeException("권한이 없습니다."));
+        if (archived) {
+            chatArchiveService.rehydrate(chatRoomId);
+        }
+
+        int size = Math.min(Math.max(limit, 1), MAX_HISTORY_LIMIT);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 개 조회
+        if (before == null && size < chatHistoryCache.getCapacity()) {
+            List<ChatMessageResponse> recent = chatHistoryCache.getRecent(chatRoomId, size + 1);
+            if (recent == null) {
+                recent = rebuildHistoryCache(chatRoomId);
+                recent = recent.subList(Math.max(recent.size() - (size + 1), 0), recent.size());
+            }
+            return toHistoryResponse(recent, size);
+        }
+
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<ChatMessageResponse> rows = new ArrayList<>(before == null
+            ? chatMessageRepository.findLatestMessages(chatRoomId, page)
+            : chatMessageRepository.findMessagesBefore(chatRoomId, before, page));
+        Collections.reverse(rows);
+
+        return toHistoryResponse(rows, size);
+    }
+
+    /** 캐시 미스 시 최근 메시지로 캐시 재구성 (오래된 순 반환, 버전은 DB 를 읽기 전에 받아 둠) */
+    private List<ChatMessageResponse> rebuildHistoryCache(Long chatRoomId) {
+        Long version = chatHistoryCache.version(chatRoomId);
+        List<ChatMessageResponse> latest = new ArrayList<>(
+            chatMessageRepository.findLatestMessages(chatRoomId, PageRequest.of(0, chatHistoryCache.getCapacity())));
+        Collections.reverse(latest);
+        if (version != null) {
+            chatHistoryCache.rebuild(chatRoomId, version, latest);
+        }
+        return latest;
+    }
+
+    /** 오래된 순으로 정렬된 최대 size + 1 개 메시지를 응답으로 변환 */
+    private ChatHistoryResponse toHistoryResponse(List<ChatMessageResponse> rows, int size) {
+        boolean hasMore = rows.size() > size;
+        List<ChatMessageResponse> messages = hasMore ? new ArrayList<>(rows.subList(1, rows.size())) : rows;
+
+        return ChatHistoryResponse.builder()
+            .messages(messages)
+            .nextCursor(hasMore ? messages.get(0).getId() : null)
+            .hasMore(hasMore)
+            .build();
+    }
+
+    private ChatMessageResponse toMessageResponse(ChatMessage message) {
+        return ChatMessageResponse.builder()
+            .id(message.getId())
+            .sender(message.getSender())
+            .type(message.getType())
+            .content(message.getContent())
+            .relatedEstimateId(message.getRelatedEstimateId())
+            .createdAt(message.getCreatedAt())
+            .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package specmate.backend.service.chat.archive;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채팅 보관본 직렬화 (메시지 목록 JSON → bzip2)
+ * 자주 읽지 않는 데이터라 속도보다 압축률을 우선해 bzip2 사용 (한국어 대화 텍스트 기준 대략 1/4~1/6)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatArchiveCodec {
+
+    private static final TypeReference<List<ArchivedMessage>> MESSAGE_LIST = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    /** chat_messages 한 행 (복원 시 id/message_key/created_at 을 그대로 되살림) */
+    public record ArchivedMessage(
+        Long id,
+        String sender,
+        String type,
+        String content,
+        Long relatedEstimateId,
+        String messageKey,
+        LocalDateTime createdAt) {
+    }
+
+    public record Encoded(byte[] payload, long originalBytes) {
+    }
+
+    public Encoded encode(List<ArchivedMessage> messages) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(messages);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (BZip2CompressorOutputStream bzip2 = new BZip2CompressorOutputStream(out)) {
+                bzip2.write(json);
+            }
+            return new Encoded(out.toByteArray(), json.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<ArchivedMessage> decode(byte[] payload) {
+        try (InputStream in = new BZip2CompressorInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(in, MESSAGE_LIST);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package specmate.backend.service.chat.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import specmate.backend.entity.ChatRoomArchive;
+import specmate.backend.repository.chat.ChatRoomArchiveRepository;
+import specmate.backend.service.chat.ChatHistoryCache;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 비활성 채팅방 메시지 보관/복원
+ * - 보관: 마지막 메시지가 inactive-months 보다 오래된 방의 메시지를 압축 blob(chat_room_archives)으로 옮기고 chat_messages 에서 삭제
+ * - 복원: 보관된 방에 접근하면(대화 조회/메시지 전송) 원래 id/created_at 그대로 chat_messages 로 되돌림
+ * - 채팅방 행을 FOR UPDATE 로 잠가 보관과 복원, 여러 인스턴스의 동시 실행을 직렬화한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatArchiveService {
+
+    private static final String RESTORE_SQL =
+        "INSERT INTO chat_messages (id, chat_room_id, sender, type, content, related_estimate_id, message_key, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private static final RowMapper<ChatArchiveCodec.ArchivedMessage> MESSAGE_ROW = (rs, rowNum) ->
+        new ChatArchiveCodec.ArchivedMessage(
+            rs.getLong("id"),
+            rs.getString("sender"),
+            rs.getString("type"),
+            rs.getString("content"),
+            (Long) rs.getObject("related_estimate_id"),
+            rs.getString("message_key"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ChatRoomArchiveRepository chatRoomArchiveRepository;
+    private final ChatArchiveCodec chatArchiveCodec;
+    private final ChatMessagePartitionManager partitionManager;
+    private final ChatHistoryCache chatHistoryCache;
+
+    @Value("${chat.archive.enabled}")
+    private boolean enabled;
+
+    @Value("${chat.archive.inactive-months}")
+    private int inactiveMonths;
+
+    @Value("${chat.archive.batch-size}")
+    private int batchSize;
+
+    @Scheduled(cron = "${chat.archive.cron}")
+    public void archiveInactiveRooms() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusMonths(inactiveMonths);
+        int archived = 0;
+
+        while (true) {
+            List<Long> roomIds = jdbcTemplate.queryForList(
+                "SELECT id FROM chat_rooms WHERE archived = false AND last_message_at < ? ORDER BY last_message_at LIMIT ?",
+                Long.class, Timestamp.valueOf(cutoff), batchSize);
+
+            int archivedInBatch = 0;
+            for (Long roomId : roomIds) {
+                try {
+                    if (archiveRoom(roomId, cutoff)) {
+                        archivedInBatch++;
+                    }
+                } catch (Exception e) {
+                    log.error("Chat room archive failed (roomId={})", roomId, e);
+                }
+            }
+            archived += archivedInBatch;
+            // 한 건도 진행하지 못했으면(모두 실패/다른 인스턴스가 처리 중) 다음 실행으로 미룸
+            if (roomIds.size() < batchSize || archivedInBatch == 0) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} inactive chat rooms (before {})", archived, cutoff);
+        }
+        partitionManager.dropEmptyPartitionsBefore(cutoff);
+    }
+
+    private boolean archiveRoom(Long roomId, LocalDateTime cutoff) {
+        Boolean done = new TransactionTemplate(transactionManager).execute(status -> {
+            // 다른 인스턴스가 처리 중이면 건너뜀, 잠근 뒤 조건을 다시 확인 (그 사이 새 메시지가 왔을 수 있음)
+            List<Long> locked = jdbcTemplate.queryForList(
+                "SELECT id FROM chat_rooms WHERE id = ? AND archived = false AND last_message_at < ? FOR UPDATE SKIP LOCKED",
+                Long.class, roomId, Timestamp.valueOf(cutoff));
+            if (locked.isEmpty()) {
+                return false;
+            }
+
+            List<ChatArchiveCodec.ArchivedMessage> messages = jdbcTemplate.query(
+                "SELECT id, sender, type, content, related_estimate_id, message_key, created_at " +
+                "FROM chat_messages WHERE chat_room_id = ? ORDER BY id", MESSAGE_ROW, roomId);
+            if (messages.isEmpty()) {
+                return false;
+            }
+
+            ChatArchiveCodec.Encoded encoded = chatArchiveCodec.encode(messages);
+            chatRoomArchiveRepository.save(ChatRoomArchive.builder()
+                .chatRoomId(roomId)
+                .payload(encoded.payload())
+                .messageCount(messages.size())
+                .originalBytes(encoded.originalBytes())
+                .firstMessageAt(messages.get(0).createdAt())
+                .lastMessageAt(messages.get(messages.size() - 1).createdAt())
+                .archivedAt(LocalDateTime.now())
+                .build());
+
+            // 보관본에 담은 메시지까지만 삭제 (조회 이후 들어온 메시지는 남겨둔다)
+            Long lastArchivedId = messages.get(messages.size() - 1).id();
+            jdbcTemplate.update("DELETE FROM chat_messages WHERE chat_room_id = ? AND id <= ?", roomId, lastArchivedId);
+            jdbcTemplate.update("UPDATE chat_rooms SET archived = true WHERE id = ?", roomId);
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(done)) {
+            chatHistoryCache.evict(roomId);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 보관된 채팅방 복원. 호출 측 트랜잭션과 별도로 커밋해 이후 조회가 바로 복원된 메시지를 읽도록 한다.
+     * 이미 다른 요청이 복원했다면 아무것도 하지 않는다.
+     */
+    public void rehydrate(Long roomId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Integer restored = tx.execute(status -> {
+            List<Boolean> archived = jdbcTemplate.queryForList(
+                "SELECT archived FROM chat_rooms WHERE id = ? FOR UPDATE", Boolean.class, roomId);
+            if (archived.isEmpty() || !archived.get(0)) {
+                return null;
+            }
+
+            int count = 0;
+            ChatRoomArchive archive = chatRoomArchiveRepository.findById(roomId).orElse(null);
+            if (archive != null) {
+                List<ChatArchiveCodec.ArchivedMessage> messages = chatArchiveCodec.decode(archive.getPayload());
+                if (!messages.isEmpty()) {
+                    partitionManager.ensurePartitions(archive.getFirstMessageAt(), archive.getLastMessageAt());
+                    jdbcTemplate.batchUpdate(RESTORE_SQL, messages, 500, (ps, m) -> {
+                        ps.setLong(1, m.id());
+                        ps.setLong(2, roomId);
+                        ps.setString(3, m.sender());
+                        ps.setString(4, m.type());
+                        ps.setString(5, m.content());
+                        if (m.relatedEstimateId() == null) {
+                            ps.setNull(6, Types.BIGINT);
+                        } else {
+                            ps.setLong(6, m.relatedEstimateId());
+                        }
+                        ps.setString(7, m.messageKey());
+                        ps.setTimestamp(8, Timestamp.valueOf(m.createdAt()));
+                    });
+                }
+                chatRoomArchiveRepository.delete(archive);
+                count = messages.size();
+            }
+            jdbcTemplate.update("UPDATE chat_rooms SET archived = false WHERE id = ?", roomId);
+            return count;
+        });
+
+        if (restored != null) {
+            chatHistoryCache.evict(roomId);
+            log.info("Rehydrated archived chat room {} ({} messages)", roomId, restored);
+        }
+    }
+}
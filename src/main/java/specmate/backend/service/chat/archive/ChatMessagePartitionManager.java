@@ -0,0 +1,196 @@
+package specmate.backend.service.chat.archive;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * chat_messages 월별 파티션 관리 (chat.partition.enabled=true 일 때만 동작)
+ * - 기동 시 일반 테이블이면 created_at 기준 RANGE 파티션 테이블로 한 번 전환 (웹 서버가 요청을 받기 전에 실행)
+ * - 매일 앞으로 몇 달치 파티션을 미리 만들어 기본(default) 파티션에 행이 쌓이지 않게 한다.
+ * - 보관(archive)으로 비어버린 오래된 파티션은 삭제 → 인덱스/VACUUM 대상이 활성 구간으로 줄어든다.
+ * 파티션 테이블의 PK/유니크 제약은 파티션 키를 포함해야 하므로 (id, created_at), (message_key, created_at) 로 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessagePartitionManager implements SmartInitializingSingleton {
+
+    private static final String TABLE = "chat_messages";
+    private static final String LEGACY_TABLE = "chat_messages_legacy";
+    private static final String SEQUENCE = "chat_messages_id_part_seq";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("^chat_messages_p(\\d{6})$");
+
+    // 여러 인스턴스가 동시에 파티션 DDL 을 실행하지 않도록 트랜잭션 단위 advisory lock
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('chat_messages_partitions'))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory; // 스키마 업데이트(ddl-auto) 이후에 실행되도록 의존
+
+    @Value("${chat.partition.enabled}")
+    private boolean enabled;
+
+    @Value("${chat.partition.months-ahead}")
+    private int monthsAhead;
+
+    private volatile boolean partitioned;
+
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        if (!isPartitionedTable()) {
+            convertToPartitioned();
+        }
+        partitioned = true;
+        createUpcomingPartitions();
+    }
+
+    /** 이번 달부터 months-ahead 개월 뒤까지 파티션 준비 */
+    @Scheduled(cron = "${chat.partition.cron}")
+    public void createUpcomingPartitions() {
+        if (!partitioned) {
+            return;
+        }
+        YearMonth now = YearMonth.now();
+        ensurePartitions(now, now.plusMonths(monthsAhead));
+    }
+
+    /** 복원 등으로 과거 시점 메시지를 넣기 전에 해당 월 파티션 준비 (파티션 미사용 시 무시) */
+    public void ensurePartitions(LocalDateTime from, LocalDateTime to) {
+        if (!partitioned) {
+            return;
+        }
+        ensurePartitions(YearMonth.from(from), YearMonth.from(to));
+    }
+
+    /**
+     * cutoff 이전 달의 비어 있는 파티션 삭제
+     * 확인과 삭제 사이에 행이 들어오지 않도록 파티션을 잠근 뒤 비어 있는지 확인한다.
+     */
+    public void dropEmptyPartitionsBefore(LocalDateTime cutoff) {
+        if (!partitioned) {
+            return;
+        }
+        YearMonth limit = YearMonth.from(cutoff);
+        List<String> partitions = jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = ?", String.class, TABLE);
+
+        for (String partition : partitions) {
+            Matcher m = PARTITION_NAME.matcher(partition);
+            if (!m.matches() || !YearMonth.parse(m.group(1), SUFFIX).isBefore(limit)) {
+                continue;
+            }
+            Boolean dropped = new TransactionTemplate(transactionManager).execute(status -> {
+                jdbcTemplate.execute(LOCK_SQL);
+                jdbcTemplate.execute("LOCK TABLE " + partition + " IN ACCESS EXCLUSIVE MODE");
+                Boolean empty = jdbcTemplate.queryForObject(
+                    "SELECT NOT EXISTS (SELECT 1 FROM " + partition + ")", Boolean.class);
+                if (!Boolean.TRUE.equals(empty)) {
+                    return false;
+                }
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                return true;
+            });
+            if (Boolean.TRUE.equals(dropped)) {
+                log.info("Dropped empty chat message partition {}", partition);
+            }
+        }
+    }
+
+    private void ensurePartitions(YearMonth from, YearMonth to) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.execute(LOCK_SQL);
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                createPartition(month);
+            }
+        });
+    }
+
+    private void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + TABLE +
+            " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    private boolean isPartitionedTable() {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid " +
+            "WHERE c.relname = ? AND c.relnamespace = current_schema()::regnamespace", Integer.class, TABLE);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 일반 테이블 → 파티션 테이블 전환 (한 트랜잭션, 실패 시 전부 롤백)
+     * 기존 테이블을 잠그고 이름을 바꾼 뒤 같은 컬럼 구조의 파티션 테이블로 복사한다.
+     * 데이터 양에 비례해 시간이 걸리므로 한 번만, 트래픽이 적은 시간에 배포하는 것을 권장.
+     */
+    private void convertToPartitioned() {
+        long start = System.currentTimeMillis();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.execute(LOCK_SQL);
+            jdbcTemplate.execute("LOCK TABLE " + TABLE + " IN ACCESS EXCLUSIVE MODE");
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + LEGACY_TABLE);
+
+            // 인덱스/제약 이름은 스키마 전체에서 유일해야 하므로 기존 이름을 비워둔다
+            List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = ? AND schemaname = current_schema()", String.class, LEGACY_TABLE);
+            for (String index : indexes) {
+                String renamed = (index.length() > 50 ? index.substring(0, 50) : index) + "_legacy";
+                jdbcTemplate.execute("ALTER INDEX \"" + index + "\" RENAME TO \"" + renamed + "\"");
+            }
+
+            jdbcTemplate.update("UPDATE " + LEGACY_TABLE + " SET created_at = now() WHERE created_at IS NULL");
+
+            jdbcTemplate.execute("CREATE TABLE " + TABLE + " (LIKE " + LEGACY_TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS) " +
+                "PARTITION BY RANGE (created_at)");
+            jdbcTemplate.execute("CREATE SEQUENCE " + SEQUENCE + " OWNED BY " + TABLE + ".id");
+            jdbcTemplate.execute("SELECT setval('" + SEQUENCE + "', (SELECT COALESCE(MAX(id), 0) + 1 FROM " + LEGACY_TABLE + "), false)");
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ALTER COLUMN id SET DEFAULT nextval('" + SEQUENCE + "')");
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ALTER COLUMN created_at SET NOT NULL");
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD PRIMARY KEY (id, created_at)");
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT uk_chat_messages_message_key_created_at UNIQUE (message_key, created_at)");
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT fk_chat_messages_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_rooms (id)");
+            jdbcTemplate.execute("CREATE INDEX idx_chat_messages_room_id_id ON " + TABLE + " (chat_room_id, id)");
+            jdbcTemplate.execute("CREATE TABLE " + TABLE + "_pdefault PARTITION OF " + TABLE + " DEFAULT");
+
+            Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM " + LEGACY_TABLE, Timestamp.class);
+            YearMonth from = oldest != null ? YearMonth.from(oldest.toLocalDateTime()) : YearMonth.now();
+            for (YearMonth month = from; !month.isAfter(YearMonth.now().plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+                createPartition(month);
+            }
+
+            int copied = jdbcTemplate.update("INSERT INTO " + TABLE + " SELECT * FROM " + LEGACY_TABLE);
+            jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+            log.info("Converted chat_messages to monthly partitions: {} rows, {} ms", copied, System.currentTimeMillis() - start);
+        });
+    }
+
+    private static String partitionName(YearMonth month) {
+        return TABLE + "_p" + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,259 @@
+package specmate.backend.service.estimate.ai;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import specmate.backend.entity.AiComponentSet;
+import specmate.backend.entity.AiComponentSetItem;
+import specmate.backend.entity.AiEstimate;
+import specmate.backend.entity.AiEstimateProduct;
+import specmate.backend.repository.estimate.ai.AiComponentSetRepository;
+import specmate.backend.repository.estimate.ai.AiEstimateProductRepository;
+import specmate.backend.repository.estimate.ai.AiEstimateRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * AI 견적 부품 구성 내용 주소 저장
+ * - 부품 목록을 정규화(공백/대소문자/빈 값)해 SHA-256 을 구하고, 같은 해시의 구성이 있으면 그대로 참조
+ * - 없을 때만 구성 1행 + 부품 행을 JDBC 배치로 저장 (동시에 같은 구성이 들어오면 ON CONFLICT 로 한쪽만 저장)
+ * - 정규화한 값은 해시/비교에만 쓰고, 부품 행에는 들어온 값을 그대로 저장
+ * - 참조 없는 구성은 주기적으로 정리하고, 레거시 견적(견적별 부품 행)은 기동 시/정리 주기마다 구성으로 옮긴다.
+ */
+@Slf4j
+@Service
+public class AiComponentSetService {
+
+    private static final String FIND_SQL =
+        "SELECT id FROM ai_component_sets WHERE content_hash = ? FOR KEY SHARE"; // 정리 작업이 참조 직전에 지우지 못하도록
+    private static final String INSERT_SET_SQL =
+        "INSERT INTO ai_component_sets (content_hash, item_count, created_at) VALUES (?, ?, now()) " +
+        "ON CONFLICT (content_hash) DO NOTHING RETURNING id";
+    private static final String INSERT_ITEM_SQL =
+        "INSERT INTO ai_component_set_items (component_set_id, position, category, name, price, image, description) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final AiComponentSetRepository aiComponentSetRepository;
+    private final AiEstimateRepository aiEstimateRepository;
+    private final AiEstimateProductRepository aiEstimateProductRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${estimate.component-set.batch-size}")
+    private int batchSize;
+
+    @Value("${estimate.component-set.gc-min-age-hours}")
+    private long gcMinAgeHours;
+
+    public AiComponentSetService(AiComponentSetRepository aiComponentSetRepository,
+                                 AiEstimateRepository aiEstimateRepository,
+                                 AiEstimateProductRepository aiEstimateProductRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager) {
+        this.aiComponentSetRepository = aiComponentSetRepository;
+        this.aiEstimateRepository = aiEstimateRepository;
+        this.aiEstimateProductRepository = aiEstimateProductRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** 부품 목록과 같은 내용의 구성 (없으면 저장), 목록 순서도 내용에 포함 */
+    @Transactional
+    public AiComponentSet intern(List<AiComponentSetItem> items) {
+        String hash = hashOf(items.stream()
+            .map(AiComponentSetService::normalize)
+            .collect(Collectors.toList()));
+
+        Long id = findId(hash);
+        if (id == null) {
+            List<Long> inserted = jdbcTemplate.queryForList(INSERT_SET_SQL, Long.class, hash, items.size());
+            if (inserted.isEmpty()) {
+                id = findId(hash); // 다른 트랜잭션이 같은 구성을 먼저 저장
+            } else {
+                id = inserted.get(0);
+                insertItems(id, items);
+            }
+        }
+        return aiComponentSetRepository.getReferenceById(id);
+    }
+
+    /** 잠근 레거시 견적의 부품 행을 구성으로 옮김 (이미 옮겼으면 그대로) */
+    @Transactional
+    public AiComponentSet migrateLegacy(AiEstimate locked) {
+        if (locked.getComponentSet() != null) {
+            return locked.getComponentSet();
+        }
+        List<AiComponentSetItem> items = toItems(aiEstimateProductRepository.findByAiEstimateId(locked.getId()));
+        AiComponentSet set = intern(items);
+        aiEstimateProductRepository.deleteByAiEstimateId(locked.getId());
+        aiEstimateRepository.replaceComponentSet(locked.getId(), set, 0L);
+        return set;
+    }
+
+    /**
+     * 레거시 부품 행 → 구성 부품 (저장 전 상태)
+     * - 레거시 행 id 는 구성 부품 id 와 겹칠 수 있어 옮기지 않음 (이전이 끝나야 부품 id 가 생김)
+     */
+    public List<AiComponentSetItem> toItems(List<AiEstimateProduct> products) {
+        List<AiComponentSetItem> items = new ArrayList<>(products.size());
+        for (AiEstimateProduct p : products) {
+            items.add(AiComponentSetItem.builder()
+                .position(items.size())
+                .category(p.getCategory())
+                .name(p.getName())
+                .price(p.getPrice())
+                .image(p.getImage())
+                .description(p.getDescription())
+                .build());
+        }
+        return items;
+    }
+
+    /** 같은 부품인지 (구성이 바뀌어 부품 id 가 달라져도 내용으로 찾기 위함) */
+    public static boolean sameContent(AiComponentSetItem a, AiComponentSetItem b) {
+        AiComponentSetItem x = normalize(a);
+        AiComponentSetItem y = normalize(b);
+        return Objects.equals(x.getCategory(), y.getCategory())
+            && Objects.equals(x.getName(), y.getName())
+            && Objects.equals(x.getPrice(), y.getPrice())
+            && Objects.equals(x.getImage(), y.getImage())
+            && Objects.equals(x.getDescription(), y.getDescription());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyOnStartup() {
+        migrateLegacyEstimates();
+    }
+
+    /** 레거시 견적 이전 후 참조 없는 구성 정리 */
+    @Scheduled(cron = "${estimate.component-set.gc-cron}")
+    public void maintain() {
+        migrateLegacyEstimates();
+        try {
+            LocalDateTime createdBefore = LocalDateTime.now().minusHours(gcMinAgeHours);
+            int deleted;
+            int total = 0;
+            do {
+                deleted = transactionTemplate.execute(status -> aiComponentSetRepository.deleteUnreferenced(createdBefore, batchSize));
+                total += deleted;
+            } while (deleted == batchSize);
+            if (total > 0) {
+                log.info("Deleted unreferenced AI component sets: {}", total);
+            }
+        } catch (Exception e) {
+            log.warn("AI component set cleanup failed: {}", e.getMessage());
+        }
+    }
+
+    /** 견적마다 따로 옮기고, 실패한 견적은 로그만 남기고 다음 주기에 다시 시도 */
+    private void migrateLegacyEstimates() {
+        int migrated = 0;
+        int failed = 0;
+        long afterId = 0L;
+        List<Long> ids;
+        do {
+            try {
+                ids = aiEstimateRepository.findIdsWithoutComponentSet(afterId, PageRequest.of(0, batchSize));
+            } catch (Exception e) {
+                log.warn("AI estimate component migration failed: {}", e.getMessage());
+                break;
+            }
+            for (Long id : ids) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                        aiEstimateRepository.findForUpdate(id).ifPresent(this::migrateLegacy));
+                    migrated++;
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("AI estimate {} component migration failed: {}", id, e.getMessage());
+                }
+            }
+            if (!ids.isEmpty()) {
+                afterId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == batchSize);
+        if (migrated > 0 || failed > 0) {
+            log.info("Migrated legacy AI estimates to component sets: {} (failed {})", migrated, failed);
+        }
+    }
+
+    private Long findId(String hash) {
+        List<Long> ids = jdbcTemplate.queryForList(FIND_SQL, Long.class, hash);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private void insertItems(Long setId, List<AiComponentSetItem> items) {
+        List<Object[]> rows = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            AiComponentSetItem item = items.get(i);
+            rows.add(new Object[]{setId, i, item.getCategory(), item.getName(), item.getPrice(), item.getImage(), item.getDescription()});
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, rows);
+        }
+    }
+
+    private static AiComponentSetItem normalize(AiComponentSetItem item) {
+        String category = text(item.getCategory());
+        return AiComponentSetItem.builder()
+            .category(category != null ? category.toLowerCase(Locale.ROOT) : null)
+            .name(text(item.getName()))
+            .price(item.getPrice() != null ? item.getPrice() : 0L)
+            .image(text(item.getImage()))
+            .description(text(item.getDescription()))
+            .build();
+    }
+
+    private static String text(String value) {
+        if (value == null) {
+            return null;
+        }
+        String collapsed = value.strip().replaceAll("\\s+", " ");
+        return collapsed.isEmpty() ? null : collapsed;
+    }
+
+    /** 부품마다 필드를 길이와 함께 이어 붙여 해시 (구분자가 값에 들어 있어도 충돌 없음) */
+    private static String hashOf(List<AiComponentSetItem> items) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            StringBuilder sb = new StringBuilder();
+            for (AiComponentSetItem item : items) {
+                sb.setLength(0);
+                field(sb, item.getCategory());
+                field(sb, item.getName());
+                field(sb, String.valueOf(item.getPrice()));
+                field(sb, item.getImage());
+                field(sb, item.getDescription());
+                digest.update(sb.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void field(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("-1:");
+        } else {
+            sb.append(value.length()).append(':').append(value);
+        }
+    }
+}
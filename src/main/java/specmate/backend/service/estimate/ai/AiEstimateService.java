@@ -1,23 +1,36 @@
 package specmate.backend.service.estimate.ai;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import specmate.backend.dto.estimate.ai.AiEstimatePageResponse;
 import specmate.backend.dto.estimate.ai.AiEstimateProductRequest;
 import specmate.backend.dto.estimate.ai.AiEstimateProductResponse;
 import specmate.backend.dto.estimate.ai.AiEstimateRequest;
 import specmate.backend.dto.estimate.ai.AiEstimateResponse;
+import specmate.backend.dto.estimate.ai.AiEstimateSummaryResponse;
+import specmate.backend.entity.AiComponentSet;
+import specmate.backend.entity.AiComponentSetItem;
 import specmate.backend.entity.AiEstimate;
-import specmate.backend.entity.AiEstimateProduct;
 import specmate.backend.entity.ChatRoom;
+import specmate.backend.entity.EstimateSummary;
 import specmate.backend.entity.User;
 import specmate.backend.repository.chat.ChatRoomRepository;
+import specmate.backend.repository.estimate.ai.AiComponentSetItemRepository;
 import specmate.backend.repository.estimate.ai.AiEstimateProductRepository;
 import specmate.backend.repository.estimate.ai.AiEstimateRepository;
+import specmate.backend.repository.estimate.summary.EstimateSummaryRepository;
 import specmate.backend.repository.product.ProductRepository;
 import specmate.backend.repository.user.UserRepository;
+import specmate.backend.service.estimate.compat.CompatibilityService;
+import specmate.backend.service.estimate.summary.EstimateSummaryService;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,11 +39,18 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AiEstimateService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final AiEstimateRepository aiEstimateRepository;
     private final AiEstimateProductRepository aiEstimateProductRepository;
+    private final AiComponentSetItemRepository aiComponentSetItemRepository;
+    private final AiComponentSetService aiComponentSetService;
     private final UserRepository userRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ProductRepository productRepository;
+    private final CompatibilityService compatibilityService;
+    private final EstimateSummaryRepository estimateSummaryRepository;
+    private final EstimateSummaryService estimateSummaryService;
 
     /** AI 견적 생성 */
     @Transactional
@@ -48,21 +68,22 @@ public class AiEstimateService {
             .intro(req.getIntro())
             .note(req.getNote())
             .totalPrice(0L)
+            .componentSet(aiComponentSetService.intern(List.of()))
             .createdAt(LocalDateTime.now())
             .build();
 
-        return toEstimateResponse(aiEstimateRepository.save(estimate));
+        AiEstimate saved = aiEstimateRepository.save(estimate);
+        estimateSummaryService.refreshAiEstimate(saved.getId());
+        return toEstimateResponse(saved);
     }
 
-    /** AI 견적에 제품 추가 */
+    /**
+     * AI 견적에 제품 추가
+     * - 부품 구성은 여러 견적이 공유하므로 바꾸지 않고, 부품을 더한 구성을 찾거나 만들어 견적이 가리키는 구성만 교체
+     */
     @Transactional
     public AiEstimateProductResponse addProductToEstimate(Long estimateId, AiEstimateProductRequest req, String userId) {
-        AiEstimate estimate = aiEstimateRepository.findById(estimateId)
-            .orElseThrow(() -> new RuntimeException("AI Estimate not found"));
-
-        if (!estimate.getUser().getId().equals(userId)) {
-            throw new RuntimeException("권한이 없습니다.");
-        }
+        AiEstimate estimate = lockOwnedEstimate(estimateId, userId);
 
         // Product 테이블에서 이미지 가져오기
         String imageUrl = req.getImage();
@@ -72,67 +93,176 @@ public class AiEstimateService {
                 .orElse(null);
         }
 
-        AiEstimateProduct product = AiEstimateProduct.builder()
-            .aiEstimate(estimate)
+        List<AiComponentSetItem> items = new ArrayList<>(currentItems(estimate));
+        items.add(AiComponentSetItem.builder()
             .category(req.getCategory())
             .name(req.getName())
             .price(req.getPrice() != null ? req.getPrice() : 0L)
             .image(imageUrl)
             .description(req.getDescription())
-            .build();
+            .build());
 
-        long currentTotal = estimate.getTotalPrice() != null ? estimate.getTotalPrice() : 0L;
-        estimate.setTotalPrice(currentTotal + product.getPrice());
+        AiComponentSet next = aiComponentSetService.intern(items);
+        aiEstimateRepository.replaceComponentSet(estimateId, next, req.getPrice() != null ? req.getPrice() : 0L);
+        estimateSummaryService.refreshAiEstimate(estimateId);
 
-        return toProductResponse(aiEstimateProductRepository.save(product));
+        List<AiComponentSetItem> saved = aiComponentSetItemRepository.findByComponentSetIdOrderByPosition(next.getId());
+        return toProductResponse(estimateId, saved.get(saved.size() - 1));
     }
 
     /** AI 견적 조회 (단일) */
     public AiEstimateResponse getEstimate(Long estimateId, String userId) {
-        AiEstimate estimate = aiEstimateRepository.findById(estimateId)
+        AiEstimate estimate = aiEstimateRepository.findWithComponentsById(estimateId)
             .orElseThrow(() -> new RuntimeException("AI Estimate not found"));
 
         if (!estimate.getUser().getId().equals(userId)) {
             throw new RuntimeException("권한이 없습니다.");
         }
 
-        return toEstimateResponseWithProducts(estimate);
+        List<AiComponentSetItem> items = estimate.getComponentSet() != null
+            ? estimate.getComponentSet().getItems()
+            : aiComponentSetService.toItems(estimate.getProducts());
+        AiEstimateResponse response = toEstimateResponseWithProducts(estimate, items);
+        response.setCompatibility(compatibilityService.checkAiEstimateProducts(items));
+        return response;
     }
 
     /** 특정 AI 견적의 제품 조회 */
     public List<AiEstimateProductResponse> getEstimateProducts(Long estimateId) {
-        return aiEstimateProductRepository.findByAiEstimateId(estimateId)
-            .stream()
-            .map(this::toProductResponse)
+        List<AiComponentSetItem> items = aiComponentSetItemRepository.findByEstimateId(estimateId);
+        if (items.isEmpty()) {
+            // 아직 구성으로 옮기지 않은 레거시 견적
+            items = aiComponentSetService.toItems(aiEstimateProductRepository.findByAiEstimateId(estimateId));
+        }
+        return items.stream()
+            .map(item -> toProductResponse(estimateId, item))
             .collect(Collectors.toList());
     }
 
-    /** 사용자의 모든 AI 견적 조회 */
-    public List<AiEstimateResponse> getUserEstimates(String userId) {
-        return aiEstimateRepository.findAll()
-            .stream()
-            .filter(estimate -> estimate.getUser().getId().equals(userId))
-            .map(this::toEstimateResponse)
-            .collect(Collectors.toList());
+    /**
+     * 사용자의 AI 견적 목록 (최신순 커서 페이지)
+     * - estimate_summaries 의 (user_id, kind, created_at, id) 인덱스 범위만 읽음 (부품 수/대표 부품/썸네일 포함, 부품 행 조회 없음)
+     * - cursor 는 이전 응답의 nextCursor (없으면 최신 페이지)
+     */
+    public AiEstimatePageResponse getUserEstimates(String userId, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        List<EstimateSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = estimateSummaryRepository.findLatest(userId, EstimateSummary.Kind.AI, pageable);
+        } else {
+            EstimateCursor decoded = EstimateCursor.decode(cursor);
+            rows = estimateSummaryRepository.findBefore(userId, EstimateSummary.Kind.AI, decoded.createdAt(), decoded.id(), pageable);
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<EstimateSummary> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            // 커서 id 는 요약 행 id (같은 createdAt 안에서의 정렬 기준)
+            EstimateSummary last = page.get(page.size() - 1);
+            nextCursor = new EstimateCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return AiEstimatePageResponse.builder()
+            .estimates(page.stream().map(this::toSummaryResponse).collect(Collectors.toList()))
+            .nextCursor(nextCursor)
+            .hasMore(hasMore)
+            .build();
+    }
+
+    /** 커서: "createdAt|id" 를 URL-safe Base64 로 감싼 값 */
+    private record EstimateCursor(LocalDateTime createdAt, Long id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static EstimateCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('|');
+                return new EstimateCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new RuntimeException("잘못된 커서입니다.");
+            }
+        }
+    }
+
+    /**
+     * AI 견적에서 제품 삭제 (추가와 같이 부품을 뺀 구성으로 교체)
+     * - productId 는 이전 응답의 부품(ai_component_set_items) id 만 받는다. 레거시 부품 행 id 는 값이 겹칠 수 있어 받지 않음
+     * - 견적의 현재 구성에 있는 부품이면 그 자리를, 그 사이 구성이 바뀌었으면 같은 내용의 부품을 찾아 삭제
+     */
+    @Transactional
+    public void removeProductFromEstimate(Long estimateId, Long productId, String userId) {
+        AiComponentSetItem target = aiComponentSetItemRepository.findById(productId)
+            .orElseThrow(() -> new RuntimeException("Product not found"));
+
+        AiEstimate estimate = lockOwnedEstimate(estimateId, userId);
+        List<AiComponentSetItem> items = new ArrayList<>(currentItems(estimate));
+
+        int index = -1;
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).getId().equals(target.getId())) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            for (int i = 0; i < items.size(); i++) {
+                if (AiComponentSetService.sameContent(items.get(i), target)) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+        // 이미 삭제된 부품 (동시에 같은 부품을 삭제해도 한 번만 반영)
+        if (index < 0) {
+            throw new RuntimeException("Product not found");
+        }
+
+        AiComponentSetItem removed = items.remove(index);
+        long productPrice = removed.getPrice() != null ? removed.getPrice() : 0L;
+        aiEstimateRepository.replaceComponentSet(estimateId, aiComponentSetService.intern(items), -productPrice);
+        estimateSummaryService.refreshAiEstimate(estimateId);
     }
 
-    /** AI 견적에서 제품 삭제 */
+    /**
+     * AI 견적에서 제품 삭제 (견적 id 없이 부품 id 만 받는 기존 API)
+     * - 부품 구성을 공유하므로 부품 id 만으로는 견적을 특정할 수 없어, 같은 구성을 가진 내 견적이 하나일 때만 처리
+     */
     @Transactional
     public void removeProductFromEstimate(Long productId, String userId) {
-        AiEstimateProduct product = aiEstimateProductRepository.findById(productId)
+        AiComponentSetItem item = aiComponentSetItemRepository.findById(productId)
             .orElseThrow(() -> new RuntimeException("Product not found"));
 
-        AiEstimate estimate = product.getAiEstimate();
+        List<Long> estimateIds = aiEstimateRepository.findIdsByUserIdAndComponentSetId(userId, item.getComponentSet().getId());
+        if (estimateIds.isEmpty()) {
+            throw new RuntimeException("권한이 없습니다.");
+        }
+        if (estimateIds.size() > 1) {
+            throw new RuntimeException("같은 부품 구성의 견적이 여러 개입니다. 견적을 지정해서 삭제해주세요.");
+        }
+        removeProductFromEstimate(estimateIds.get(0), productId, userId);
+    }
+
+    private AiEstimate lockOwnedEstimate(Long estimateId, String userId) {
+        AiEstimate estimate = aiEstimateRepository.findForUpdate(estimateId)
+            .orElseThrow(() -> new RuntimeException("AI Estimate not found"));
 
         if (!estimate.getUser().getId().equals(userId)) {
             throw new RuntimeException("권한이 없습니다.");
         }
+        return estimate;
+    }
 
-        long currentTotal = estimate.getTotalPrice() != null ? estimate.getTotalPrice() : 0L;
-        long productPrice = product.getPrice() != null ? product.getPrice() : 0L;
-        estimate.setTotalPrice(Math.max(currentTotal - productPrice, 0L));
-
-        aiEstimateProductRepository.delete(product);
+    /** 잠근 견적의 현재 부품 (레거시 견적이면 먼저 구성으로 옮김) */
+    private List<AiComponentSetItem> currentItems(AiEstimate locked) {
+        AiComponentSet set = aiComponentSetService.migrateLegacy(locked);
+        return aiComponentSetItemRepository.findByComponentSetIdOrderByPosition(set.getId());
     }
 
     /** AI 견적 삭제 */
@@ -146,6 +276,7 @@ public class AiEstimateService {
         }
 
         aiEstimateRepository.delete(estimate);
+        estimateSummaryService.deleteAiEstimate(estimateId);
     }
 
     /** 변환 메서드 */
@@ -162,10 +293,25 @@ public class AiEstimateService {
             .build();
     }
 
-    private AiEstimateResponse toEstimateResponseWithProducts(AiEstimate entity) {
-        List<AiEstimateProductResponse> products = entity.getProducts()
+    private AiEstimateSummaryResponse toSummaryResponse(EstimateSummary summary) {
+        return AiEstimateSummaryResponse.builder()
+            .id(Long.valueOf(summary.getEstimateId()))
+            .chatRoomId(summary.getChatRoomId())
+            .intent(summary.getIntent())
+            .intro(summary.getTitle())
+            .totalPrice(summary.getTotalPrice())
+            .partCount(summary.getPartCount())
+            .cpuName(summary.getCpuName())
+            .gpuName(summary.getGpuName())
+            .thumbnail(summary.getThumbnail())
+            .createdAt(summary.getCreatedAt())
+            .build();
+    }
+
+    private AiEstimateResponse toEstimateResponseWithProducts(AiEstimate entity, List<AiComponentSetItem> items) {
+        List<AiEstimateProductResponse> products = items
             .stream()
-            .map(this::toProductResponse)
+            .map(item -> toProductResponse(entity.getId(), item))
             .collect(Collectors.toList());
 
         return AiEstimateResponse.builder()
@@ -181,10 +327,10 @@ public class AiEstimateService {
             .build();
     }
 
-    private AiEstimateProductResponse toProductResponse(AiEstimateProduct entity) {
+    private AiEstimateProductResponse toProductResponse(Long estimateId, AiComponentSetItem entity) {
         return AiEstimateProductResponse.builder()
             .id(entity.getId())
-            .aiEstimateId(entity.getAiEstimate().getId())
+            .aiEstimateId(estimateId)
             .category(entity.getCategory())
             .name(entity.getName())
             .price(entity.getPrice())
@@ -0,0 +1,261 @@
+package specmate.backend.service.estimate.compat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import specmate.backend.service.estimate.compat.CompatibilityIssue.Severity;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부품 호환성 엔진 (Spring 비의존, 벤치마크에서도 그대로 사용)
+ * - 제품 스펙은 제품 id + updatedAt 단위로 한 번만 PartSpec 으로 추출해 캐시
+ * - 규칙은 클래스 로딩 시 한 번 만든 목록을 그대로 사용, 견적 평가는 부품 종류별 배열 조회만 수행
+ * - 속성을 알 수 없으면 해당 규칙은 통과 (오탐보다 미탐을 택함)
+ */
+public class CompatibilityEngine {
+
+    private static final int MAX_CACHED_SPECS = 50_000;
+    public static final int BASE_WATTAGE = 50;       // 메인보드/팬 등 기본 소비전력
+    private static final int DEFAULT_CPU_WATTAGE = 65;
+    private static final int PER_DEVICE_WATTAGE = 5; // 램/저장장치 1개당
+    private static final double PSU_HEADROOM = 1.3;
+
+    private static final PartType[] TYPES = PartType.values();
+    private static final List<Rule> RULES = List.of(
+        CompatibilityEngine::checkDuplicates,
+        CompatibilityEngine::checkCpuSocket,
+        CompatibilityEngine::checkMemoryType,
+        CompatibilityEngine::checkBoardFormFactor,
+        CompatibilityEngine::checkGpuLength,
+        CompatibilityEngine::checkCoolerSocket,
+        CompatibilityEngine::checkCoolerHeight
+    );
+
+    @FunctionalInterface
+    private interface Rule {
+        void check(Build build, List<CompatibilityIssue> issues);
+    }
+
+    private record CachedSpec(OffsetDateTime updatedAt, PartSpec spec) {
+    }
+
+    /** 부품 종류별로 묶은 견적 (평가 중에만 사용) */
+    private static final class Build {
+        @SuppressWarnings("unchecked")
+        final List<PartSpec>[] byType = new List[TYPES.length];
+
+        void add(PartSpec spec) {
+            int i = spec.type().ordinal();
+            if (byType[i] == null) {
+                byType[i] = new ArrayList<>(2);
+            }
+            byType[i].add(spec);
+        }
+
+        PartSpec first(PartType type) {
+            List<PartSpec> list = byType[type.ordinal()];
+            return list != null ? list.get(0) : null;
+        }
+
+        List<PartSpec> all(PartType type) {
+            List<PartSpec> list = byType[type.ordinal()];
+            return list != null ? list : List.of();
+        }
+    }
+
+    private final ConcurrentHashMap<Long, CachedSpec> specs = new ConcurrentHashMap<>();
+
+    /** 제품 스펙 (같은 제품/수정 시각이면 캐시 재사용), 종류를 모르면 null */
+    public PartSpec spec(Long productId, OffsetDateTime updatedAt, String category, String name, JsonNode specJson) {
+        PartType type = PartType.of(category);
+        if (type == null) {
+            return null;
+        }
+        if (productId == null) {
+            return SpecExtractor.extract(type, name, specJson);
+        }
+        CachedSpec cached = specs.get(productId);
+        if (cached != null && cached.spec().type() == type && Objects.equals(cached.updatedAt(), updatedAt)) {
+            return cached.spec();
+        }
+        PartSpec spec = SpecExtractor.extract(type, name, specJson);
+        if (specs.size() >= MAX_CACHED_SPECS) {
+            specs.clear();
+        }
+        specs.put(productId, new CachedSpec(updatedAt, spec));
+        return spec;
+    }
+
+    public CompatibilityReport evaluate(List<PartSpec> parts) {
+        Build build = new Build();
+        int checked = 0;
+        for (PartSpec part : parts) {
+            if (part != null) {
+                build.add(part);
+                checked++;
+            }
+        }
+
+        List<CompatibilityIssue> issues = new ArrayList<>();
+        for (Rule rule : RULES) {
+            rule.check(build, issues);
+        }
+        int wattage = estimateWattage(build);
+        checkPower(build, wattage, issues);
+
+        boolean compatible = issues.stream().noneMatch(i -> i.severity() == Severity.ERROR);
+        return new CompatibilityReport(compatible, wattage, checked, List.copyOf(issues));
+    }
+
+    private static void checkDuplicates(Build build, List<CompatibilityIssue> issues) {
+        for (PartType type : new PartType[] {PartType.CPU, PartType.MAINBOARD, PartType.POWER, PartType.CASE}) {
+            if (build.all(type).size() > 1) {
+                issues.add(new CompatibilityIssue(Severity.WARNING, "DUPLICATE_" + type.name(),
+                    type.name() + " 부품이 " + build.all(type).size() + "개 담겨 있습니다."));
+            }
+        }
+    }
+
+    private static void checkCpuSocket(Build build, List<CompatibilityIssue> issues) {
+        PartSpec cpu = build.first(PartType.CPU);
+        PartSpec board = build.first(PartType.MAINBOARD);
+        if (cpu != null && board != null && cpu.socket() != null && board.socket() != null
+            && !cpu.socket().equals(board.socket())) {
+            issues.add(new CompatibilityIssue(Severity.ERROR, "CPU_SOCKET_MISMATCH",
+                "CPU 소켓(" + cpu.socket() + ")과 메인보드 소켓(" + board.socket() + ")이 맞지 않습니다."));
+        }
+    }
+
+    private static void checkMemoryType(Build build, List<CompatibilityIssue> issues) {
+        PartSpec board = build.first(PartType.MAINBOARD);
+        if (board == null || board.memoryType() == null) {
+            return;
+        }
+        for (PartSpec ram : build.all(PartType.RAM)) {
+            if (ram.memoryType() != null && !ram.memoryType().equals(board.memoryType())) {
+                issues.add(new CompatibilityIssue(Severity.ERROR, "MEMORY_TYPE_MISMATCH",
+                    "메모리(" + ram.memoryType() + ")가 메인보드 지원 규격(" + board.memoryType() + ")과 다릅니다."));
+                return;
+            }
+        }
+    }
+
+    private static void checkBoardFormFactor(Build build, List<CompatibilityIssue> issues) {
+        PartSpec board = build.first(PartType.MAINBOARD);
+        PartSpec pcCase = build.first(PartType.CASE);
+        if (board != null && pcCase != null && board.formFactor() > 0 && pcCase.formFactor() > 0
+            && board.formFactor() > pcCase.formFactor()) {
+            issues.add(new CompatibilityIssue(Severity.ERROR, "CASE_FORM_FACTOR",
+                "케이스(최대 " + PartSpec.formFactorName(pcCase.formFactor()) + ")에 "
+                    + PartSpec.formFactorName(board.formFactor()) + " 메인보드를 장착할 수 없습니다."));
+        }
+    }
+
+    private static void checkGpuLength(Build build, List<CompatibilityIssue> issues) {
+        PartSpec gpu = build.first(PartType.GPU);
+        PartSpec pcCase = build.first(PartType.CASE);
+        if (gpu != null && pcCase != null && gpu.lengthMm() > 0 && pcCase.maxGpuLengthMm() > 0
+            && gpu.lengthMm() > pcCase.maxGpuLengthMm()) {
+            issues.add(new CompatibilityIssue(Severity.ERROR, "GPU_TOO_LONG",
+                "그래픽카드 길이(" + gpu.lengthMm() + "mm)가 케이스 장착 길이(" + pcCase.maxGpuLengthMm() + "mm)를 넘습니다."));
+        }
+    }
+
+    private static void checkCoolerSocket(Build build, List<CompatibilityIssue> issues) {
+        PartSpec cpu = build.first(PartType.CPU);
+        PartSpec cooler = build.first(PartType.COOLER);
+        if (cpu != null && cooler != null && cpu.socket() != null && !cooler.sockets().isEmpty()
+            && !cooler.sockets().contains(cpu.socket())) {
+            issues.add(new CompatibilityIssue(Severity.ERROR, "COOLER_SOCKET_MISMATCH",
+                "쿨러가 CPU 소켓(" + cpu.socket() + ")을 지원하지 않습니다."));
+        }
+    }
+
+    private static void checkCoolerHeight(Build build, List<CompatibilityIssue> issues) {
+        PartSpec cooler = build.first(PartType.COOLER);
+        PartSpec pcCase = build.first(PartType.CASE);
+        if (cooler != null && pcCase != null && cooler.heightMm() > 0 && pcCase.maxCoolerHeightMm() > 0
+            && cooler.heightMm() > pcCase.maxCoolerHeightMm()) {
+            issues.add(new CompatibilityIssue(Severity.ERROR, "COOLER_TOO_TALL",
+                "쿨러 높이(" + cooler.heightMm() + "mm)가 케이스 장착 높이(" + pcCase.maxCoolerHeightMm() + "mm)를 넘습니다."));
+        }
+    }
+
+    private static int estimateWattage(Build build) {
+        int wattage = BASE_WATTAGE;
+        for (List<PartSpec> parts : build.byType) {
+            if (parts != null) {
+                for (PartSpec part : parts) {
+                    wattage += partWattage(part);
+                }
+            }
+        }
+        return wattage;
+    }
+
+    /** 부품 하나의 추정 소비전력 (W) */
+    public static int partWattage(PartSpec part) {
+        return switch (part.type()) {
+            case CPU -> part.powerDraw() > 0 ? part.powerDraw() : DEFAULT_CPU_WATTAGE;
+            case GPU -> part.powerDraw();
+            case RAM, STORAGE -> PER_DEVICE_WATTAGE;
+            default -> 0;
+        };
+    }
+
+    /** 파워가 추정 소비전력(여유율 포함)과 그래픽카드 권장 파워를 모두 만족하는지 */
+    public static boolean psuCovers(PartSpec psu, int wattage, PartSpec gpu) {
+        return psu.wattage() >= wattage * PSU_HEADROOM && (gpu == null || gpu.recommendedPsu() <= psu.wattage());
+    }
+
+    /**
+     * 두 부품을 함께 쓸 수 있는지 (규칙과 같은 기준, 속성을 모르면 true)
+     * 견적 최적화 탐색에서 부품을 하나씩 고를 때 이미 고른 부품과의 충돌을 빠르게 걸러내는 용도
+     */
+    public static boolean fits(PartSpec a, PartSpec b) {
+        if (a.type().ordinal() > b.type().ordinal()) {
+            PartSpec t = a;
+            a = b;
+            b = t;
+        }
+        return switch (a.type()) {
+            case CPU -> switch (b.type()) {
+                case MAINBOARD -> a.socket() == null || b.socket() == null || a.socket().equals(b.socket());
+                case COOLER -> a.socket() == null || b.sockets().isEmpty() || b.sockets().contains(a.socket());
+                default -> true;
+            };
+            case MAINBOARD -> switch (b.type()) {
+                case RAM -> a.memoryType() == null || b.memoryType() == null || a.memoryType().equals(b.memoryType());
+                case CASE -> a.formFactor() == 0 || b.formFactor() == 0 || a.formFactor() <= b.formFactor();
+                default -> true;
+            };
+            case GPU -> b.type() != PartType.CASE
+                || a.lengthMm() == 0 || b.maxGpuLengthMm() == 0 || a.lengthMm() <= b.maxGpuLengthMm();
+            case CASE -> b.type() != PartType.COOLER
+                || b.heightMm() == 0 || a.maxCoolerHeightMm() == 0 || b.heightMm() <= a.maxCoolerHeightMm();
+            default -> true;
+        };
+    }
+
+    /** 파워 용량: 그래픽카드 권장 파워 → 추정 소비전력 → 여유율 순서로 검사 */
+    private static void checkPower(Build build, int wattage, List<CompatibilityIssue> issues) {
+        PartSpec psu = build.first(PartType.POWER);
+        if (psu == null || psu.wattage() <= 0) {
+            return;
+        }
+        PartSpec gpu = build.first(PartType.GPU);
+        if (gpu != null && gpu.recommendedPsu() > psu.wattage()) {
+            issues.add(new CompatibilityIssue(Severity.ERROR, "PSU_BELOW_GPU_RECOMMENDATION",
+                "파워 용량(" + psu.wattage() + "W)이 그래픽카드 권장 파워(" + gpu.recommendedPsu() + "W)보다 작습니다."));
+        } else if (psu.wattage() < wattage) {
+            issues.add(new CompatibilityIssue(Severity.ERROR, "PSU_INSUFFICIENT",
+                "파워 용량(" + psu.wattage() + "W)이 예상 소비전력(" + wattage + "W)보다 작습니다."));
+        } else if (psu.wattage() < wattage * PSU_HEADROOM) {
+            issues.add(new CompatibilityIssue(Severity.WARNING, "PSU_LOW_HEADROOM",
+                "파워 용량(" + psu.wattage() + "W)이 예상 소비전력(" + wattage + "W) 대비 여유가 부족합니다."));
+        }
+    }
+}
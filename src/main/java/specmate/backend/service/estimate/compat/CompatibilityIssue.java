@@ -0,0 +1,9 @@
+package specmate.backend.service.estimate.compat;
+
+/** 호환성 문제 하나 (ERROR: 조립/동작 불가, WARNING: 동작은 하지만 권장하지 않음) */
+public record CompatibilityIssue(Severity severity, String code, String message) {
+
+    public enum Severity {
+        ERROR, WARNING
+    }
+}
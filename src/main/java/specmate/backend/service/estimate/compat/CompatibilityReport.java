@@ -0,0 +1,13 @@
+package specmate.backend.service.estimate.compat;
+
+import java.util.List;
+
+/**
+ * 견적 호환성 검사 결과
+ *
+ * @param compatible       ERROR 가 하나도 없으면 true
+ * @param estimatedWattage 부품 사용 전력 추정 합계 (W)
+ * @param checkedParts     검사에 사용한 부품 수 (종류를 알 수 없는 부품 제외)
+ */
+public record CompatibilityReport(boolean compatible, int estimatedWattage, int checkedParts, List<CompatibilityIssue> issues) {
+}
@@ -0,0 +1,113 @@
+package specmate.backend.service.estimate.compat;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import specmate.backend.entity.AiComponentSetItem;
+import specmate.backend.entity.Product;
+import specmate.backend.entity.UserEstimate;
+import specmate.backend.entity.UserEstimateProduct;
+import specmate.backend.repository.estimate.user.UserEstimateProductRepository;
+import specmate.backend.repository.estimate.user.UserEstimateRepository;
+import specmate.backend.repository.product.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/** 견적/부품 목록 호환성 검사 (DB 조회 + CompatibilityEngine 평가) */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CompatibilityService {
+
+    // 수량만큼 부품을 펼칠 때 상한 (램 4개, 저장장치 여러 개 정도면 충분)
+    private static final int MAX_QUANTITY = 8;
+
+    private final CompatibilityEngine engine = new CompatibilityEngine();
+    private final ProductRepository productRepository;
+    private final UserEstimateRepository userEstimateRepository;
+    private final UserEstimateProductRepository userEstimateProductRepository;
+
+    /** 저장하지 않은 부품 조합 검사 (같은 id 를 여러 번 넣으면 수량으로 취급) */
+    public CompatibilityReport checkProducts(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            throw new RuntimeException("검사할 부품이 없습니다.");
+        }
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<PartSpec> parts = new ArrayList<>(productIds.size());
+        for (Long id : productIds) {
+            Product product = products.get(id);
+            if (product == null) {
+                throw new RuntimeException("부품을 찾을 수 없습니다. (productId=" + id + ")");
+            }
+            parts.add(specOf(product, product.getCategory()));
+        }
+        return engine.evaluate(parts);
+    }
+
+    /** 사용자 견적 검사 */
+    public CompatibilityReport checkUserEstimate(String estimateId, String userId) {
+        UserEstimate estimate = userEstimateRepository.findById(estimateId)
+            .orElseThrow(() -> new RuntimeException("Estimate not found"));
+
+        if (!estimate.getUser().getId().equals(userId)) {
+            throw new RuntimeException("권한이 없습니다.");
+        }
+
+        return checkUserEstimateLines(userEstimateProductRepository.findWithProductByUserEstimateId(estimateId));
+    }
+
+    public CompatibilityReport evaluate(List<PartSpec> parts) {
+        return engine.evaluate(parts);
+    }
+
+    /** 이미 제품까지 조회한 견적 부품 검사 */
+    public CompatibilityReport checkUserEstimateLines(List<UserEstimateProduct> lines) {
+        List<PartSpec> parts = new ArrayList<>(lines.size());
+        for (UserEstimateProduct line : lines) {
+            Product product = line.getProduct();
+            String category = product.getCategory() != null ? product.getCategory() : line.getCategory();
+            PartSpec spec = specOf(product, category);
+            int quantity = line.getQuantity() != null ? Math.min(line.getQuantity(), MAX_QUANTITY) : 1;
+            for (int i = 0; i < quantity; i++) {
+                parts.add(spec);
+            }
+        }
+        return engine.evaluate(parts);
+    }
+
+    /** AI 견적 검사 (부품명이 제품과 같으면 제품 스펙, 아니면 이름/설명에서 추출) */
+    public CompatibilityReport checkAiEstimateProducts(List<AiComponentSetItem> items) {
+        List<String> names = items.stream()
+            .map(AiComponentSetItem::getName)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        Map<String, Product> products = names.isEmpty() ? Map.of() : productRepository.findAllByNameIn(names).stream()
+            .collect(Collectors.toMap(Product::getName, Function.identity(), (a, b) -> a));
+
+        List<PartSpec> parts = new ArrayList<>(items.size());
+        for (AiComponentSetItem item : items) {
+            Product product = item.getName() != null ? products.get(item.getName()) : null;
+            if (product != null) {
+                parts.add(specOf(product, item.getCategory()));
+            } else {
+                parts.add(engine.spec(null, null, item.getCategory(), item.getName(),
+                    item.getDescription() != null ? TextNode.valueOf(item.getDescription()) : null));
+            }
+        }
+        return engine.evaluate(parts);
+    }
+
+    /** 제품 스펙 (캐시), 종류를 모르면 null */
+    public PartSpec specOf(Product product, String category) {
+        return engine.spec(product.getId(), product.getUpdatedAt(), category, product.getName(), product.getSpecs());
+    }
+}
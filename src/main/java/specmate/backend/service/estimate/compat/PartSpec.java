@@ -0,0 +1,41 @@
+package specmate.backend.service.estimate.compat;
+
+import java.util.Set;
+
+/**
+ * 호환성 검사용으로 정규화한 부품 속성 (제품마다 한 번 추출해 캐시, 모르는 값은 null/0)
+ *
+ * @param socket            CPU/메인보드 소켓 (AM5, LGA1700 …)
+ * @param sockets           쿨러 지원 소켓
+ * @param memoryType        메모리 규격 (DDR4, DDR5)
+ * @param formFactor        메인보드 규격 크기, 케이스는 장착 가능한 최대 규격 (1=ITX … 4=E-ATX)
+ * @param wattage           파워 정격 출력 (W)
+ * @param powerDraw         CPU TDP / 그래픽카드 사용 전력 (W)
+ * @param recommendedPsu    그래픽카드 권장 파워 (W)
+ * @param lengthMm          그래픽카드 길이
+ * @param heightMm          공랭 쿨러 높이
+ * @param maxGpuLengthMm    케이스 그래픽카드 장착 길이
+ * @param maxCoolerHeightMm 케이스 쿨러 장착 높이
+ */
+public record PartSpec(
+    PartType type,
+    String name,
+    String socket,
+    Set<String> sockets,
+    String memoryType,
+    int formFactor,
+    int wattage,
+    int powerDraw,
+    int recommendedPsu,
+    int lengthMm,
+    int heightMm,
+    int maxGpuLengthMm,
+    int maxCoolerHeightMm
+) {
+
+    static final String[] FORM_FACTOR_NAMES = {"", "ITX", "M-ATX", "ATX", "E-ATX"};
+
+    static String formFactorName(int formFactor) {
+        return formFactor > 0 && formFactor < FORM_FACTOR_NAMES.length ? FORM_FACTOR_NAMES[formFactor] : "";
+    }
+}
@@ -0,0 +1,40 @@
+package specmate.backend.service.estimate.compat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/** 호환성 검사 대상 부품 종류 (견적/제품 category 값의 별칭을 하나로 정규화) */
+public enum PartType {
+    CPU(List.of("cpu", "씨피유", "프로세서")),
+    MAINBOARD(List.of("mainboard", "motherboard", "메인보드", "마더보드")),
+    RAM(List.of("ram", "memory", "메모리", "램")),
+    GPU(List.of("gpu", "vga", "graphics", "그래픽카드")),
+    STORAGE(List.of("ssd", "hdd", "storage", "저장장치")),
+    POWER(List.of("power", "psu", "파워")),
+    CASE(List.of("case", "케이스")),
+    COOLER(List.of("cooler", "쿨러"));
+
+    private static final Map<String, PartType> BY_ALIAS = new HashMap<>();
+
+    static {
+        for (PartType type : values()) {
+            type.aliases.forEach(alias -> BY_ALIAS.put(alias, type));
+        }
+    }
+
+    private final List<String> aliases;
+
+    PartType(List<String> aliases) {
+        this.aliases = aliases;
+    }
+
+    /** 모르는 category 면 null (검사에서 제외) */
+    public static PartType of(String category) {
+        if (category == null) {
+            return null;
+        }
+        return BY_ALIAS.get(category.trim().toLowerCase(Locale.ROOT).replace(" ", ""));
+    }
+}
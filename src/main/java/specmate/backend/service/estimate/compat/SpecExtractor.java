@@ -0,0 +1,140 @@
+package specmate.backend.service.estimate.compat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Product.specs (크롤링한 스펙 문자열 배열 또는 key/value 객체) + 제품명에서 호환성 속성 추출
+ * 정규식은 클래스 로딩 시 한 번만 컴파일하고, 입력은 대문자로 바꿔 한 번에 매칭한다.
+ */
+public final class SpecExtractor {
+
+    // 소켓: "소켓1700", "(소켓AM5)", "LGA1700", "AM4"
+    private static final Pattern SOCKET = Pattern.compile("(?:소켓\\s*\\(?\\s*|LGA\\s*-?\\s*)(\\d{4}|AM[345])|\\b(AM[345])\\b");
+    // 메모리 규격 (GDDR6, LPDDR5 제외)
+    private static final Pattern MEMORY = Pattern.compile("(?<![GP])DDR([345])");
+    private static final Pattern E_ATX = Pattern.compile("E-?ATX");
+    private static final Pattern M_ATX = Pattern.compile("M-?ATX|MICRO-?ATX");
+    private static final Pattern ITX = Pattern.compile("(?:MINI-?|M-)?ITX");
+    private static final Pattern ATX = Pattern.compile("(?<![A-Z-])ATX");
+    private static final Pattern PSU_WATTAGE = Pattern.compile("(?:WATTAGE|OUTPUT|정격\\s*출력)\\s*[:：]?\\s*(\\d{3,4})|(\\d{3,4})\\s*W\\b");
+    private static final Pattern CPU_TDP = Pattern.compile("(?:TDP|PBP|기본\\s*전력)\\s*[:：]?\\s*(\\d{2,3})");
+    private static final Pattern ANY_WATT = Pattern.compile("(\\d{2,3})\\s*W\\b");
+    private static final Pattern GPU_DRAW = Pattern.compile("(?:사용\\s*전력|소비\\s*전력|TGP|TBP|POWER_DRAW)\\s*[:：]?\\s*(?:최대\\s*)?(\\d{2,3})");
+    private static final Pattern GPU_RECOMMENDED_PSU = Pattern.compile("(?:정격\\s*파워|권장\\s*파워|RECOMMENDED_PSU)\\s*[:：]?\\s*(\\d{3,4})");
+    private static final Pattern GPU_LENGTH = Pattern.compile("(?:가로\\s*\\(?\\s*길이\\s*\\)?|길이|LENGTH(?:_MM)?)\\s*[:：]?\\s*(\\d{2,3})(?:\\.\\d+)?\\s*(?:MM)?");
+    private static final Pattern CASE_GPU_LENGTH = Pattern.compile("(?:VGA|그래픽\\s*카드|MAX_GPU_LENGTH(?:_MM)?)\\s*(?:장착\\s*)?(?:길이\\s*)?[:：]?\\s*(?:최대\\s*)?(\\d{3})");
+    private static final Pattern CASE_COOLER_HEIGHT = Pattern.compile("(?:CPU\\s*쿨러|MAX_COOLER_HEIGHT(?:_MM)?)\\s*(?:장착\\s*)?(?:높이\\s*)?[:：]?\\s*(?:최대\\s*)?(\\d{2,3})");
+    private static final Pattern COOLER_HEIGHT = Pattern.compile("(?:높이|HEIGHT(?:_MM)?)\\s*[:：]?\\s*(\\d{2,3})(?:\\.\\d+)?\\s*(?:MM)?");
+
+    private SpecExtractor() {
+    }
+
+    public static PartSpec extract(PartType type, String name, JsonNode specs) {
+        StringBuilder sb = new StringBuilder(256);
+        if (name != null) {
+            sb.append(name).append(" | ");
+        }
+        flatten(specs, sb);
+        String text = sb.toString().toUpperCase(Locale.ROOT);
+
+        return switch (type) {
+            case CPU -> new PartSpec(type, name, socket(text), Set.of(), memory(text), 0,
+                0, firstInt(CPU_TDP, text, firstInt(ANY_WATT, text, 0)), 0, 0, 0, 0, 0);
+            case MAINBOARD -> new PartSpec(type, name, socket(text), Set.of(), memory(text), boardFormFactor(text),
+                0, 0, 0, 0, 0, 0, 0);
+            case RAM -> new PartSpec(type, name, null, Set.of(), memory(text), 0, 0, 0, 0, 0, 0, 0, 0);
+            case GPU -> new PartSpec(type, name, null, Set.of(), null, 0,
+                0, firstInt(GPU_DRAW, text, 0), firstInt(GPU_RECOMMENDED_PSU, text, 0), firstInt(GPU_LENGTH, text, 0), 0, 0, 0);
+            case POWER -> new PartSpec(type, name, null, Set.of(), null, 0,
+                firstInt(PSU_WATTAGE, text, 0), 0, 0, 0, 0, 0, 0);
+            case CASE -> new PartSpec(type, name, null, Set.of(), null, caseFormFactor(text),
+                0, 0, 0, 0, 0, firstInt(CASE_GPU_LENGTH, text, 0), firstInt(CASE_COOLER_HEIGHT, text, 0));
+            // 수랭 쿨러는 라디에이터 장착이라 높이 제한 검사 대상 아님
+            case COOLER -> new PartSpec(type, name, null, sockets(text), null, 0,
+                0, 0, 0, 0, text.contains("수랭") ? 0 : firstInt(COOLER_HEIGHT, text, 0), 0, 0);
+            case STORAGE -> new PartSpec(type, name, null, Set.of(), null, 0, 0, 0, 0, 0, 0, 0, 0);
+        };
+    }
+
+    private static void flatten(JsonNode node, StringBuilder sb) {
+        if (node == null || node.isNull()) {
+            return;
+        }
+        if (node.isArray()) {
+            for (JsonNode item : node) {
+                flatten(item, sb);
+            }
+        } else if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                sb.append(field.getKey()).append(": ");
+                flatten(field.getValue(), sb);
+            }
+        } else {
+            sb.append(node.asText()).append(" | ");
+        }
+    }
+
+    private static String socket(String text) {
+        Matcher m = SOCKET.matcher(text);
+        return m.find() ? normalizeSocket(m) : null;
+    }
+
+    private static Set<String> sockets(String text) {
+        Set<String> found = new LinkedHashSet<>();
+        Matcher m = SOCKET.matcher(text);
+        while (m.find()) {
+            found.add(normalizeSocket(m));
+        }
+        return Set.copyOf(found);
+    }
+
+    private static String normalizeSocket(Matcher m) {
+        String value = m.group(1) != null ? m.group(1) : m.group(2);
+        return value.startsWith("AM") ? value : "LGA" + value;
+    }
+
+    private static String memory(String text) {
+        Matcher m = MEMORY.matcher(text);
+        return m.find() ? "DDR" + m.group(1) : null;
+    }
+
+    private static int boardFormFactor(String text) {
+        if (E_ATX.matcher(text).find()) return 4;
+        if (M_ATX.matcher(text).find()) return 2;
+        if (ITX.matcher(text).find()) return 1;
+        if (ATX.matcher(text).find()) return 3;
+        return 0;
+    }
+
+    /** 케이스는 지원 규격 중 가장 큰 것 */
+    private static int caseFormFactor(String text) {
+        if (E_ATX.matcher(text).find()) return 4;
+        if (ATX.matcher(text).find()) return 3;
+        if (M_ATX.matcher(text).find()) return 2;
+        if (ITX.matcher(text).find()) return 1;
+        return 0;
+    }
+
+    private static int firstInt(Pattern pattern, String text, int fallback) {
+        Matcher m = pattern.matcher(text);
+        if (!m.find()) {
+            return fallback;
+        }
+        for (int i = 1; i <= m.groupCount(); i++) {
+            if (m.group(i) != null) {
+                return Integer.parseInt(m.group(i));
+            }
+        }
+        return fallback;
+    }
+}
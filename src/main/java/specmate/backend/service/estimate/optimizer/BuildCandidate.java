@@ -0,0 +1,7 @@
+package specmate.backend.service.estimate.optimizer;
+
+import specmate.backend.service.estimate.compat.PartSpec;
+
+/** 최적화 후보 부품 (baseScore 는 용도 가중치를 곱하기 전 점수) */
+public record BuildCandidate(Long productId, String category, String name, String image, long price, double baseScore, PartSpec spec) {
+}
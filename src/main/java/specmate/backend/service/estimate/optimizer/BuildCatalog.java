@@ -0,0 +1,165 @@
+package specmate.backend.service.estimate.optimizer;
+
+import specmate.backend.entity.Product;
+import specmate.backend.service.estimate.compat.PartSpec;
+import specmate.backend.service.estimate.compat.PartType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * 최적화용 카탈로그 스냅샷 (부품 종류별 가격 오름차순 후보 배열)
+ * - 호환성 검사에 필요한 속성(소켓/메모리 규격/보드 규격/파워 용량)을 모르는 제품은 제외 → 결과 조합은 항상 검증 가능
+ * - 같은 호환 그룹(예: 소켓+메모리+규격이 같은 메인보드) 안에서 더 싸고 점수가 높은 제품이 있으면 제외 (파레토)
+ *   → 성능과 무관한 부품(메인보드/파워/케이스/쿨러)은 그룹마다 가장 싼 제품과 그보다 인기 있는 제품만 남음
+ * - 그룹별/종류별 후보 수를 제한해 탐색 폭을 고정 (그룹을 번갈아 뽑아 모든 그룹이 남도록)
+ */
+public final class BuildCatalog {
+
+    static final int MAX_PER_GROUP = 8;
+    static final int MAX_PER_TYPE = 40;
+
+    private static final BuildCandidate[] EMPTY = new BuildCandidate[0];
+
+    private final Map<PartType, BuildCandidate[]> candidates;
+    private final int productCount;
+
+    private BuildCatalog(Map<PartType, BuildCandidate[]> candidates, int productCount) {
+        this.candidates = candidates;
+        this.productCount = productCount;
+    }
+
+    public static BuildCatalog of(List<Product> products, BiFunction<Product, String, PartSpec> specs) {
+        Map<PartType, Map<String, List<BuildCandidate>>> groups = new EnumMap<>(PartType.class);
+        for (Product product : products) {
+            if (product.getPrice() == null || product.getPrice() <= 0) {
+                continue;
+            }
+            PartSpec spec = specs.apply(product, product.getCategory());
+            if (spec == null || !verifiable(spec)) {
+                continue;
+            }
+            BuildCandidate candidate = new BuildCandidate(product.getId(), product.getCategory(), product.getName(),
+                product.getImage(), product.getPrice(), baseScore(product, spec.type()), spec);
+            groups.computeIfAbsent(spec.type(), t -> new LinkedHashMap<>())
+                .computeIfAbsent(groupKey(spec), k -> new ArrayList<>())
+                .add(candidate);
+        }
+
+        Map<PartType, BuildCandidate[]> result = new EnumMap<>(PartType.class);
+        groups.forEach((type, byGroup) -> {
+            List<Deque<BuildCandidate>> pruned = new ArrayList<>();
+            for (List<BuildCandidate> group : byGroup.values()) {
+                pruned.add(new ArrayDeque<>(spread(pareto(group), MAX_PER_GROUP)));
+            }
+            // 그룹마다 점수 높은 후보부터 번갈아 뽑기
+            List<BuildCandidate> picked = new ArrayList<>();
+            while (picked.size() < MAX_PER_TYPE && pruned.stream().anyMatch(d -> !d.isEmpty())) {
+                for (Deque<BuildCandidate> group : pruned) {
+                    if (!group.isEmpty() && picked.size() < MAX_PER_TYPE) {
+                        picked.add(group.pollLast());
+                    }
+                }
+            }
+            picked.sort(Comparator.comparingLong(BuildCandidate::price));
+            result.put(type, picked.toArray(EMPTY));
+        });
+        return new BuildCatalog(result, products.size());
+    }
+
+    public BuildCandidate[] candidates(PartType type) {
+        return candidates.getOrDefault(type, EMPTY);
+    }
+
+    public int productCount() {
+        return productCount;
+    }
+
+    /**
+     * 부품 기본 점수
+     * - 성능 부품(CPU/그래픽카드/램/저장장치): 가격을 성능 대용으로 사용
+     *   카탈로그 스펙(PartSpec)에는 호환성 속성만 있고 벤치마크/코어 수/VRAM 같은 성능 값이 없어서,
+     *   같은 종류 안에서는 가격이 성능 등급을 가장 잘 따라가는 값이기 때문.
+     *   더 비쌀수록 체감 성능은 덜 오르므로 제곱근 → 예산을 한 부품에 몰지 않고 종류별로 나눠 씀
+     * - 그 외 부품: 비싸다고 성능이 오르지 않으므로 가격으로 점수를 주지 않음
+     *   호환되면 싼 쪽이 낫고(가격만큼 소폭 감점), 인기 순위로만 가산 → 남는 예산이 비싼 케이스/파워로 가지 않음
+     * - 인기 순위가 높을수록 최대 20% (성능과 무관한 부품은 0.2점) 가산
+     */
+    static double baseScore(Product product, PartType type) {
+        Integer rank = product.getPopRank();
+        double popularity = rank != null && rank > 0 ? 0.2 / Math.sqrt(rank) : 0;
+        if (!performance(type)) {
+            return popularity - product.getPrice() / 10_000_000.0;
+        }
+        return Math.sqrt(product.getPrice() / 10_000.0) * (1 + popularity);
+    }
+
+    private static boolean performance(PartType type) {
+        return type == PartType.CPU || type == PartType.GPU || type == PartType.RAM || type == PartType.STORAGE;
+    }
+
+    private static boolean verifiable(PartSpec spec) {
+        return switch (spec.type()) {
+            case CPU -> spec.socket() != null;
+            case MAINBOARD -> spec.socket() != null && spec.memoryType() != null && spec.formFactor() > 0;
+            case RAM -> spec.memoryType() != null;
+            case POWER -> spec.wattage() > 0;
+            case CASE -> spec.formFactor() > 0;
+            default -> true;
+        };
+    }
+
+    private static String groupKey(PartSpec spec) {
+        return switch (spec.type()) {
+            case CPU -> spec.socket();
+            case MAINBOARD -> spec.socket() + "|" + spec.memoryType() + "|" + spec.formFactor();
+            case RAM -> spec.memoryType();
+            case GPU -> String.valueOf(spec.lengthMm() / 50);
+            // 성능과 무관한 부품은 그룹마다 싼 제품만 남으므로 호환 여부가 갈리는 속성을 모두 그룹에 넣음
+            case CASE -> spec.formFactor() + "|" + spec.maxGpuLengthMm() / 10 + "|" + spec.maxCoolerHeightMm() / 5;
+            case COOLER -> String.join(",", spec.sockets().stream().sorted().toList()) + "|" + spec.heightMm() / 5;
+            case POWER -> String.valueOf(spec.wattage());
+            default -> "";
+        };
+    }
+
+    /** 가격 오름차순으로 보면서 점수가 이전 최고점보다 높은 후보만 남김 */
+    private static List<BuildCandidate> pareto(List<BuildCandidate> group) {
+        List<BuildCandidate> sorted = new ArrayList<>(group);
+        sorted.sort(Comparator.comparingLong(BuildCandidate::price).thenComparing(Comparator.comparingDouble(BuildCandidate::baseScore).reversed()));
+        List<BuildCandidate> kept = new ArrayList<>();
+        double best = Double.NEGATIVE_INFINITY;
+        for (BuildCandidate c : sorted) {
+            if (c.baseScore() > best) {
+                kept.add(c);
+                best = c.baseScore();
+            }
+        }
+        return kept;
+    }
+
+    /** 가격대 전체에 고르게 k 개 (가장 싼 것과 가장 비싼 것 포함) */
+    private static List<BuildCandidate> spread(List<BuildCandidate> sorted, int k) {
+        int n = sorted.size();
+        if (n <= k) {
+            return sorted;
+        }
+        List<BuildCandidate> picked = new ArrayList<>(k);
+        int last = -1;
+        for (int i = 0; i < k; i++) {
+            int idx = (int) Math.round(i * (n - 1) / (double) (k - 1));
+            if (idx != last) {
+                picked.add(sorted.get(idx));
+                last = idx;
+            }
+        }
+        return picked;
+    }
+}
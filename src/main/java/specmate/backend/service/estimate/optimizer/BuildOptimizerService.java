@@ -0,0 +1,122 @@
+package specmate.backend.service.estimate.optimizer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import specmate.backend.dto.estimate.optimizer.BuildOptimizeRequest;
+import specmate.backend.dto.estimate.optimizer.BuildOptimizeResponse;
+import specmate.backend.repository.product.ProductRepository;
+import specmate.backend.service.estimate.compat.CompatibilityService;
+import specmate.backend.service.estimate.compat.PartSpec;
+import specmate.backend.service.product.ProductPriceChangedEvent;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 예산 내 최적 견적 (AI 서버 없이 현재 판매 중인 제품만으로 구성)
+ * - 카탈로그 스냅샷은 refresh-minutes 마다, 또는 제품 가격이 바뀌면 다음 요청에서 다시 만든다.
+ * - 탐색은 전용 ForkJoinPool 에서 time-limit-ms 안에 끝내고, 넘으면 그때까지의 최선 조합을 반환
+ */
+@Slf4j
+@Service
+public class BuildOptimizerService {
+
+    private static final long MIN_BUDGET = 300_000L;
+
+    private record Snapshot(BuildCatalog catalog, long loadedAt) {
+    }
+
+    private final ProductRepository productRepository;
+    private final CompatibilityService compatibilityService;
+    private final ForkJoinPool pool;
+
+    private volatile Snapshot snapshot;
+
+    @Value("${estimate.optimizer.time-limit-ms}")
+    private long timeLimitMs;
+
+    @Value("${estimate.optimizer.refresh-minutes}")
+    private long refreshMinutes;
+
+    public BuildOptimizerService(ProductRepository productRepository,
+                                 CompatibilityService compatibilityService,
+                                 @Value("${estimate.optimizer.parallelism}") int parallelism) {
+        this.productRepository = productRepository;
+        this.compatibilityService = compatibilityService;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public BuildOptimizeResponse optimize(BuildOptimizeRequest req) {
+        if (req.getBudget() == null || req.getBudget() < MIN_BUDGET) {
+            throw new RuntimeException("예산은 " + MIN_BUDGET + "원 이상이어야 합니다.");
+        }
+        BuildPurpose purpose = BuildPurpose.of(req.getPurpose());
+
+        long start = System.nanoTime();
+        BuildSearch.Result result = new BuildSearch(catalog(), purpose, req.getBudget(),
+            TimeUnit.MILLISECONDS.toNanos(timeLimitMs)).run(pool);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        if (result.parts().isEmpty()) {
+            throw new RuntimeException("예산으로 구성할 수 있는 조합이 없습니다.");
+        }
+        if (!result.exhaustive()) {
+            log.debug("Build optimizer hit time limit (budget={}, purpose={}, nodes={})", req.getBudget(), purpose, result.nodes());
+        }
+
+        List<PartSpec> specs = result.parts().stream().map(BuildCandidate::spec).collect(Collectors.toList());
+        return BuildOptimizeResponse.builder()
+            .purpose(purpose.name())
+            .budget(req.getBudget())
+            .totalPrice(result.totalPrice())
+            .score(Math.round(result.score() * 100) / 100.0)
+            .exhaustive(result.exhaustive())
+            .elapsedMs(elapsedMs)
+            .parts(result.parts().stream()
+                .map(c -> BuildOptimizeResponse.Part.builder()
+                    .productId(c.productId())
+                    .category(c.category())
+                    .name(c.name())
+                    .image(c.image())
+                    .price(c.price())
+                    .build())
+                .collect(Collectors.toList()))
+            .compatibility(compatibilityService.evaluate(specs))
+            .build();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPriceChanged(ProductPriceChangedEvent event) {
+        snapshot = null;
+    }
+
+    private BuildCatalog catalog() {
+        Snapshot current = snapshot;
+        if (current != null && System.currentTimeMillis() - current.loadedAt() < TimeUnit.MINUTES.toMillis(refreshMinutes)) {
+            return current.catalog();
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current == null || System.currentTimeMillis() - current.loadedAt() >= TimeUnit.MINUTES.toMillis(refreshMinutes)) {
+                long start = System.nanoTime();
+                BuildCatalog catalog = BuildCatalog.of(productRepository.findAllByStatus("NORMAL"), compatibilityService::specOf);
+                current = new Snapshot(catalog, System.currentTimeMillis());
+                snapshot = current;
+                log.info("Build optimizer catalog loaded ({} products, {} ms)", catalog.productCount(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            return current.catalog();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
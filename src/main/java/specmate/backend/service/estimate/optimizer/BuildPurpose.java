@@ -0,0 +1,56 @@
+package specmate.backend.service.estimate.optimizer;
+
+import specmate.backend.service.estimate.compat.PartType;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 견적 최적화 용도별 부품 가중치 (점수 = 가중치 × 부품 기본 점수)
+ * 메인보드/파워/케이스/쿨러의 기본 점수는 가격과 무관한 인기 가산이라, 가중치는 인기 제품을 얼마나 선호할지만 정한다.
+ * 탐색 순서는 호환성 가지치기가 빨리 일어나도록 CPU → 메인보드 → … 순서, 파워는 소비전력이 모두 정해진 마지막에 고른다.
+ */
+public enum BuildPurpose {
+    GAMING(3.0, 1.5, 0.6, 0.4),
+    WORK(1.5, 2.5, 1.0, 0.6),
+    OFFICE(0.3, 1.5, 0.8, 0.8);
+
+    static final PartType[] SEARCH_ORDER = {
+        PartType.CPU, PartType.MAINBOARD, PartType.RAM, PartType.GPU,
+        PartType.COOLER, PartType.CASE, PartType.STORAGE, PartType.POWER
+    };
+
+    private final Map<PartType, Double> weights = new EnumMap<>(PartType.class);
+
+    BuildPurpose(double gpu, double cpu, double ram, double storage) {
+        weights.put(PartType.GPU, gpu);
+        weights.put(PartType.CPU, cpu);
+        weights.put(PartType.RAM, ram);
+        weights.put(PartType.STORAGE, storage);
+        weights.put(PartType.MAINBOARD, 0.3);
+        weights.put(PartType.POWER, 0.3);
+        weights.put(PartType.CASE, 0.2);
+        weights.put(PartType.COOLER, 0.2);
+    }
+
+    public double weight(PartType type) {
+        return weights.getOrDefault(type, 0.0);
+    }
+
+    /** 고르지 않아도 되는 부품 (쿨러는 CPU 기본 쿨러, 사무용은 내장 그래픽) */
+    public boolean optional(PartType type) {
+        return type == PartType.COOLER || (this == OFFICE && type == PartType.GPU);
+    }
+
+    public static BuildPurpose of(String value) {
+        if (value == null || value.isBlank()) {
+            return GAMING;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("지원하지 않는 용도입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package specmate.backend.service.estimate.optimizer;
+
+import specmate.backend.service.estimate.compat.CompatibilityEngine;
+import specmate.backend.service.estimate.compat.PartSpec;
+import specmate.backend.service.estimate.compat.PartType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예산 내 점수 최대 조합 탐색 (분기 한정 + fork-join)
+ * - 부품 종류 순서대로 후보를 비싼 쪽부터 고르며, 이미 고른 부품과 호환되지 않으면 건너뜀
+ * - 상한: 현재 점수 + 남은 종류별 "남은 예산으로 살 수 있는 최고 점수" 합 (가격 오름차순 배열 + 접두 최대값 + 이진 탐색)
+ * - 처음 두 단계(CPU × 메인보드) 조합을 fork-join 작업으로 나누고, 최고 점수는 작업 간에 공유해 가지치기에 사용
+ * - 시간 제한을 넘기면 그때까지의 최선 조합을 반환 (exhaustive=false)
+ */
+public final class BuildSearch {
+
+    /** 탐색 결과 (parts 는 고른 부품만, 조합이 없으면 비어 있음) */
+    public record Result(List<BuildCandidate> parts, long totalPrice, double score, boolean exhaustive, long nodes) {
+    }
+
+    private final PartType[] types;
+    private final boolean[] optional;
+    private final BuildCandidate[][] levels;
+    private final double[][] scores;       // 용도 가중치 반영 점수
+    private final double[][] prefixMax;    // levels[d][0..i] 중 최고 점수
+    private final long[] minPrice;         // 단계별 최저가 (선택 안 해도 되면 0)
+    private final long[] minSuffix;        // d 단계부터 끝까지 최저가 합
+    private final long budget;
+    private final long deadline;
+    private final LongAdder nodes = new LongAdder();
+
+    private volatile double bestScore = Double.NEGATIVE_INFINITY;
+    private BuildCandidate[] best;
+    private long bestPrice;
+    private volatile boolean timedOut;
+
+    public BuildSearch(BuildCatalog catalog, BuildPurpose purpose, long budget, long timeLimitNanos) {
+        this.types = BuildPurpose.SEARCH_ORDER;
+        int n = types.length;
+        this.optional = new boolean[n];
+        this.levels = new BuildCandidate[n][];
+        this.scores = new double[n][];
+        this.prefixMax = new double[n][];
+        this.minPrice = new long[n];
+        this.minSuffix = new long[n + 1];
+        this.budget = budget;
+        this.deadline = System.nanoTime() + timeLimitNanos;
+
+        for (int d = 0; d < n; d++) {
+            optional[d] = purpose.optional(types[d]);
+            levels[d] = catalog.candidates(types[d]);
+            double weight = purpose.weight(types[d]);
+            scores[d] = new double[levels[d].length];
+            prefixMax[d] = new double[levels[d].length];
+            double max = 0;
+            for (int i = 0; i < levels[d].length; i++) {
+                scores[d][i] = levels[d][i].baseScore() * weight;
+                max = Math.max(max, scores[d][i]);
+                prefixMax[d][i] = max;
+            }
+            minPrice[d] = optional[d] || levels[d].length == 0 ? 0 : levels[d][0].price();
+        }
+        for (int d = n - 1; d >= 0; d--) {
+            minSuffix[d] = minSuffix[d + 1] + minPrice[d];
+        }
+    }
+
+    public Result run(ForkJoinPool pool) {
+        for (int d = 0; d < types.length; d++) {
+            if (!optional[d] && levels[d].length == 0) {
+                return new Result(List.of(), 0, 0, true, 0);
+            }
+        }
+        if (budget >= minSuffix[0]) {
+            pool.invoke(new RootTask());
+        }
+
+        synchronized (this) {
+            List<BuildCandidate> parts = new ArrayList<>();
+            if (best != null) {
+                for (BuildCandidate c : best) {
+                    if (c != null) {
+                        parts.add(c);
+                    }
+                }
+            }
+            return new Result(parts, best != null ? bestPrice : 0, best != null ? bestScore : 0, !timedOut, nodes.sum());
+        }
+    }
+
+    /** CPU × 메인보드 호환 조합마다 하위 작업 하나 (점수 높은 조합부터) */
+    private final class RootTask extends RecursiveAction {
+        @Override
+        protected void compute() {
+            List<int[]> pairs = new ArrayList<>();
+            for (int i = 0; i < levels[0].length; i++) {
+                for (int j = 0; j < levels[1].length; j++) {
+                    if (levels[0][i].price() + levels[1][j].price() + minSuffix[2] <= budget
+                        && CompatibilityEngine.fits(levels[0][i].spec(), levels[1][j].spec())) {
+                        pairs.add(new int[] {i, j});
+                    }
+                }
+            }
+            pairs.sort(Comparator.comparingDouble((int[] p) -> scores[0][p[0]] + scores[1][p[1]]).reversed());
+
+            List<BranchTask> tasks = new ArrayList<>(pairs.size());
+            for (int[] p : pairs) {
+                tasks.add(new BranchTask(p[0], p[1]));
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    private final class BranchTask extends RecursiveAction {
+        private final int cpu;
+        private final int board;
+
+        BranchTask(int cpu, int board) {
+            this.cpu = cpu;
+            this.board = board;
+        }
+
+        @Override
+        protected void compute() {
+            BuildCandidate[] chosen = new BuildCandidate[types.length];
+            chosen[0] = levels[0][cpu];
+            chosen[1] = levels[1][board];
+            long spent = chosen[0].price() + chosen[1].price();
+            double score = scores[0][cpu] + scores[1][board];
+            if (score + bound(2, budget - spent) > bestScore) {
+                search(2, budget - spent, score, chosen);
+            }
+        }
+    }
+
+    private void search(int depth, long remaining, double score, BuildCandidate[] chosen) {
+        nodes.increment();
+        if (timedOut || System.nanoTime() > deadline) {
+            timedOut = true;
+            return;
+        }
+        if (depth == types.length) {
+            offer(chosen, budget - remaining, score);
+            return;
+        }
+
+        BuildCandidate[] level = levels[depth];
+        long maxPrice = remaining - minSuffix[depth + 1];
+        double restBound = bound(depth + 1, remaining - minPrice[depth]);
+        for (int i = upperIndex(level, maxPrice); i >= 0; i--) {
+            // 이 아래 후보는 모두 prefixMax 이하 점수 → 상한이 최선보다 낮으면 이 단계 탐색 종료
+            if (score + prefixMax[depth][i] + restBound <= bestScore) {
+                break;
+            }
+            BuildCandidate c = level[i];
+            double next = score + scores[depth][i];
+            if (next + bound(depth + 1, remaining - c.price()) <= bestScore || !compatible(chosen, depth, c)) {
+                continue;
+            }
+            chosen[depth] = c;
+            search(depth + 1, remaining - c.price(), next, chosen);
+            chosen[depth] = null;
+        }
+        if (optional[depth] && score + bound(depth + 1, remaining) > bestScore) {
+            search(depth + 1, remaining, score, chosen);
+        }
+    }
+
+    /** d 단계부터 남은 예산으로 얻을 수 있는 점수 상한 (다른 종류 최저가는 남겨둠) */
+    private double bound(int d, long remaining) {
+        if (remaining < minSuffix[d]) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        double total = 0;
+        for (int k = d; k < types.length; k++) {
+            int idx = upperIndex(levels[k], remaining - (minSuffix[d] - minPrice[k]));
+            if (idx >= 0) {
+                total += prefixMax[k][idx];
+            }
+        }
+        return total;
+    }
+
+    private boolean compatible(BuildCandidate[] chosen, int depth, BuildCandidate c) {
+        PartSpec spec = c.spec();
+        for (int k = 0; k < depth; k++) {
+            if (chosen[k] != null && !CompatibilityEngine.fits(chosen[k].spec(), spec)) {
+                return false;
+            }
+        }
+        if (spec.type() == PartType.POWER) {
+            int wattage = CompatibilityEngine.BASE_WATTAGE;
+            PartSpec gpu = null;
+            for (int k = 0; k < depth; k++) {
+                if (chosen[k] != null) {
+                    wattage += CompatibilityEngine.partWattage(chosen[k].spec());
+                    if (chosen[k].spec().type() == PartType.GPU) {
+                        gpu = chosen[k].spec();
+                    }
+                }
+            }
+            return CompatibilityEngine.psuCovers(spec, wattage, gpu);
+        }
+        return true;
+    }
+
+    private synchronized void offer(BuildCandidate[] chosen, long price, double score) {
+        // 같은 점수면 더 싼 조합
+        if (score > bestScore || (score == bestScore && price < bestPrice)) {
+            best = Arrays.copyOf(chosen, chosen.length);
+            bestPrice = price;
+            bestScore = score;
+        }
+    }
+
+    /** price 이하인 마지막 인덱스 (없으면 -1) */
+    private static int upperIndex(BuildCandidate[] level, long price) {
+        int lo = 0;
+        int hi = level.length - 1;
+        int found = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (level[mid].price() <= price) {
+                found = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return found;
+    }
+}
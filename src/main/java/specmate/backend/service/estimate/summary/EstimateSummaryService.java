@@ -0,0 +1,238 @@
+package specmate.backend.service.estimate.summary;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import specmate.backend.entity.AiComponentSetItem;
+import specmate.backend.entity.EstimateSummary;
+import specmate.backend.entity.UserEstimateProduct;
+import specmate.backend.repository.estimate.ai.AiComponentSetItemRepository;
+import specmate.backend.repository.estimate.ai.AiEstimateProductRepository;
+import specmate.backend.repository.estimate.summary.EstimateSummaryRepository;
+import specmate.backend.repository.estimate.user.UserEstimateProductRepository;
+import specmate.backend.service.estimate.ai.AiComponentSetService;
+import specmate.backend.service.estimate.compat.PartType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 견적 목록 읽기 모델(estimate_summaries) 갱신
+ * - 견적을 바꾸는 트랜잭션 안에서 해당 견적 요약 1행을 다시 계산해 upsert (부품 수/대표 CPU·GPU/썸네일/가격 변동)
+ * - 사용자 견적은 총액 갱신(견적 행 잠금) 뒤에 호출 → 같은 견적의 요약 갱신도 커밋 순서대로
+ * - 기동 시 요약이 없는 기존 견적을 채운다.
+ */
+@Slf4j
+@Service
+public class EstimateSummaryService {
+
+    private static final String UPSERT_CONFLICT =
+        "ON CONFLICT (kind, estimate_id) DO UPDATE SET " +
+        "chat_room_id = EXCLUDED.chat_room_id, intent = EXCLUDED.intent, title = EXCLUDED.title, " +
+        "description = EXCLUDED.description, total_price = EXCLUDED.total_price, " +
+        "price_changed_since_saved = EXCLUDED.price_changed_since_saved, part_count = EXCLUDED.part_count, " +
+        "cpu_name = EXCLUDED.cpu_name, gpu_name = EXCLUDED.gpu_name, thumbnail = EXCLUDED.thumbnail, " +
+        "updated_at = EXCLUDED.updated_at";
+
+    private static final String UPSERT_USER_SQL =
+        "INSERT INTO estimate_summaries (kind, estimate_id, user_id, chat_room_id, intent, title, description, total_price, " +
+        "price_changed_since_saved, part_count, cpu_name, gpu_name, thumbnail, created_at, updated_at) " +
+        "SELECT 'USER', e.id, e.user_id, NULL, NULL, e.title, e.description, COALESCE(e.total_price, 0), " +
+        "?, ?, ?, ?, ?, e.created_at, e.updated_at FROM user_estimates e WHERE e.id = ? " + UPSERT_CONFLICT;
+
+    // created_at 이 없는 오래된 AI 견적은 견적 메시지 시각(없으면 지금)으로 → 목록 커서(createdAt, id)가 항상 값을 가짐
+    // (요약 created_at 은 최초 insert 때만 정해지고 이후 upsert 에서 바뀌지 않음)
+    private static final String AI_CREATED_AT =
+        "COALESCE(e.created_at, (SELECT MIN(m.created_at) FROM chat_messages m " +
+        "WHERE m.chat_room_id = e.chat_room_id AND m.related_estimate_id = e.id), now())";
+
+    private static final String UPSERT_AI_SQL =
+        "INSERT INTO estimate_summaries (kind, estimate_id, user_id, chat_room_id, intent, title, description, total_price, " +
+        "price_changed_since_saved, part_count, cpu_name, gpu_name, thumbnail, created_at, updated_at) " +
+        "SELECT 'AI', CAST(e.id AS VARCHAR), e.user_id, e.chat_room_id, e.intent, e.intro, NULL, COALESCE(e.total_price, 0), " +
+        "0, ?, ?, ?, ?, " + AI_CREATED_AT + ", now() FROM ai_estimates e WHERE e.id = ? " + UPSERT_CONFLICT;
+
+    // 가격 재계산 차액 반영 (부품 단가만 바뀌므로 총액과 담은 뒤 가격 변동이 같은 금액만큼 변함)
+    private static final String ADD_USER_DELTA_SQL =
+        "UPDATE estimate_summaries SET total_price = total_price + ?, " +
+        "price_changed_since_saved = COALESCE(price_changed_since_saved, 0) + ?, updated_at = now() " +
+        "WHERE kind = 'USER' AND estimate_id = ?";
+
+    private static final String MISSING_USER_SQL =
+        "SELECT e.id FROM user_estimates e WHERE NOT EXISTS " +
+        "(SELECT 1 FROM estimate_summaries s WHERE s.kind = 'USER' AND s.estimate_id = e.id) LIMIT ?";
+
+    private static final String MISSING_AI_SQL =
+        "SELECT e.id FROM ai_estimates e WHERE NOT EXISTS " +
+        "(SELECT 1 FROM estimate_summaries s WHERE s.kind = 'AI' AND s.estimate_id = CAST(e.id AS VARCHAR)) LIMIT ?";
+
+    private record CardPart(String category, String name, String image, Long price) {
+    }
+
+    private record Card(int partCount, String cpuName, String gpuName, String thumbnail) {
+    }
+
+    private final EstimateSummaryRepository estimateSummaryRepository;
+    private final UserEstimateProductRepository userEstimateProductRepository;
+    private final AiComponentSetItemRepository aiComponentSetItemRepository;
+    private final AiEstimateProductRepository aiEstimateProductRepository;
+    private final AiComponentSetService aiComponentSetService;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${estimate.summary.backfill-batch-size}")
+    private int backfillBatchSize;
+
+    public EstimateSummaryService(EstimateSummaryRepository estimateSummaryRepository,
+                                  UserEstimateProductRepository userEstimateProductRepository,
+                                  AiComponentSetItemRepository aiComponentSetItemRepository,
+                                  AiEstimateProductRepository aiEstimateProductRepository,
+                                  AiComponentSetService aiComponentSetService,
+                                  JdbcTemplate jdbcTemplate,
+                                  EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager) {
+        this.estimateSummaryRepository = estimateSummaryRepository;
+        this.userEstimateProductRepository = userEstimateProductRepository;
+        this.aiComponentSetItemRepository = aiComponentSetItemRepository;
+        this.aiEstimateProductRepository = aiEstimateProductRepository;
+        this.aiComponentSetService = aiComponentSetService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** 사용자 견적 요약 다시 계산 */
+    @Transactional
+    public void refreshUserEstimate(String estimateId) {
+        entityManager.flush(); // 아직 쓰지 않은 견적/부품 변경을 먼저 반영해야 SQL 에서 보임
+        List<UserEstimateProduct> lines = userEstimateProductRepository.findWithProductByUserEstimateId(estimateId);
+
+        long priceChanged = 0L;
+        List<CardPart> parts = new ArrayList<>(lines.size());
+        for (UserEstimateProduct line : lines) {
+            priceChanged += line.getPriceDelta();
+            String category = line.getCategory() != null ? line.getCategory() : line.getProduct().getCategory();
+            parts.add(new CardPart(category, line.getProduct().getName(), line.getProduct().getImage(), line.getTotalPrice()));
+        }
+        Card card = cardOf(parts);
+        jdbcTemplate.update(UPSERT_USER_SQL, priceChanged, card.partCount(), card.cpuName(), card.gpuName(), card.thumbnail(), estimateId);
+    }
+
+    /** AI 견적 요약 다시 계산 */
+    @Transactional
+    public void refreshAiEstimate(Long estimateId) {
+        entityManager.flush();
+        List<AiComponentSetItem> items = aiComponentSetItemRepository.findByEstimateId(estimateId);
+        if (items.isEmpty()) {
+            // 아직 구성으로 옮기지 않은 레거시 견적
+            items = aiComponentSetService.toItems(aiEstimateProductRepository.findByAiEstimateId(estimateId));
+        }
+
+        List<CardPart> parts = new ArrayList<>(items.size());
+        for (AiComponentSetItem item : items) {
+            parts.add(new CardPart(item.getCategory(), item.getName(), item.getImage(), item.getPrice()));
+        }
+        Card card = cardOf(parts);
+        jdbcTemplate.update(UPSERT_AI_SQL, card.partCount(), card.cpuName(), card.gpuName(), card.thumbnail(), estimateId);
+    }
+
+    /** 가격 재계산으로 바뀐 사용자 견적 총액 차액 반영 (재계산 트랜잭션 안에서, 견적 총액 갱신 뒤) */
+    public void addUserEstimateDeltas(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((estimateId, delta) -> rows.add(new Object[]{delta, delta, estimateId}));
+        jdbcTemplate.batchUpdate(ADD_USER_DELTA_SQL, rows);
+    }
+
+    @Transactional
+    public void deleteUserEstimate(String estimateId) {
+        estimateSummaryRepository.deleteByKindAndEstimateId(EstimateSummary.Kind.USER, estimateId);
+    }
+
+    @Transactional
+    public void deleteAiEstimate(Long estimateId) {
+        estimateSummaryRepository.deleteByKindAndEstimateId(EstimateSummary.Kind.AI, String.valueOf(estimateId));
+    }
+
+    /** 목록 조회를 요약 테이블로 옮기면서 쓰지 않게 된 인덱스 정리 (ddl-auto 는 인덱스를 지우지 않음) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void dropReplacedIndexes() {
+        try {
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS idx_ai_estimates_user_id_created_at");
+        } catch (Exception e) {
+            log.warn("Dropping replaced estimate indexes failed: {}", e.getMessage());
+        }
+    }
+
+    /** 요약이 없는 기존 견적 채우기 (견적마다 짧은 트랜잭션) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int filled = 0;
+            List<String> userIds;
+            do {
+                userIds = jdbcTemplate.queryForList(MISSING_USER_SQL, String.class, backfillBatchSize);
+                for (String id : userIds) {
+                    transactionTemplate.executeWithoutResult(status -> refreshUserEstimate(id));
+                }
+                filled += userIds.size();
+            } while (userIds.size() == backfillBatchSize);
+
+            List<Long> aiIds;
+            do {
+                aiIds = jdbcTemplate.queryForList(MISSING_AI_SQL, Long.class, backfillBatchSize);
+                for (Long id : aiIds) {
+                    transactionTemplate.executeWithoutResult(status -> refreshAiEstimate(id));
+                }
+                filled += aiIds.size();
+            } while (aiIds.size() == backfillBatchSize);
+
+            if (filled > 0) {
+                log.info("Backfilled estimate summaries: {}", filled);
+            }
+        } catch (Exception e) {
+            log.warn("Estimate summary backfill failed: {}", e.getMessage());
+        }
+    }
+
+    /** 대표 CPU/GPU 는 해당 종류 중 가장 비싼 부품, 썸네일은 케이스 → 그래픽카드 → 첫 이미지 순 */
+    private static Card cardOf(List<CardPart> parts) {
+        CardPart cpu = null;
+        CardPart gpu = null;
+        String caseImage = null;
+        String firstImage = null;
+        for (CardPart part : parts) {
+            PartType type = PartType.of(part.category());
+            if (type == PartType.CPU && (cpu == null || price(part) > price(cpu))) {
+                cpu = part;
+            } else if (type == PartType.GPU && (gpu == null || price(part) > price(gpu))) {
+                gpu = part;
+            } else if (type == PartType.CASE && caseImage == null) {
+                caseImage = part.image();
+            }
+            if (firstImage == null) {
+                firstImage = part.image();
+            }
+        }
+        String thumbnail = caseImage != null ? caseImage : gpu != null && gpu.image() != null ? gpu.image() : firstImage;
+        return new Card(parts.size(),
+            cpu != null ? cpu.name() : null,
+            gpu != null ? gpu.name() : null,
+            thumbnail);
+    }
+
+    private static long price(CardPart part) {
+        return part.price() != null ? part.price() : 0L;
+    }
+}
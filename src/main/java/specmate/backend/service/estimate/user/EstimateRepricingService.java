@@ -0,0 +1,148 @@
+package specmate.backend.service.estimate.user;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import specmate.backend.service.estimate.summary.EstimateSummaryService;
+import specmate.backend.service.product.ProductPriceChangedEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 제품 가격 변경 시 사용자 견적 재계산
+ * - idx_user_estimate_products_product_id (제품 → 견적 부품 역색인)로 해당 제품이 담긴 부품만 찾음
+ * - 배치마다 한 문장(CTE)으로 부품 단가/합계 갱신 + 견적별 차액 합산 → 견적 총액에 원자적으로 반영 (전체 재계산 없음)
+ * - 담을 당시 단가는 saved_unit_price 에 남겨 "담은 뒤 가격 변동분"으로 노출
+ * - 부품을 담을 때는 제품 행을 FOR SHARE 로 읽으므로, 재계산 배치와 엇갈려 옛 가격으로 남는 부품이 없다.
+ * - 견적별 차액은 같은 트랜잭션에서 목록 요약(estimate_summaries)에도 더함 (견적 행 → 요약 행 순서로 잠금)
+ * - 제품별로 풀 스레드에서 병렬 처리, 같은 제품의 변경이 몰리면 한 번으로 합침 (항상 현재 가격 기준이라 멱등)
+ */
+@Slf4j
+@Service
+public class EstimateRepricingService {
+
+    private static final String REPRICE_BATCH_SQL =
+        "WITH target AS (" +
+        "  SELECT l.id, l.total_price AS old_total FROM user_estimate_products l " +
+        "  WHERE l.product_id = ? AND l.unit_price <> ? ORDER BY l.id LIMIT ? FOR UPDATE" +
+        "), changed AS (" +
+        "  UPDATE user_estimate_products l SET " +
+        "    saved_unit_price = COALESCE(l.saved_unit_price, l.unit_price), " +
+        "    unit_price = ?, total_price = ? * l.quantity, updated_at = now() " +
+        "  FROM target t WHERE l.id = t.id " +
+        "  RETURNING l.user_estimate_id, l.total_price - t.old_total AS delta" +
+        ") " +
+        "UPDATE user_estimates e SET total_price = COALESCE(e.total_price, 0) + d.delta, updated_at = now() " +
+        "FROM (SELECT user_estimate_id, SUM(delta) AS delta FROM changed GROUP BY user_estimate_id) d " +
+        "WHERE e.id = d.user_estimate_id " +
+        "RETURNING e.id, d.delta";
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EstimateSummaryService estimateSummaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    @Value("${estimate.reprice.batch-size}")
+    private int batchSize;
+
+    public EstimateRepricingService(JdbcTemplate jdbcTemplate,
+                                    EstimateSummaryService estimateSummaryService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${estimate.reprice.threads}") int threads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.estimateSummaryService = estimateSummaryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "estimate-reprice-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPriceChanged(ProductPriceChangedEvent event) {
+        // 이미 대기 중이면 합침 (실행 시점의 현재 가격으로 재계산하므로 한 번이면 충분)
+        if (pending.add(event.productId())) {
+            executor.execute(() -> {
+                pending.remove(event.productId());
+                try {
+                    repriceProduct(event.productId());
+                } catch (Exception e) {
+                    log.error("Estimate repricing failed (productId={})", event.productId(), e);
+                }
+            });
+        }
+    }
+
+    /** 제품이 담긴 견적 부품을 현재 가격으로 맞추고 견적 총액에 차액 반영, 갱신한 견적 수(배치 합) 반환 */
+    public int repriceProduct(Long productId) {
+        int updatedEstimates = 0;
+        while (true) {
+            int updated = repriceBatch(productId);
+            if (updated <= 0) {
+                break;
+            }
+            updatedEstimates += updated;
+        }
+        if (updatedEstimates > 0) {
+            log.info("Repriced estimates for product {} ({} estimate updates)", productId, updatedEstimates);
+        }
+        return updatedEstimates;
+    }
+
+    /** 한 배치 (자체 트랜잭션, 교착/직렬화 실패 시 재시도), 제품이 없으면 -1 */
+    private int repriceBatch(Long productId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer updated = transactionTemplate.execute(status -> {
+                    List<Long> prices = jdbcTemplate.queryForList("SELECT price FROM products WHERE id = ?", Long.class, productId);
+                    if (prices.isEmpty() || prices.get(0) == null) {
+                        return -1;
+                    }
+                    long price = prices.get(0);
+                    // 견적 id 순으로 정렬해 요약 행도 항상 같은 순서로 잠금
+                    Map<String, Long> deltas = new TreeMap<>();
+                    jdbcTemplate.query(REPRICE_BATCH_SQL,
+                        rs -> {
+                            deltas.put(rs.getString(1), rs.getLong(2));
+                        },
+                        productId, price, batchSize, price, price);
+                    estimateSummaryService.addUserEstimateDeltas(deltas);
+                    return deltas.size();
+                });
+                return updated != null ? updated : 0;
+            } catch (ConcurrencyFailureException e) {
+                // 같은 견적을 다른 제품 재계산/편집과 서로 다른 순서로 잠근 경우 → 배치 단위로 재시도
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Repricing batch conflict (productId={}, attempt={}): {}", productId, attempt, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
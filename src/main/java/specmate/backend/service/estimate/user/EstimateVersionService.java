@@ -0,0 +1,323 @@
+package specmate.backend.service.estimate.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import specmate.backend.dto.estimate.user.UserEstimateVersionDiffResponse;
+import specmate.backend.dto.estimate.user.UserEstimateVersionLineResponse;
+import specmate.backend.dto.estimate.user.UserEstimateVersionResponse;
+import specmate.backend.entity.Product;
+import specmate.backend.entity.UserEstimate;
+import specmate.backend.entity.UserEstimateProduct;
+import specmate.backend.entity.UserEstimateVersion;
+import specmate.backend.entity.UserEstimateVersionLine;
+import specmate.backend.repository.estimate.user.UserEstimateProductRepository;
+import specmate.backend.repository.estimate.user.UserEstimateRepository;
+import specmate.backend.repository.estimate.user.UserEstimateVersionLineRepository;
+import specmate.backend.repository.estimate.user.UserEstimateVersionRepository;
+import specmate.backend.repository.product.ProductRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 견적 버전 이력 (구조 공유)
+ * - 편집마다 바뀐 부품 행만 저장하고 parent 로 이전 버전을 가리킴 (부품 전체 복사 없음)
+ * - 스냅샷 이후 쌓인 변경분 행 수가 부품 수(최소 MIN_CHAIN_LINES)를 넘으면 다음 버전은 전체 스냅샷
+ *   → 어떤 버전이든 base 스냅샷 + 이후 변경분을 한 번에 읽어 복원하고, 읽는 행 수는 부품 수의 약 2배 이내
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EstimateVersionService {
+
+    private static final int MIN_CHAIN_LINES = 8;
+    private static final String INSERT_LINE_SQL =
+        "INSERT INTO user_estimate_version_lines (version_id, estimate_product_id, product_id, category, quantity, unit_price, total_price, removed) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final UserEstimateVersionRepository userEstimateVersionRepository;
+    private final UserEstimateVersionLineRepository userEstimateVersionLineRepository;
+    private final UserEstimateRepository userEstimateRepository;
+    private final UserEstimateProductRepository userEstimateProductRepository;
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 버전 이력이 없는 견적의 편집 전 구성을 기준 스냅샷으로 기록 (편집을 적용하기 전에 호출)
+     * - 이력 기능 이전에 만든 견적도 첫 편집 전 상태로 되돌리거나 비교할 수 있도록
+     * - 이력이 있으면 조회 한 번으로 끝나고, 없을 때만 견적 행을 잠가 동시에 들어온 첫 편집끼리 한 번만 기록
+     * - 편집 전 부품이 없으면 기록하지 않음 (첫 편집 버전이 곧 전체 스냅샷)
+     */
+    @Transactional
+    public void ensureBaseline(String estimateId) {
+        if (userEstimateVersionRepository.existsByUserEstimateId(estimateId)) {
+            return;
+        }
+        UserEstimate estimate = userEstimateRepository.findForUpdate(estimateId)
+            .orElseThrow(() -> new RuntimeException("Estimate not found"));
+        if (userEstimateVersionRepository.existsByUserEstimateId(estimateId)) {
+            return;
+        }
+        List<UserEstimateProduct> current = userEstimateProductRepository.findByUserEstimateId(estimateId);
+        if (current.isEmpty()) {
+            return;
+        }
+
+        UserEstimateVersion baseline = UserEstimateVersion.builder()
+            .userEstimate(estimate)
+            .versionNo(1)
+            .snapshot(true)
+            .baseVersionNo(1)
+            .chainLines(0)
+            .partCount(current.size())
+            .totalPrice(userEstimateRepository.findTotalPriceById(estimateId).orElse(0L))
+            .reason(UserEstimateVersion.Reason.BASELINE)
+            .createdAt(LocalDateTime.now())
+            .build();
+        userEstimateVersionRepository.save(baseline);
+        insertLines(baseline, current.stream()
+            .map(line -> toVersionLine(baseline, line))
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * 편집 결과를 새 버전으로 기록
+     * - 같은 트랜잭션에서 견적 총액을 갱신한 뒤(견적 행 잠금 보유) 호출해야 버전 순서가 커밋 순서와 같다.
+     * - 편집 전에 ensureBaseline 을 호출해 두어야 이력이 없던 견적의 편집 전 구성이 남는다.
+     */
+    @Transactional
+    public void record(String estimateId, UserEstimateVersion.Reason reason,
+                       List<UserEstimateProduct> added, List<UserEstimateProduct> updated, Collection<String> removedIds) {
+        UserEstimateVersion head = userEstimateVersionRepository.findFirstByUserEstimateIdOrderByVersionNoDesc(estimateId).orElse(null);
+        int deltaLines = added.size() + updated.size() + removedIds.size();
+        boolean snapshot = head == null || head.getChainLines() + deltaLines > Math.max(head.getPartCount(), MIN_CHAIN_LINES);
+        int versionNo = head != null ? head.getVersionNo() + 1 : 1;
+
+        UserEstimateVersion version = UserEstimateVersion.builder()
+            .userEstimate(userEstimateRepository.getReferenceById(estimateId))
+            .versionNo(versionNo)
+            .parent(head)
+            .snapshot(snapshot)
+            .totalPrice(userEstimateRepository.findTotalPriceById(estimateId).orElse(0L))
+            .reason(reason)
+            .createdAt(LocalDateTime.now())
+            .build();
+
+        List<UserEstimateVersionLine> lines = new ArrayList<>();
+        if (snapshot) {
+            for (UserEstimateProduct line : userEstimateProductRepository.findByUserEstimateId(estimateId)) {
+                lines.add(toVersionLine(version, line));
+            }
+            version.setBaseVersionNo(versionNo);
+            version.setChainLines(0);
+            version.setPartCount(lines.size());
+        } else {
+            added.forEach(line -> lines.add(toVersionLine(version, line)));
+            updated.forEach(line -> lines.add(toVersionLine(version, line)));
+            removedIds.forEach(id -> lines.add(UserEstimateVersionLine.builder()
+                .version(version)
+                .estimateProductId(id)
+                .removed(true)
+                .build()));
+            version.setBaseVersionNo(head.getBaseVersionNo());
+            version.setChainLines(head.getChainLines() + deltaLines);
+            version.setPartCount(head.getPartCount() + added.size() - removedIds.size());
+        }
+
+        userEstimateVersionRepository.save(version);
+        insertLines(version, lines);
+    }
+
+    /** 버전 목록 (최신순) */
+    public List<UserEstimateVersionResponse> getVersions(String estimateId, String userId) {
+        requireOwned(estimateId, userId);
+        return userEstimateVersionRepository.findByUserEstimateIdOrderByVersionNoDesc(estimateId).stream()
+            .map(version -> toVersionResponse(version, null))
+            .collect(Collectors.toList());
+    }
+
+    /** 특정 버전의 부품 구성 */
+    public UserEstimateVersionResponse getVersion(String estimateId, int versionNo, String userId) {
+        requireOwned(estimateId, userId);
+        UserEstimateVersion version = requireVersion(estimateId, versionNo);
+        Map<String, UserEstimateVersionLine> lines = materialize(estimateId, version);
+        Map<Long, Product> products = productsOf(lines.values());
+        return toVersionResponse(version, lines.values().stream()
+            .map(line -> toLineResponse(line, products))
+            .collect(Collectors.toList()));
+    }
+
+    /** 두 버전 비교 (to 가 없으면 최신 버전) */
+    public UserEstimateVersionDiffResponse diff(String estimateId, int fromVersionNo, Integer toVersionNo, String userId) {
+        requireOwned(estimateId, userId);
+        UserEstimateVersion from = requireVersion(estimateId, fromVersionNo);
+        UserEstimateVersion to = toVersionNo != null
+            ? requireVersion(estimateId, toVersionNo)
+            : userEstimateVersionRepository.findFirstByUserEstimateIdOrderByVersionNoDesc(estimateId)
+                .orElseThrow(() -> new RuntimeException("견적 버전이 없습니다."));
+
+        Map<String, UserEstimateVersionLine> before = materialize(estimateId, from);
+        Map<String, UserEstimateVersionLine> after = materialize(estimateId, to);
+        List<UserEstimateVersionLine> all = new ArrayList<>(before.values());
+        all.addAll(after.values());
+        Map<Long, Product> products = productsOf(all);
+
+        List<UserEstimateVersionDiffResponse.Change> changes = new ArrayList<>();
+        for (UserEstimateVersionLine old : before.values()) {
+            UserEstimateVersionLine now = after.get(old.getEstimateProductId());
+            if (now == null) {
+                changes.add(change(UserEstimateVersionDiffResponse.ChangeType.REMOVED, toLineResponse(old, products), null));
+            } else if (!sameLine(old, now)) {
+                changes.add(change(UserEstimateVersionDiffResponse.ChangeType.CHANGED, toLineResponse(old, products), toLineResponse(now, products)));
+            }
+        }
+        for (UserEstimateVersionLine now : after.values()) {
+            if (!before.containsKey(now.getEstimateProductId())) {
+                changes.add(change(UserEstimateVersionDiffResponse.ChangeType.ADDED, null, toLineResponse(now, products)));
+            }
+        }
+
+        return UserEstimateVersionDiffResponse.builder()
+            .fromVersion(from.getVersionNo())
+            .toVersion(to.getVersionNo())
+            .totalPriceDelta(nullToZero(to.getTotalPrice()) - nullToZero(from.getTotalPrice()))
+            .changes(changes)
+            .build();
+    }
+
+    /** 버전의 부품 구성 (견적 부품 id → 부품 행), 소유자 확인 후 복원용 */
+    public Map<String, UserEstimateVersionLine> materialize(String estimateId, int versionNo, String userId) {
+        requireOwned(estimateId, userId);
+        return materialize(estimateId, requireVersion(estimateId, versionNo));
+    }
+
+    /** base 스냅샷부터 대상 버전까지 변경분을 순서대로 적용 (쿼리 한 번) */
+    private Map<String, UserEstimateVersionLine> materialize(String estimateId, UserEstimateVersion version) {
+        Map<String, UserEstimateVersionLine> state = new LinkedHashMap<>();
+        for (UserEstimateVersionLine line : userEstimateVersionLineRepository.findChain(estimateId, version.getBaseVersionNo(), version.getVersionNo())) {
+            if (line.isRemoved()) {
+                state.remove(line.getEstimateProductId());
+            } else {
+                state.put(line.getEstimateProductId(), line);
+            }
+        }
+        return state;
+    }
+
+    private void requireOwned(String estimateId, String userId) {
+        UserEstimate estimate = userEstimateRepository.findById(estimateId)
+            .orElseThrow(() -> new RuntimeException("Estimate not found"));
+
+        if (!estimate.getUser().getId().equals(userId)) {
+            throw new RuntimeException("권한이 없습니다.");
+        }
+    }
+
+    private UserEstimateVersion requireVersion(String estimateId, int versionNo) {
+        return userEstimateVersionRepository.findByUserEstimateIdAndVersionNo(estimateId, versionNo)
+            .orElseThrow(() -> new RuntimeException("견적 버전을 찾을 수 없습니다. (version=" + versionNo + ")"));
+    }
+
+    private Map<Long, Product> productsOf(Collection<UserEstimateVersionLine> lines) {
+        Set<Long> ids = new HashSet<>();
+        for (UserEstimateVersionLine line : lines) {
+            if (line.getProductId() != null) {
+                ids.add(line.getProductId());
+            }
+        }
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return productRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    private static boolean sameLine(UserEstimateVersionLine a, UserEstimateVersionLine b) {
+        return Objects.equals(a.getProductId(), b.getProductId())
+            && Objects.equals(a.getCategory(), b.getCategory())
+            && Objects.equals(a.getQuantity(), b.getQuantity())
+            && Objects.equals(a.getUnitPrice(), b.getUnitPrice());
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * 버전 부품 행을 JDBC 배치로 저장
+     * - 부품 행 id 가 IDENTITY 라 JPA saveAll 은 행마다 INSERT 를 따로 보냄 (스냅샷이면 부품 수만큼)
+     * - 버전 행은 먼저 저장해 id 가 있어야 함, 배치 순서대로 id 가 매겨져 findChain 의 적용 순서도 유지
+     */
+    private void insertLines(UserEstimateVersion version, List<UserEstimateVersionLine> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(lines.size());
+        for (UserEstimateVersionLine line : lines) {
+            rows.add(new Object[]{version.getId(), line.getEstimateProductId(), line.getProductId(), line.getCategory(),
+                line.getQuantity(), line.getUnitPrice(), line.getTotalPrice(), line.isRemoved()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_LINE_SQL, rows);
+    }
+
+    private UserEstimateVersionLine toVersionLine(UserEstimateVersion version, UserEstimateProduct line) {
+        return UserEstimateVersionLine.builder()
+            .version(version)
+            .estimateProductId(line.getId())
+            .productId(line.getProduct().getId())
+            .category(line.getCategory())
+            .quantity(line.getQuantity())
+            .unitPrice(line.getUnitPrice())
+            .totalPrice(line.getTotalPrice())
+            .removed(false)
+            .build();
+    }
+
+    private UserEstimateVersionDiffResponse.Change change(UserEstimateVersionDiffResponse.ChangeType type,
+                                                          UserEstimateVersionLineResponse before,
+                                                          UserEstimateVersionLineResponse after) {
+        return UserEstimateVersionDiffResponse.Change.builder()
+            .type(type)
+            .before(before)
+            .after(after)
+            .build();
+    }
+
+    private UserEstimateVersionResponse toVersionResponse(UserEstimateVersion version, List<UserEstimateVersionLineResponse> products) {
+        return UserEstimateVersionResponse.builder()
+            .versionNo(version.getVersionNo())
+            .parentVersionNo(version.getParent() != null ? version.getParent().getVersionNo() : null)
+            .reason(version.getReason() != null ? version.getReason().name() : null)
+            .snapshot(version.isSnapshot())
+            .partCount(version.getPartCount())
+            .totalPrice(version.getTotalPrice())
+            .createdAt(version.getCreatedAt())
+            .products(products)
+            .build();
+    }
+
+    private UserEstimateVersionLineResponse toLineResponse(UserEstimateVersionLine line, Map<Long, Product> products) {
+        Product product = line.getProductId() != null ? products.get(line.getProductId()) : null;
+        return UserEstimateVersionLineResponse.builder()
+            .estimateProductId(line.getEstimateProductId())
+            .productId(line.getProductId())
+            .productName(product != null ? product.getName() : null)
+            .image(product != null ? product.getImage() : null)
+            .category(line.getCategory())
+            .quantity(line.getQuantity())
+            .unitPrice(line.getUnitPrice())
+            .totalPrice(line.getTotalPrice())
+            .build();
+    }
+}
@@ -3,20 +3,45 @@ package specmate.backend.service.estimate.user;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import specmate.backend.dto.estimate.user.UserEstimateAdoptRequest;
+import specmate.backend.dto.estimate.user.UserEstimateAdoptResponse;
+import specmate.backend.dto.estimate.user.UserEstimateBatchRequest;
+import specmate.backend.dto.estimate.user.UserEstimateBatchResponse;
 import specmate.backend.dto.estimate.user.UserEstimateProductRequest;
 import specmate.backend.dto.estimate.user.UserEstimateProductResponse;
 import specmate.backend.dto.estimate.user.UserEstimateRequest;
 import specmate.backend.dto.estimate.user.UserEstimateResponse;
+import specmate.backend.dto.estimate.user.UserEstimateSummaryResponse;
+import specmate.backend.entity.EstimateSummary;
+import specmate.backend.entity.AiComponentSetItem;
+import specmate.backend.entity.AiEstimate;
 import specmate.backend.entity.Product;
 import specmate.backend.entity.User;
 import specmate.backend.entity.UserEstimate;
 import specmate.backend.entity.UserEstimateProduct;
+import specmate.backend.entity.UserEstimateVersion;
+import specmate.backend.entity.UserEstimateVersionLine;
+import specmate.backend.repository.estimate.ai.AiEstimateRepository;
+import specmate.backend.repository.estimate.summary.EstimateSummaryRepository;
 import specmate.backend.repository.estimate.user.UserEstimateProductRepository;
 import specmate.backend.repository.estimate.user.UserEstimateRepository;
 import specmate.backend.repository.product.ProductRepository;
 import specmate.backend.repository.user.UserRepository;
-
+import specmate.backend.service.estimate.ai.AiComponentSetService;
+import specmate.backend.service.estimate.compat.CompatibilityService;
+import specmate.backend.service.estimate.summary.EstimateSummaryService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,10 +49,23 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class UserEstimateService {
 
+    // 부품 교체/삭제 시 총액 비교 실패(동시 수정) 후 재시도 횟수
+    private static final int MAX_CONFLICT_RETRIES = 5;
+    private static final String CONFLICT_MESSAGE = "다른 수정과 충돌했습니다. 잠시 후 다시 시도해주세요.";
+
+    // 일괄 편집 한 번에 허용하는 최대 작업 수
+    private static final int MAX_BATCH_OPERATIONS = 50;
+
     private final UserEstimateRepository userEstimateRepository;
     private final UserEstimateProductRepository userEstimateProductRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final CompatibilityService compatibilityService;
+    private final AiEstimateRepository aiEstimateRepository;
+    private final AiComponentSetService aiComponentSetService;
+    private final EstimateVersionService estimateVersionService;
+    private final EstimateSummaryRepository estimateSummaryRepository;
+    private final EstimateSummaryService estimateSummaryService;
 
     /** 견적 생성 */
     @Transactional
@@ -42,7 +80,9 @@ public class UserEstimateService {
             .totalPrice(0L)
             .build();
 
-        return toEstimateResponse(userEstimateRepository.save(estimate));
+        UserEstimate saved = userEstimateRepository.save(estimate);
+        estimateSummaryService.refreshUserEstimate(saved.getId());
+        return toEstimateResponse(saved);
     }
 
     /** 기본 견적 가져오거나 생성 */
@@ -61,7 +101,9 @@ public class UserEstimateService {
                     .totalPrice(0L)
                     .build();
 
-                return userEstimateRepository.save(newEstimate);
+                UserEstimate saved = userEstimateRepository.save(newEstimate);
+                estimateSummaryService.refreshUserEstimate(saved.getId());
+                return saved;
             });
     }
 
@@ -75,7 +117,10 @@ public class UserEstimateService {
             throw new RuntimeException("권한이 없습니다.");
         }
 
-        Product product = productRepository.findById(Long.valueOf(req.getProductId()))
+        estimateVersionService.ensureBaseline(estimate.getId());
+
+        // 가격 변경과 엇갈려 옛 가격으로 담기지 않도록 제품 행을 공유 잠금으로 읽음
+        Product product = productRepository.findLockedById(Long.valueOf(req.getProductId()))
             .orElseThrow(() -> new RuntimeException("Product not found"));
 
         long unitPrice = product.getPrice() != null ? product.getPrice() : 0L;
@@ -87,13 +132,16 @@ public class UserEstimateService {
             .category(req.getCategory())
             .quantity(req.getQuantity())
             .unitPrice(unitPrice)
+            .savedUnitPrice(unitPrice)
             .totalPrice(totalPrice)
             .build();
 
-        long currentTotal = estimate.getTotalPrice() != null ? estimate.getTotalPrice() : 0L;
-        estimate.setTotalPrice(currentTotal + totalPrice);
+        UserEstimateProduct saved = userEstimateProductRepository.save(estimateProduct);
+        userEstimateRepository.addToTotalPrice(estimate.getId(), totalPrice, LocalDateTime.now());
+        estimateVersionService.record(estimate.getId(), UserEstimateVersion.Reason.ADD, List.of(saved), List.of(), List.of());
+        estimateSummaryService.refreshUserEstimate(estimate.getId());
 
-        return toEstimateProductResponse(userEstimateProductRepository.save(estimateProduct));
+        return toEstimateProductResponse(saved);
     }
 
     /** 자동으로 견적 찾아 제품 추가 */
@@ -103,9 +151,9 @@ public class UserEstimateService {
         return addProductToEstimate(estimate.getId(), req, userId);
     }
 
-    /** 견적에 포함된 제품들 조회 */
+    /** 견적에 포함된 제품들 조회 (제품까지 한 번에 조회) */
     public List<UserEstimateProductResponse> getEstimateProducts(String estimateId) {
-        return userEstimateProductRepository.findByUserEstimateId(estimateId)
+        return userEstimateProductRepository.findWithProductByUserEstimateId(estimateId)
             .stream()
             .map(this::toEstimateProductResponse)
             .collect(Collectors.toList());
@@ -123,37 +171,322 @@ public class UserEstimateService {
             throw new RuntimeException("권한이 없습니다.");
         }
 
-        // 기존 제품 가격 차감
-        long oldProductTotal = estimateProduct.getTotalPrice();
-        long currentEstimateTotal = estimate.getTotalPrice() != null ? estimate.getTotalPrice() : 0L;
+        estimateVersionService.ensureBaseline(estimate.getId());
 
         // 새로운 제품 조회
-        Product newProduct = productRepository.findById(Long.valueOf(req.getProductId()))
+        Product newProduct = productRepository.findLockedById(Long.valueOf(req.getProductId()))
             .orElseThrow(() -> new RuntimeException("부품을 찾을 수 없습니다."));
 
         long newUnitPrice = newProduct.getPrice() != null ? newProduct.getPrice() : 0L;
         long newTotalPrice = newUnitPrice * req.getQuantity();
 
-        // 제품 정보 업데이트
-        estimateProduct.setProduct(newProduct);
-        estimateProduct.setCategory(req.getCategory());
-        estimateProduct.setQuantity(req.getQuantity());
-        estimateProduct.setUnitPrice(newUnitPrice);
-        estimateProduct.setTotalPrice(newTotalPrice);
-        estimateProduct.calculateTotalPrice(); // 안전장치
+        // 제품 정보 업데이트 (읽은 총액 그대로일 때만 반영, 그 사이 다른 수정이 있으면 최신 총액으로 재시도)
+        String estimateId = estimate.getId();
+        LocalDateTime now = LocalDateTime.now();
+        long oldProductTotal = estimateProduct.getTotalPrice();
+        int attempts = 0;
+        while (userEstimateProductRepository.replaceIfTotalMatches(estimateProductId, oldProductTotal, newProduct,
+                req.getCategory(), req.getQuantity(), newUnitPrice, newTotalPrice, now) == 0) {
+            if (++attempts > MAX_CONFLICT_RETRIES) {
+                throw new RuntimeException(CONFLICT_MESSAGE);
+            }
+            oldProductTotal = userEstimateProductRepository.findTotalPriceById(estimateProductId)
+                .orElseThrow(() -> new RuntimeException("견적에 포함된 부품이 없습니다."));
+        }
+
+        // 견적서 총액은 차액만 원자적으로 반영
+        userEstimateRepository.addToTotalPrice(estimateId, newTotalPrice - oldProductTotal, now);
 
-        // 견적서 총액 재계산
-        long updatedTotal = currentEstimateTotal - oldProductTotal + newTotalPrice;
-        estimate.setTotalPrice(Math.max(updatedTotal, 0L));
+        UserEstimateProduct replaced = userEstimateProductRepository.findWithProductById(estimateProductId)
+            .orElseThrow(() -> new RuntimeException("견적에 포함된 부품이 없습니다."));
+        estimateVersionService.record(estimateId, UserEstimateVersion.Reason.REPLACE, List.of(), List.of(replaced), List.of());
+        estimateSummaryService.refreshUserEstimate(estimateId);
+        return toEstimateProductResponse(replaced);
+    }
 
-        return toEstimateProductResponse(estimateProduct);
+    /**
+     * 견적 부품 일괄 편집 (추가/교체/삭제를 요청 순서대로 한 트랜잭션에서 적용, 하나라도 실패하면 전체 취소)
+     * - 참조 제품은 findAllById 한 번, 교체/삭제 대상 부품은 한 번에 잠가서 조회
+     * - 부품 추가/수정/삭제는 JDBC 배치로 flush 하고, 견적 총액은 마지막에 차액을 한 번만 반영
+     */
+    @Transactional
+    public UserEstimateBatchResponse applyBatch(String estimateId, UserEstimateBatchRequest req, String userId) {
+        List<UserEstimateBatchRequest.Operation> operations = req.getOperations() != null ? req.getOperations() : List.of();
+        if (operations.isEmpty()) {
+            throw new RuntimeException("변경할 부품이 없습니다.");
+        }
+        if (operations.size() > MAX_BATCH_OPERATIONS) {
+            throw new RuntimeException("한 번에 최대 " + MAX_BATCH_OPERATIONS + "개까지 변경할 수 있습니다.");
+        }
+        return applyOperations(estimateId, operations, userId, UserEstimateVersion.Reason.BATCH);
     }
 
-    /** 유저의 모든 견적 조회 */
-    public List<UserEstimateResponse> getUserEstimates(String userId) {
-        return userEstimateRepository.findByUserId(userId)
+    /**
+     * 견적을 특정 버전의 부품 구성으로 되돌리기
+     * - 버전과 현재 구성을 비교해 추가/교체/삭제 작업으로 바꾼 뒤 일괄 편집과 같은 경로로 적용 (새 버전으로 기록)
+     * - 단가는 되돌리지 않고 현재 제품 가격으로 담는다.
+     */
+    @Transactional
+    public UserEstimateBatchResponse restoreVersion(String estimateId, int versionNo, String userId) {
+        Map<String, UserEstimateVersionLine> target = estimateVersionService.materialize(estimateId, versionNo, userId);
+
+        List<UserEstimateBatchRequest.Operation> operations = new ArrayList<>();
+        for (UserEstimateProduct line : userEstimateProductRepository.findByUserEstimateId(estimateId)) {
+            UserEstimateVersionLine wanted = target.remove(line.getId());
+            if (wanted == null) {
+                operations.add(operation(UserEstimateBatchRequest.OperationType.REMOVE, line.getId(), null));
+            } else if (!wanted.getProductId().equals(line.getProduct().getId())
+                    || !wanted.getQuantity().equals(line.getQuantity())
+                    || !Objects.equals(wanted.getCategory(), line.getCategory())) {
+                operations.add(operation(UserEstimateBatchRequest.OperationType.REPLACE, line.getId(), wanted));
+            }
+        }
+        // 그 뒤 삭제된 부품은 새로 담음
+        for (UserEstimateVersionLine wanted : target.values()) {
+            operations.add(operation(UserEstimateBatchRequest.OperationType.ADD, null, wanted));
+        }
+
+        if (operations.isEmpty()) {
+            throw new RuntimeException("이미 해당 버전과 같은 구성입니다.");
+        }
+        return applyOperations(estimateId, operations, userId, UserEstimateVersion.Reason.RESTORE);
+    }
+
+    private UserEstimateBatchRequest.Operation operation(UserEstimateBatchRequest.OperationType type, String estimateProductId,
+                                                         UserEstimateVersionLine line) {
+        UserEstimateBatchRequest.Operation op = new UserEstimateBatchRequest.Operation();
+        op.setType(type);
+        op.setEstimateProductId(estimateProductId);
+        if (line != null) {
+            op.setProductId(line.getProductId());
+            op.setCategory(line.getCategory());
+            op.setQuantity(line.getQuantity());
+        }
+        return op;
+    }
+
+    private UserEstimateBatchResponse applyOperations(String estimateId, List<UserEstimateBatchRequest.Operation> operations,
+                                                      String userId, UserEstimateVersion.Reason reason) {
+        UserEstimate estimate = userEstimateRepository.findById(estimateId)
+            .orElseThrow(() -> new RuntimeException("Estimate not found"));
+
+        if (!estimate.getUser().getId().equals(userId)) {
+            throw new RuntimeException("권한이 없습니다.");
+        }
+
+        estimateVersionService.ensureBaseline(estimateId);
+
+        Set<Long> productIds = new HashSet<>();
+        Set<String> estimateProductIds = new HashSet<>();
+        for (UserEstimateBatchRequest.Operation op : operations) {
+            if (op.getType() == null) {
+                throw new RuntimeException("작업 종류(type)가 없습니다.");
+            }
+            if (op.getType() != UserEstimateBatchRequest.OperationType.REMOVE) {
+                if (op.getProductId() == null || op.getQuantity() == null || op.getQuantity() < 1) {
+                    throw new RuntimeException("부품 ID와 1 이상의 수량이 필요합니다.");
+                }
+                productIds.add(op.getProductId());
+            }
+            if (op.getType() != UserEstimateBatchRequest.OperationType.ADD) {
+                if (op.getEstimateProductId() == null) {
+                    throw new RuntimeException("견적 부품 ID(estimateProductId)가 필요합니다.");
+                }
+                estimateProductIds.add(op.getEstimateProductId());
+            }
+        }
+
+        Map<Long, Product> products = productIds.isEmpty()
+            ? new HashMap<>()
+            : productRepository.findLockedByIdInOrderById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<String, UserEstimateProduct> lines = estimateProductIds.isEmpty()
+            ? new HashMap<>()
+            : userEstimateProductRepository.findAllForUpdate(estimateId, estimateProductIds).stream()
+                .collect(Collectors.toMap(UserEstimateProduct::getId, Function.identity(), (a, b) -> a, HashMap::new));
+
+        long delta = 0L;
+        List<UserEstimateProduct> added = new ArrayList<>();
+        Map<String, UserEstimateProduct> replaced = new LinkedHashMap<>();
+        List<UserEstimateProduct> removed = new ArrayList<>();
+        for (UserEstimateBatchRequest.Operation op : operations) {
+            switch (op.getType()) {
+                case ADD -> {
+                    Product product = requireProduct(products, op.getProductId());
+                    long unitPrice = product.getPrice() != null ? product.getPrice() : 0L;
+                    UserEstimateProduct line = UserEstimateProduct.builder()
+                        .userEstimate(estimate)
+                        .product(product)
+                        .category(op.getCategory() != null ? op.getCategory() : product.getCategory())
+                        .quantity(op.getQuantity())
+                        .unitPrice(unitPrice)
+                        .savedUnitPrice(unitPrice)
+                        .totalPrice(unitPrice * op.getQuantity())
+                        .build();
+                    added.add(line);
+                    delta += line.getTotalPrice();
+                }
+                case REPLACE -> {
+                    UserEstimateProduct line = requireLine(lines, op.getEstimateProductId());
+                    Product product = requireProduct(products, op.getProductId());
+                    long unitPrice = product.getPrice() != null ? product.getPrice() : 0L;
+                    delta -= line.getTotalPrice();
+                    line.setProduct(product);
+                    line.setCategory(op.getCategory() != null ? op.getCategory() : product.getCategory());
+                    line.setQuantity(op.getQuantity());
+                    line.setUnitPrice(unitPrice);
+                    line.setSavedUnitPrice(unitPrice);
+                    line.setTotalPrice(unitPrice * op.getQuantity());
+                    delta += line.getTotalPrice();
+                    replaced.put(line.getId(), line);
+                }
+                case REMOVE -> {
+                    UserEstimateProduct line = requireLine(lines, op.getEstimateProductId());
+                    lines.remove(line.getId());
+                    replaced.remove(line.getId());
+                    removed.add(line);
+                    delta -= line.getTotalPrice();
+                }
+            }
+        }
+
+        userEstimateProductRepository.saveAll(added);
+        userEstimateProductRepository.deleteAll(removed);
+        userEstimateProductRepository.flush();
+
+        // 견적 행은 마지막에 한 번만 갱신 (행 잠금을 커밋 직전까지만 보유)
+        LocalDateTime now = LocalDateTime.now();
+        userEstimateRepository.addToTotalPrice(estimateId, delta, now);
+        estimateVersionService.record(estimateId, reason, added, new ArrayList<>(replaced.values()),
+            removed.stream().map(UserEstimateProduct::getId).collect(Collectors.toList()));
+        estimateSummaryService.refreshUserEstimate(estimateId);
+
+        List<UserEstimateProduct> current = userEstimateProductRepository.findWithProductByUserEstimateId(estimateId);
+        UserEstimateResponse estimateResponse = toEstimateResponse(estimate);
+        estimateResponse.setTotalPrice(userEstimateRepository.findTotalPriceById(estimateId).orElse(0L));
+        estimateResponse.setPriceChangedSinceSaved(current.stream().mapToLong(UserEstimateProduct::getPriceDelta).sum());
+        estimateResponse.setUpdatedAt(now);
+
+        return UserEstimateBatchResponse.builder()
+            .estimate(estimateResponse)
+            .products(current.stream()
+                .map(this::toEstimateProductResponse)
+                .collect(Collectors.toList()))
+            .compatibility(compatibilityService.checkUserEstimateLines(current))
+            .build();
+    }
+
+    private Product requireProduct(Map<Long, Product> products, Long productId) {
+        Product product = products.get(productId);
+        if (product == null) {
+            throw new RuntimeException("부품을 찾을 수 없습니다. (productId=" + productId + ")");
+        }
+        return product;
+    }
+
+    private UserEstimateProduct requireLine(Map<String, UserEstimateProduct> lines, String estimateProductId) {
+        UserEstimateProduct line = lines.get(estimateProductId);
+        if (line == null) {
+            throw new RuntimeException("견적에 포함된 부품이 없습니다. (estimateProductId=" + estimateProductId + ")");
+        }
+        return line;
+    }
+
+    /**
+     * AI 견적을 내 견적으로 가져오기
+     * - AI 부품명을 제품과 한 번에 매칭 (같은 제품이 여러 번 나오면 수량으로 합침, 매칭 안 된 부품명은 응답에 따로 반환)
+     * - 견적 1행 + 부품 행을 한 트랜잭션에서 JDBC 배치로 저장, 총액은 부품 합계로 처음부터 채워서 저장
+     */
+    @Transactional
+    public UserEstimateAdoptResponse adoptAiEstimate(Long aiEstimateId, UserEstimateAdoptRequest req, String userId) {
+        AiEstimate aiEstimate = aiEstimateRepository.findWithComponentsById(aiEstimateId)
+            .orElseThrow(() -> new RuntimeException("AI Estimate not found"));
+
+        if (!aiEstimate.getUser().getId().equals(userId)) {
+            throw new RuntimeException("권한이 없습니다.");
+        }
+
+        List<AiComponentSetItem> items = aiEstimate.getComponentSet() != null
+            ? aiEstimate.getComponentSet().getItems()
+            : aiComponentSetService.toItems(aiEstimate.getProducts());
+
+        Set<String> names = items.stream()
+            .map(AiComponentSetItem::getName)
+            .filter(name -> name != null && !name.isBlank())
+            .collect(Collectors.toSet());
+        Map<String, Product> productsByName = new HashMap<>();
+        if (!names.isEmpty()) {
+            productRepository.findLockedByNameInOrderById(names).forEach(p -> productsByName.putIfAbsent(p.getName(), p));
+        }
+
+        // 제품별 수량 (AI 견적 순서 유지)
+        Map<Long, UserEstimateProduct> lines = new LinkedHashMap<>();
+        List<String> unmatched = new ArrayList<>();
+        for (AiComponentSetItem item : items) {
+            Product product = item.getName() != null ? productsByName.get(item.getName()) : null;
+            if (product == null) {
+                if (item.getName() != null) {
+                    unmatched.add(item.getName());
+                }
+                continue;
+            }
+            long unitPrice = product.getPrice() != null ? product.getPrice() : 0L;
+            UserEstimateProduct line = lines.get(product.getId());
+            if (line != null) {
+                line.setQuantity(line.getQuantity() + 1);
+                line.setTotalPrice(line.getTotalPrice() + unitPrice);
+                continue;
+            }
+            lines.put(product.getId(), UserEstimateProduct.builder()
+                .product(product)
+                .category(product.getCategory() != null ? product.getCategory() : item.getCategory())
+                .quantity(1)
+                .unitPrice(unitPrice)
+                .savedUnitPrice(unitPrice)
+                .totalPrice(unitPrice)
+                .build());
+        }
+        if (lines.isEmpty()) {
+            throw new RuntimeException("견적에 담을 수 있는 부품이 없습니다.");
+        }
+
+        String title = req != null && req.getTitle() != null && !req.getTitle().isBlank() ? req.getTitle() : "AI 추천 견적";
+        String description = req != null && req.getDescription() != null ? req.getDescription() : aiEstimate.getIntro();
+        UserEstimate estimate = userEstimateRepository.save(UserEstimate.builder()
+            .user(aiEstimate.getUser())
+            .title(title)
+            .description(description)
+            .totalPrice(lines.values().stream().mapToLong(UserEstimateProduct::getTotalPrice).sum())
+            .build());
+
+        List<UserEstimateProduct> saved = new ArrayList<>(lines.values());
+        saved.forEach(line -> line.setUserEstimate(estimate));
+        userEstimateProductRepository.saveAll(saved);
+        userEstimateProductRepository.flush();
+        estimateVersionService.record(estimate.getId(), UserEstimateVersion.Reason.ADOPT, saved, List.of(), List.of());
+        estimateSummaryService.refreshUserEstimate(estimate.getId());
+
+        UserEstimateResponse estimateResponse = toEstimateResponse(estimate);
+        estimateResponse.setPriceChangedSinceSaved(0L);
+
+        return UserEstimateAdoptResponse.builder()
+            .estimate(estimateResponse)
+            .products(saved.stream()
+                .map(this::toEstimateProductResponse)
+                .collect(Collectors.toList()))
+            .unmatched(unmatched)
+            .compatibility(compatibilityService.checkUserEstimateLines(saved))
+            .build();
+    }
+
+    /**
+     * 유저의 모든 견적 조회 (최신순)
+     * - estimate_summaries 한 번만 읽음 (부품 수/대표 CPU·GPU/썸네일/담은 뒤 가격 변동은 견적을 바꿀 때 미리 계산)
+     */
+    public List<UserEstimateSummaryResponse> getUserEstimates(String userId) {
+        return estimateSummaryRepository.findByUserIdAndKindOrderByCreatedAtDescIdDesc(userId, EstimateSummary.Kind.USER)
             .stream()
-            .map(this::toEstimateResponse)
+            .map(this::toSummaryResponse)
             .collect(Collectors.toList());
     }
 
@@ -169,12 +502,25 @@ public class UserEstimateService {
             throw new RuntimeException("권한이 없습니다.");
         }
 
-        // 가격 차감
-        long currentTotal = estimate.getTotalPrice() != null ? estimate.getTotalPrice() : 0L;
+        estimateVersionService.ensureBaseline(estimate.getId());
+
+        // 삭제한 시점의 부품 총액만큼 차감 (동시 교체로 총액이 바뀌었으면 최신 값으로 재시도, 이미 삭제됐으면 차감 없음)
         long productTotal = estimateProduct.getTotalPrice();
-        estimate.setTotalPrice(Math.max(currentTotal - productTotal, 0L));
+        int attempts = 0;
+        while (userEstimateProductRepository.deleteIfTotalMatches(estimateProductId, productTotal) == 0) {
+            if (++attempts > MAX_CONFLICT_RETRIES) {
+                throw new RuntimeException(CONFLICT_MESSAGE);
+            }
+            Optional<Long> current = userEstimateProductRepository.findTotalPriceById(estimateProductId);
+            if (current.isEmpty()) {
+                return;
+            }
+            productTotal = current.get();
+        }
 
-        userEstimateProductRepository.delete(estimateProduct);
+        userEstimateRepository.addToTotalPrice(estimate.getId(), -productTotal, LocalDateTime.now());
+        estimateVersionService.record(estimate.getId(), UserEstimateVersion.Reason.REMOVE, List.of(), List.of(), List.of(estimateProductId));
+        estimateSummaryService.refreshUserEstimate(estimate.getId());
     }
 
     /** 견적 삭제 */
@@ -188,9 +534,27 @@ public class UserEstimateService {
         }
 
         userEstimateRepository.delete(estimate);
+        estimateSummaryService.deleteUserEstimate(estimateId);
     }
 
     /** 변환 메서드 */
+    private UserEstimateSummaryResponse toSummaryResponse(EstimateSummary summary) {
+        return UserEstimateSummaryResponse.builder()
+            .id(summary.getEstimateId())
+            .userId(summary.getUserId())
+            .title(summary.getTitle())
+            .description(summary.getDescription())
+            .totalPrice(summary.getTotalPrice())
+            .priceChangedSinceSaved(summary.getPriceChangedSinceSaved())
+            .partCount(summary.getPartCount())
+            .cpuName(summary.getCpuName())
+            .gpuName(summary.getGpuName())
+            .thumbnail(summary.getThumbnail())
+            .createdAt(summary.getCreatedAt())
+            .updatedAt(summary.getUpdatedAt())
+            .build();
+    }
+
     private UserEstimateResponse toEstimateResponse(UserEstimate entity) {
         return UserEstimateResponse.builder()
             .id(entity.getId())
@@ -214,6 +578,8 @@ public class UserEstimateService {
             .quantity(entity.getQuantity())
             .unitPrice(entity.getUnitPrice()) // Long
             .totalPrice(entity.getTotalPrice()) // Long
+            .savedUnitPrice(entity.getSavedUnitPrice() != null ? entity.getSavedUnitPrice() : entity.getUnitPrice())
+            .priceDelta(entity.getPriceDelta())
             .createdAt(entity.getCreatedAt())
             .updatedAt(entity.getUpdatedAt())
             .build();
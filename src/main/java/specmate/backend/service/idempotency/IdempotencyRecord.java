@@ -0,0 +1,41 @@
+package specmate.backend.service.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Idempotency-Key 로 저장되는 요청 처리 결과 (Redis 에 JSON 으로 저장)
+ * - IN_PROGRESS: 첫 요청이 처리 중
+ * - COMPLETED: 처리 완료, 응답(status/contentType/body)을 재전송용으로 보관
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    public enum State {
+        IN_PROGRESS, COMPLETED
+    }
+
+    private State state;
+
+    /** 메서드 + 경로 + 요청 본문 해시. 같은 키로 다른 요청이 오면 거부 */
+    private String fingerprint;
+
+    private int status;
+    private String contentType;
+    private byte[] body;
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(State.IN_PROGRESS, fingerprint, 0, null, null);
+    }
+
+    public static IdempotencyRecord completed(String fingerprint, int status, String contentType, byte[] body) {
+        return new IdempotencyRecord(State.COMPLETED, fingerprint, status, contentType, body);
+    }
+
+    public boolean isCompleted() {
+        return state == State.COMPLETED;
+    }
+}
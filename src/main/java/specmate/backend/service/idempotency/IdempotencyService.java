@@ -0,0 +1,78 @@
+package specmate.backend.service.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 처리 결과 저장소 (Redis)
+ * - 키: idempotency:{userId}:{Idempotency-Key}
+ * - 첫 요청이 IN_PROGRESS 로 선점(SET NX), 완료 시 응답을 COMPLETED 로 덮어써 보관 기간 동안 재전송
+ * - 처리 중 서버가 죽어도 선점 키는 in-flight TTL 후 만료되어 재시도가 다시 실행됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${idempotency.in-flight-ttl-seconds}")
+    private long inFlightTtlSeconds;
+
+    @Value("${idempotency.ttl-hours}")
+    private long ttlHours;
+
+    /** 처리 권한 선점. 이미 다른 요청이 선점/완료했다면 false */
+    public boolean tryAcquire(String userId, String idempotencyKey, String fingerprint) {
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(
+            key(userId, idempotencyKey),
+            write(IdempotencyRecord.inProgress(fingerprint)),
+            Duration.ofSeconds(inFlightTtlSeconds));
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    /** 저장된 처리 상태 조회. 없으면(만료/실패로 해제) null */
+    public IdempotencyRecord find(String userId, String idempotencyKey) {
+        String json = stringRedisTemplate.opsForValue().get(key(userId, idempotencyKey));
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, IdempotencyRecord.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Broken idempotency record: {}", idempotencyKey, e);
+            return null;
+        }
+    }
+
+    public void complete(String userId, String idempotencyKey, IdempotencyRecord record) {
+        stringRedisTemplate.opsForValue().set(key(userId, idempotencyKey), write(record), Duration.ofHours(ttlHours));
+    }
+
+    /** 처리 실패 시 선점 해제 (재시도가 다시 실행되도록) */
+    public void release(String userId, String idempotencyKey) {
+        stringRedisTemplate.delete(key(userId, idempotencyKey));
+    }
+
+    private String write(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String key(String userId, String idempotencyKey) {
+        return KEY_PREFIX + userId + ":" + idempotencyKey;
+    }
+}
@@ -0,0 +1,5 @@
+package specmate.backend.service.product;
+
+/** 제품 가격 변경 (트랜잭션 커밋 후 견적 재계산에 사용) */
+public record ProductPriceChangedEvent(Long productId, Long oldPrice, Long newPrice) {
+}
@@ -1,6 +1,7 @@
 package specmate.backend.service.product;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +17,7 @@ import specmate.backend.repository.product.ProductRepository;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -26,6 +28,7 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     private ProductResponse toResponse(Product product) {
         return ProductResponse.builder()
@@ -131,6 +134,7 @@ public class ProductService {
     public ProductResponse updateProduct(Long id, ProductRequest req) {
         Product product = productRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Product not found"));
+        Long oldPrice = product.getPrice();
 
         product.setPopRank(req.getPopRank());
         product.setCategory(req.getCategory());
@@ -144,6 +148,11 @@ public class ProductService {
         product.setDescription(req.getDescription());
         product.setUpdatedAt(OffsetDateTime.now());
 
+        // 가격이 바뀌면 커밋 후 이 제품이 담긴 견적 재계산 (EstimateRepricingService)
+        if (!Objects.equals(oldPrice, req.getPrice())) {
+            eventPublisher.publishEvent(new ProductPriceChangedEvent(id, oldPrice, req.getPrice()));
+        }
+
         return toResponse(productRepository.save(product));
     }
 
@@ -6,6 +6,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import specmate.backend.dto.user.UserUpdateRequest;
 import specmate.backend.entity.User;
+import specmate.backend.repository.estimate.summary.EstimateSummaryRepository;
 import specmate.backend.repository.user.UserRepository;
 
 import java.util.List;
@@ -14,6 +15,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final EstimateSummaryRepository estimateSummaryRepository;
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
     // 모든 유저 정보 조회 (ADMIN 전용)
@@ -51,5 +53,6 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 유저를 찾을 수 없습니다."));
         userRepository.delete(user);
+        estimateSummaryRepository.deleteByUserId(userId); // 견적 목록 요약은 FK 없이 user_id 만 보관
     }
 }
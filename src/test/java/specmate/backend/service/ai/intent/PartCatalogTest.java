@@ -0,0 +1,45 @@
+package specmate.backend.service.ai.intent;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 부품 종류 감지는 단어 단위로만 일치해야 한다 (부분 문자열 일치로 엉뚱한 부품 설명을 답하지 않도록)
+ */
+class PartCatalogTest {
+
+    @Test
+    void detectsPartWithKoreanParticles() {
+        assertEquals("ram", PartCatalog.detectTopic("램이 뭐야?"));
+        assertEquals("mainboard", PartCatalog.detectTopic("메인보드는 뭐야"));
+        assertEquals("gpu", PartCatalog.detectTopic("그래픽 카드가 뭐야"));
+        assertEquals("case", PartCatalog.detectTopic("케이스랑 뭐가 달라?"));
+    }
+
+    @Test
+    void detectsEnglishKeywordsAsWholeWords() {
+        assertEquals("cpu", PartCatalog.detectTopic("cpu가 뭐야"));
+        assertEquals("ram", PartCatalog.detectTopic("what is ram?"));
+        assertEquals("power", PartCatalog.detectTopic("power supply 역할이 뭐야"));
+    }
+
+    @Test
+    void ignoresKeywordsInsideOtherWords() {
+        assertNull(PartCatalog.detectTopic("키보드가 뭐야"));
+        assertNull(PartCatalog.detectTopic("프로그램이 뭐야"));
+        assertNull(PartCatalog.detectTopic("what is a program?"));
+        assertNull(PartCatalog.detectTopic("what is a showcase?"));
+        assertNull(PartCatalog.detectTopic("powerpoint 가 뭐야"));
+        assertNull(PartCatalog.detectTopic("램프가 뭐야"));
+    }
+
+    @Test
+    void keywordClassifierPassesNonPartQuestionsToAi() {
+        KeywordIntentClassifier classifier = new KeywordIntentClassifier();
+        assertEquals(LocalIntent.CONSULT, classifier.classify("키보드가 뭐야").intent());
+        assertEquals(LocalIntent.CONSULT, classifier.classify("프로그램이 뭐야").intent());
+        assertEquals(LocalIntent.PART_INFO, classifier.classify("램이 뭐야").intent());
+    }
+}
@@ -0,0 +1,106 @@
+package specmate.backend.service.chat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import specmate.backend.dto.chat.ChatSearchResponse;
+import specmate.backend.dto.estimate.ai.AiEstimateProductRequest;
+import specmate.backend.entity.AiEstimate;
+import specmate.backend.entity.ChatRoom;
+import specmate.backend.entity.EstimateSummary;
+import specmate.backend.entity.User;
+import specmate.backend.entity.enums.Role;
+import specmate.backend.repository.chat.ChatRoomRepository;
+import specmate.backend.repository.estimate.ai.AiEstimateProductRepository;
+import specmate.backend.repository.estimate.ai.AiEstimateRepository;
+import specmate.backend.repository.estimate.summary.EstimateSummaryRepository;
+import specmate.backend.repository.user.UserRepository;
+import specmate.backend.service.estimate.ai.AiEstimateService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AI 견적 부품 검색 회귀 테스트
+ * - 부품은 부품 구성(ai_component_set_items)에만 저장되므로 구성으로 옮긴 견적의 부품이 검색돼야 함
+ * - 실제 Postgres 가 필요하므로 SPRING_DATASOURCE_URL 이 있을 때만 실행
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+class ChatSearchServiceTest {
+
+    @Autowired private ChatSearchService chatSearchService;
+    @Autowired private AiEstimateService aiEstimateService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ChatRoomRepository chatRoomRepository;
+    @Autowired private AiEstimateRepository aiEstimateRepository;
+    @Autowired private AiEstimateProductRepository aiEstimateProductRepository;
+    @Autowired private EstimateSummaryRepository estimateSummaryRepository;
+
+    private User user;
+    private ChatRoom chatRoom;
+    private Long aiEstimateId;
+    private String partName;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+            .email("chat-search-" + UUID.randomUUID() + "@test.local")
+            .nickname("chat-search")
+            .password("chat-search")
+            .role(Role.USER)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build());
+        chatRoom = chatRoomRepository.save(ChatRoom.builder()
+            .user(user)
+            .title("chat-search")
+            .build());
+        aiEstimateId = aiEstimateRepository.save(AiEstimate.builder()
+            .user(user)
+            .chatRoom(chatRoom)
+            .intent("build")
+            .totalPrice(0L)
+            .createdAt(LocalDateTime.now())
+            .build()).getId();
+
+        partName = "검색테스트 그래픽카드 " + UUID.randomUUID();
+        AiEstimateProductRequest item = new AiEstimateProductRequest();
+        item.setCategory("gpu");
+        item.setName(partName);
+        item.setPrice(500_000L);
+        aiEstimateService.addProductToEstimate(aiEstimateId, item, user.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiEstimateRepository.deleteById(aiEstimateId);
+        estimateSummaryRepository.deleteAll(estimateSummaryRepository.findByUserIdAndKindOrderByCreatedAtDescIdDesc(user.getId(), EstimateSummary.Kind.AI));
+        chatRoomRepository.delete(chatRoom);
+        userRepository.delete(user);
+    }
+
+    @Test
+    void findsPartOfInternedEstimate() {
+        // 레거시 부품 행 없이 구성에만 저장된 상태
+        assertTrue(aiEstimateProductRepository.findByAiEstimateId(aiEstimateId).isEmpty());
+
+        String keyword = partName.substring(partName.lastIndexOf(' ') + 1, partName.lastIndexOf(' ') + 9);
+        List<ChatSearchResponse.EstimateProductHit> hits =
+            chatSearchService.search(user.getId(), "그래픽카드 " + keyword, 10).getEstimateProducts();
+
+        assertEquals(1, hits.size());
+        ChatSearchResponse.EstimateProductHit hit = hits.get(0);
+        assertEquals(aiEstimateId, hit.getAiEstimateId());
+        assertEquals(chatRoom.getId(), hit.getChatRoomId());
+        assertEquals(partName, hit.getName());
+        assertEquals(500_000L, hit.getPrice());
+    }
+}
@@ -0,0 +1,171 @@
+package specmate.backend.service.estimate;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import specmate.backend.dto.estimate.ai.AiEstimateProductRequest;
+import specmate.backend.dto.estimate.user.UserEstimateProductRequest;
+import specmate.backend.entity.AiEstimate;
+import specmate.backend.entity.ChatRoom;
+import specmate.backend.entity.EstimateSummary;
+import specmate.backend.entity.Product;
+import specmate.backend.entity.User;
+import specmate.backend.entity.UserEstimate;
+import specmate.backend.entity.enums.Role;
+import specmate.backend.repository.chat.ChatRoomRepository;
+import specmate.backend.repository.estimate.ai.AiEstimateRepository;
+import specmate.backend.repository.estimate.summary.EstimateSummaryRepository;
+import specmate.backend.repository.estimate.user.UserEstimateProductRepository;
+import specmate.backend.repository.estimate.user.UserEstimateRepository;
+import specmate.backend.repository.product.ProductRepository;
+import specmate.backend.repository.user.UserRepository;
+import specmate.backend.service.estimate.ai.AiEstimateService;
+import specmate.backend.service.estimate.compat.CompatibilityService;
+import specmate.backend.service.estimate.user.UserEstimateService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 견적 조회 경로 쿼리 수 회귀 테스트 (Hibernate 통계)
+ * - 부품 수(LINES)와 관계없이 조회마다 고정된 수의 SQL 만 실행돼야 함 → 지연 로딩 N+1 이 다시 생기면 실패
+ * - 실제 Postgres 가 필요하므로 SPRING_DATASOURCE_URL 이 있을 때만 실행
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+class EstimateQueryCountTest {
+
+    private static final int LINES = 8;
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private UserEstimateService userEstimateService;
+    @Autowired private AiEstimateService aiEstimateService;
+    @Autowired private CompatibilityService compatibilityService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ChatRoomRepository chatRoomRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private UserEstimateRepository userEstimateRepository;
+    @Autowired private UserEstimateProductRepository userEstimateProductRepository;
+    @Autowired private AiEstimateRepository aiEstimateRepository;
+    @Autowired private EstimateSummaryRepository estimateSummaryRepository;
+
+    private User user;
+    private ChatRoom chatRoom;
+    private String userEstimateId;
+    private Long aiEstimateId;
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+            .email("query-count-" + UUID.randomUUID() + "@test.local")
+            .nickname("query-count")
+            .password("query-count")
+            .role(Role.USER)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build());
+        chatRoom = chatRoomRepository.save(ChatRoom.builder()
+            .user(user)
+            .title("query-count")
+            .build());
+
+        for (int i = 0; i < LINES; i++) {
+            products.add(productRepository.save(Product.builder()
+                .category("cpu")
+                .name("query-count-product-" + UUID.randomUUID())
+                .manufacturer("query-count")
+                .price(10_000L * (i + 1))
+                .build()));
+        }
+
+        userEstimateId = userEstimateRepository.save(UserEstimate.builder()
+            .user(user)
+            .title("query-count")
+            .totalPrice(0L)
+            .build()).getId();
+        aiEstimateId = aiEstimateRepository.save(AiEstimate.builder()
+            .user(user)
+            .chatRoom(chatRoom)
+            .intent("build")
+            .totalPrice(0L)
+            .createdAt(LocalDateTime.now())
+            .build()).getId();
+
+        for (Product product : products) {
+            UserEstimateProductRequest line = new UserEstimateProductRequest();
+            line.setProductId(product.getId());
+            line.setCategory(product.getCategory());
+            line.setQuantity(1);
+            userEstimateService.addProductToEstimate(userEstimateId, line, user.getId());
+
+            AiEstimateProductRequest item = new AiEstimateProductRequest();
+            item.setCategory(product.getCategory());
+            item.setName(product.getName());
+            item.setPrice(product.getPrice());
+            aiEstimateService.addProductToEstimate(aiEstimateId, item, user.getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        userEstimateProductRepository.deleteAll(userEstimateProductRepository.findByUserEstimateId(userEstimateId));
+        userEstimateRepository.deleteById(userEstimateId);
+        aiEstimateRepository.deleteById(aiEstimateId);
+        estimateSummaryRepository.deleteAll(estimateSummaryRepository.findByUserIdAndKindOrderByCreatedAtDescIdDesc(user.getId(), EstimateSummary.Kind.USER));
+        estimateSummaryRepository.deleteAll(estimateSummaryRepository.findByUserIdAndKindOrderByCreatedAtDescIdDesc(user.getId(), EstimateSummary.Kind.AI));
+        productRepository.deleteAll(products);
+        chatRoomRepository.delete(chatRoom);
+        userRepository.delete(user);
+    }
+
+    @Test
+    void userEstimateProducts() {
+        assertQueries(1, () -> assertEquals(LINES, userEstimateService.getEstimateProducts(userEstimateId).size()));
+    }
+
+    @Test
+    void userEstimateList() {
+        // 견적 목록 요약 한 번 (부품 수/가격 변동은 미리 계산)
+        assertQueries(1, () -> assertEquals(LINES, userEstimateService.getUserEstimates(user.getId()).get(0).getPartCount()));
+    }
+
+    @Test
+    void userEstimateCompatibility() {
+        // 견적(소유자 확인) + 부품/제품
+        assertQueries(2, () -> compatibilityService.checkUserEstimate(userEstimateId, user.getId()));
+    }
+
+    @Test
+    void aiEstimateDetail() {
+        // 견적/부품 + 부품명으로 제품 스펙 조회
+        assertQueries(2, () -> assertEquals(LINES, aiEstimateService.getEstimate(aiEstimateId, user.getId()).getProducts().size()));
+    }
+
+    @Test
+    void aiEstimateProducts() {
+        assertQueries(1, () -> assertEquals(LINES, aiEstimateService.getEstimateProducts(aiEstimateId).size()));
+    }
+
+    @Test
+    void aiEstimateList() {
+        assertQueries(1, () -> assertEquals(LINES, aiEstimateService.getUserEstimates(user.getId(), null, 20).getEstimates().get(0).getPartCount()));
+    }
+
+    private void assertQueries(long expected, Runnable call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        call.run();
+        assertEquals(expected, statistics.getPrepareStatementCount(), "unexpected number of SQL statements");
+    }
+}
@@ -0,0 +1,247 @@
+package specmate.backend.service.estimate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import specmate.backend.dto.estimate.ai.AiEstimateProductRequest;
+import specmate.backend.dto.estimate.ai.AiEstimateProductResponse;
+import specmate.backend.dto.estimate.user.UserEstimateProductRequest;
+import specmate.backend.dto.estimate.user.UserEstimateProductResponse;
+import specmate.backend.entity.AiComponentSetItem;
+import specmate.backend.entity.AiEstimate;
+import specmate.backend.entity.EstimateSummary;
+import specmate.backend.entity.Product;
+import specmate.backend.entity.User;
+import specmate.backend.entity.UserEstimate;
+import specmate.backend.entity.UserEstimateProduct;
+import specmate.backend.entity.enums.Role;
+import specmate.backend.repository.estimate.ai.AiComponentSetItemRepository;
+import specmate.backend.repository.estimate.ai.AiEstimateRepository;
+import specmate.backend.repository.estimate.summary.EstimateSummaryRepository;
+import specmate.backend.repository.estimate.user.UserEstimateProductRepository;
+import specmate.backend.repository.estimate.user.UserEstimateRepository;
+import specmate.backend.repository.product.ProductRepository;
+import specmate.backend.repository.user.UserRepository;
+import specmate.backend.service.estimate.ai.AiEstimateService;
+import specmate.backend.service.estimate.user.UserEstimateService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 견적 총액 동시성 스트레스 테스트
+ * - 같은 견적에 여러 스레드가 동시에 부품 추가/교체/삭제 → 총액이 부품 합계와 정확히 일치해야 함
+ * - 총액은 견적 행의 원자적 UPDATE 로만 증감하므로 같은 견적의 편집은 그 UPDATE 부터 커밋까지는 순서대로 진행된다.
+ *   (쓰기가 얼마나 겹쳐 실행되는지는 검사하지 않고, 총액이 정확한지만 검사)
+ * - 실제 Postgres 가 필요하므로 SPRING_DATASOURCE_URL 이 있을 때만 실행
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+class EstimateTotalConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int OPS_PER_THREAD = 40;
+    private static final String CONFLICT_MESSAGE = "다른 수정과 충돌했습니다. 잠시 후 다시 시도해주세요.";
+
+    @Autowired private UserEstimateService userEstimateService;
+    @Autowired private AiEstimateService aiEstimateService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private UserEstimateRepository userEstimateRepository;
+    @Autowired private UserEstimateProductRepository userEstimateProductRepository;
+    @Autowired private AiEstimateRepository aiEstimateRepository;
+    @Autowired private AiComponentSetItemRepository aiComponentSetItemRepository;
+    @Autowired private EstimateSummaryRepository estimateSummaryRepository;
+
+    private User user;
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+            .email("stress-" + UUID.randomUUID() + "@test.local")
+            .nickname("stress")
+            .password("stress")
+            .role(Role.USER)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build());
+
+        long[] prices = {1_000L, 2_500L, 7_000L, 123_456L};
+        for (long price : prices) {
+            products.add(productRepository.save(Product.builder()
+                .category("cpu")
+                .name("stress-product-" + UUID.randomUUID())
+                .manufacturer("stress")
+                .price(price)
+                .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        userEstimateRepository.findByUserId(user.getId()).forEach(e -> {
+            userEstimateProductRepository.deleteAll(userEstimateProductRepository.findByUserEstimateId(e.getId()));
+            userEstimateRepository.delete(e);
+        });
+        aiEstimateRepository.findIdsByUserId(user.getId()).forEach(aiEstimateRepository::deleteById);
+        estimateSummaryRepository.deleteAll(estimateSummaryRepository.findByUserIdAndKindOrderByCreatedAtDescIdDesc(user.getId(), EstimateSummary.Kind.USER));
+        estimateSummaryRepository.deleteAll(estimateSummaryRepository.findByUserIdAndKindOrderByCreatedAtDescIdDesc(user.getId(), EstimateSummary.Kind.AI));
+        productRepository.deleteAll(products);
+        userRepository.delete(user);
+    }
+
+    @Test
+    void userEstimateTotalStaysExactUnderParallelEdits() throws Exception {
+        String estimateId = userEstimateRepository.save(UserEstimate.builder()
+            .user(user)
+            .title("stress")
+            .totalPrice(0L)
+            .build()).getId();
+
+        List<String> lineIds = new CopyOnWriteArrayList<>();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        // 1단계: 동시 추가만 → 추가한 금액 합계와 정확히 같아야 함
+        runConcurrently(() -> {
+            UserEstimateProductResponse res = userEstimateService.addProductToEstimate(estimateId, randomUserLine(), user.getId());
+            lineIds.add(res.getId());
+        });
+        assertEquals(lineSum(estimateId), totalOf(estimateId));
+        assertEquals((long) THREADS * OPS_PER_THREAD, lineIds.size());
+
+        // 2단계: 추가/교체/삭제를 섞어서, 같은 부품을 여러 스레드가 동시에 건드리도록 좁은 범위에서 고름
+        runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String target = lineIds.get(random.nextInt(Math.min(lineIds.size(), 32)));
+            try {
+                switch (random.nextInt(3)) {
+                    case 0 -> lineIds.add(userEstimateService.addProductToEstimate(estimateId, randomUserLine(), user.getId()).getId());
+                    case 1 -> userEstimateService.replaceProductInEstimate(target, randomUserLine(), user.getId());
+                    default -> userEstimateService.removeProductFromEstimate(target, user.getId());
+                }
+            } catch (RuntimeException e) {
+                // 이미 삭제된 부품 교체 / 재시도 한도 초과는 정상적인 거절 (총액에는 영향 없어야 함)
+                if (!isExpectedRejection(e)) {
+                    throw e;
+                }
+                conflicts.incrementAndGet();
+            }
+        });
+
+        assertEquals(lineSum(estimateId), totalOf(estimateId),
+            "total drifted from line items (rejected ops = " + conflicts.get() + ")");
+    }
+
+    @Test
+    void aiEstimateTotalStaysExactUnderParallelEdits() throws Exception {
+        Long estimateId = aiEstimateRepository.save(AiEstimate.builder()
+            .user(user)
+            .intent("build")
+            .totalPrice(0L)
+            .products(new ArrayList<>())
+            .createdAt(LocalDateTime.now())
+            .build()).getId();
+
+        List<Long> lineIds = new CopyOnWriteArrayList<>();
+        runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (lineIds.size() < 8 || random.nextBoolean()) {
+                AiEstimateProductResponse res = aiEstimateService.addProductToEstimate(estimateId, randomAiLine(), user.getId());
+                lineIds.add(res.getId());
+            } else {
+                Long target = lineIds.get(random.nextInt(Math.min(lineIds.size(), 16)));
+                try {
+                    aiEstimateService.removeProductFromEstimate(estimateId, target, user.getId());
+                } catch (RuntimeException e) {
+                    // 다른 스레드가 먼저 삭제
+                    if (!"Product not found".equals(e.getMessage())) {
+                        throw e;
+                    }
+                }
+            }
+        });
+
+        long lineSum = aiComponentSetItemRepository.findByEstimateId(estimateId).stream()
+            .mapToLong(AiComponentSetItem::getPrice)
+            .sum();
+        long total = aiEstimateRepository.findById(estimateId).map(AiEstimate::getTotalPrice).orElseThrow();
+        assertEquals(lineSum, total);
+    }
+
+    /** THREADS 개 스레드가 동시에 출발해 각자 OPS_PER_THREAD 번 실행 */
+    private void runConcurrently(Runnable op) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPS_PER_THREAD; i++) {
+                        op.run();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private UserEstimateProductRequest randomUserLine() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UserEstimateProductRequest req = new UserEstimateProductRequest();
+        req.setProductId(products.get(random.nextInt(products.size())).getId());
+        req.setCategory("cpu");
+        req.setQuantity(1 + random.nextInt(3));
+        return req;
+    }
+
+    private AiEstimateProductRequest randomAiLine() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Product product = products.get(random.nextInt(products.size()));
+        AiEstimateProductRequest req = new AiEstimateProductRequest();
+        req.setCategory(product.getCategory());
+        req.setName(product.getName());
+        req.setPrice(product.getPrice());
+        req.setImage("stress.png");
+        return req;
+    }
+
+    private long lineSum(String estimateId) {
+        return userEstimateProductRepository.findByUserEstimateId(estimateId).stream()
+            .mapToLong(UserEstimateProduct::getTotalPrice)
+            .sum();
+    }
+
+    private long totalOf(String estimateId) {
+        return userEstimateRepository.findById(estimateId).map(UserEstimate::getTotalPrice).orElseThrow();
+    }
+
+    private static boolean isExpectedRejection(RuntimeException e) {
+        String message = e.getMessage();
+        return CONFLICT_MESSAGE.equals(message)
+            || "견적에 포함된 부품이 없습니다.".equals(message)
+            || "Estimate product not found".equals(message);
+    }
+}